@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.imsweb.mph.MphGroup;
+import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphOutput;
+import com.imsweb.mph.MphUtils;
+import com.imsweb.mph.internal.CsvUtils;
+
+/**
+ * Benchmarks evaluating the pairs of the "mph-testing-2000-2022.csv.gz" dataset (10,000 pairs with their expected result).
+ * <br/><br/>
+ * Every benchmark goes through the entire dataset and reports its score per pair (the hemato benchmarks report it per pass over the hemato pairs); the evaluation benchmarks return the number of
+ * results that are different from the expected column. Some of the expected results predate the latest rule updates, so that number is not zero; it is
+ * reported once when the dataset is loaded and it should never change between two runs of the same library version.
+ * <br/><br/>
+ * Run them with "gradlew jmh"; JMH options can be provided with the "jmhArgs" property, for example: gradlew jmh -PjmhArgs="-f 1 computePrimaries"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class MphBenchmark {
+
+    private static final String _DATASET = "mph-testing-2000-2022.csv.gz";
+
+    // the number of pairs in the dataset, needed by OperationsPerInvocation
+    private static final int _NUM_PAIRS = 10000;
+
+    @State(Scope.Benchmark)
+    public static class Dataset {
+
+        MphUtils _utils;
+
+        MphInput[] _inputs1;
+
+        MphInput[] _inputs2;
+
+        String[] _expectedResults;
+
+        // the diagnosis years of the first tumors, -1 if not a valid year
+        int[] _groupYears;
+
+        // the hemato morphologies (histology/behavior) and years of the pairs where both tumors are hematopoietic
+        String[] _morphs1;
+
+        String[] _morphs2;
+
+        int[] _years1;
+
+        int[] _years2;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            _utils = MphUtils.getInstance();
+
+            List<MphInput> inputs1 = new ArrayList<>(), inputs2 = new ArrayList<>();
+            List<String> expectedResults = new ArrayList<>();
+            InputStream is = MphBenchmark.class.getClassLoader().getResourceAsStream(_DATASET);
+            if (is == null)
+                throw new IllegalStateException("Unable to find " + _DATASET);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(is), StandardCharsets.US_ASCII))) {
+                reader.readLine(); // skip headers
+                int lineNumber = 1;
+                String line = reader.readLine();
+                while (line != null) {
+                    lineNumber++;
+                    List<String> values = CsvUtils.parseCsvLine(lineNumber, line);
+                    inputs1.add(createInput(values, 0));
+                    inputs2.add(createInput(values, 7));
+                    expectedResults.add(values.get(14));
+                    line = reader.readLine();
+                }
+            }
+            if (inputs1.size() != _NUM_PAIRS)
+                throw new IllegalStateException("Expected " + _NUM_PAIRS + " pairs, got " + inputs1.size());
+            _inputs1 = inputs1.toArray(new MphInput[0]);
+            _inputs2 = inputs2.toArray(new MphInput[0]);
+            _expectedResults = expectedResults.toArray(new String[0]);
+
+            _groupYears = new int[_NUM_PAIRS];
+            for (int i = 0; i < _NUM_PAIRS; i++) {
+                String year = _inputs1[i].getDateOfDiagnosisYear();
+                _groupYears[i] = year != null && year.matches("\\d{4}") ? Integer.parseInt(year) : -1;
+            }
+
+            List<String> morphs1 = new ArrayList<>(), morphs2 = new ArrayList<>();
+            List<Integer> years1 = new ArrayList<>(), years2 = new ArrayList<>();
+            for (int i = 0; i < _NUM_PAIRS; i++) {
+                if (isHematopoietic(_inputs1[i]) && isHematopoietic(_inputs2[i])) {
+                    morphs1.add(_inputs1[i].getIcdCode());
+                    morphs2.add(_inputs2[i].getIcdCode());
+                    years1.add(Integer.valueOf(_inputs1[i].getDateOfDiagnosisYear()));
+                    years2.add(Integer.valueOf(_inputs2[i].getDateOfDiagnosisYear()));
+                }
+            }
+            _morphs1 = morphs1.toArray(new String[0]);
+            _morphs2 = morphs2.toArray(new String[0]);
+            _years1 = years1.stream().mapToInt(Integer::intValue).toArray();
+            _years2 = years2.stream().mapToInt(Integer::intValue).toArray();
+
+            int mismatches = 0;
+            for (int i = 0; i < _NUM_PAIRS; i++)
+                if (!_utils.computePrimaries(_inputs1[i], _inputs2[i]).getResult().name().equals(_expectedResults[i]))
+                    mismatches++;
+            System.out.println();
+            System.out.println(mismatches + " out of " + _NUM_PAIRS + " results are different from the expected column; " + _morphs1.length + " hemato pairs");
+        }
+
+        private static MphInput createInput(List<String> values, int offset) {
+            MphInput input = new MphInput();
+            input.setDateOfDiagnosisYear(values.get(offset));
+            input.setDateOfDiagnosisMonth(values.get(offset + 1));
+            input.setDateOfDiagnosisDay(values.get(offset + 2));
+            input.setPrimarySite(values.get(offset + 3));
+            input.setHistologyIcdO3(values.get(offset + 4));
+            input.setBehaviorIcdO3(values.get(offset + 5));
+            input.setLaterality(values.get(offset + 6));
+            input.setHistologyIcdO2(values.get(offset + 4));
+            input.setBehaviorIcdO2(values.get(offset + 5));
+            return input;
+        }
+
+        private static boolean isHematopoietic(MphInput input) {
+            String histology = input.getHistology();
+            String year = input.getDateOfDiagnosisYear();
+            return histology != null && histology.matches("9[5-9]\\d\\d") && year != null && year.matches("\\d{4}");
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int computePrimaries(Dataset dataset) {
+        return runComputePrimaries(dataset);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int computePrimariesMultiThreaded(Dataset dataset) {
+        return runComputePrimaries(dataset);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int computeResult(Dataset dataset) {
+        return runComputeResult(dataset);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int computeResultMultiThreaded(Dataset dataset) {
+        return runComputeResult(dataset);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int findCancerGroup(Dataset dataset) {
+        return runFindCancerGroup(dataset);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(_NUM_PAIRS)
+    public int findCancerGroupMultiThreaded(Dataset dataset) {
+        return runFindCancerGroup(dataset);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int hematoLookups(Dataset dataset) {
+        return runHematoLookups(dataset);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int hematoLookupsMultiThreaded(Dataset dataset) {
+        return runHematoLookups(dataset);
+    }
+
+    private static int runComputePrimaries(Dataset dataset) {
+        int mismatches = 0;
+        for (int i = 0; i < _NUM_PAIRS; i++)
+            if (!dataset._utils.computePrimaries(dataset._inputs1[i], dataset._inputs2[i]).getResult().name().equals(dataset._expectedResults[i]))
+                mismatches++;
+        return mismatches;
+    }
+
+    private static int runComputeResult(Dataset dataset) {
+        int mismatches = 0;
+        for (int i = 0; i < _NUM_PAIRS; i++) {
+            MphOutput output = dataset._utils.computeResult(dataset._inputs1[i], dataset._inputs2[i]);
+            if (!output.getResult().name().equals(dataset._expectedResults[i]))
+                mismatches++;
+        }
+        return mismatches;
+    }
+
+    private static int runFindCancerGroup(Dataset dataset) {
+        int found = 0;
+        for (int i = 0; i < _NUM_PAIRS; i++) {
+            if (dataset._groupYears[i] == -1)
+                continue;
+            MphInput input = dataset._inputs1[i];
+            MphGroup group = dataset._utils.findCancerGroup(input.getPrimarySite(), input.getHistology(), input.getBehavior(), dataset._groupYears[i]);
+            if (group != null)
+                found++;
+        }
+        return found;
+    }
+
+    // each hemato pair does one same-primary and one transformation lookup
+    private static int runHematoLookups(Dataset dataset) {
+        int count = 0;
+        for (int i = 0; i < dataset._morphs1.length; i++) {
+            if (dataset._utils.isHematoSamePrimary(dataset._morphs1[i], dataset._morphs2[i], dataset._years1[i], dataset._years2[i]))
+                count++;
+            if (dataset._utils.isTransformation(dataset._morphs1[i], dataset._morphs2[i], dataset._years1[i], dataset._years2[i]))
+                count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.imsweb.mph.internal.BoundedCache;
+import com.imsweb.mph.internal.HematoDTO;
+import com.imsweb.mph.internal.HematoIndex;
+import com.imsweb.mph.internal.HematoSnapshot;
+
+/**
+ * Hemato data provider caching the data of another provider (for example a provider calling a remote service).
+ * <br/><br/>
+ * The rows are looked up in the following tiers:
+ * <ol>
+ * <li>a size-bounded memory cache of the rows of each morphology, evicting the least recently used ones</li>
+ * <li>an optional snapshot file (see writeSnapshot()), memory-mapped when the provider is created and only used if it was written from the same data
+ * (same "last updated" date) as the delegate's; a delegate that doesn't provide that date never uses a snapshot</li>
+ * <li>the delegate provider; concurrent requests for the same rows result in a single call to the delegate</li>
+ * </ol>
+ * The rows read from the snapshot or returned by the delegate are kept in the memory cache. The matches (isSamePrimary(), isTransformTo() and
+ * isTransformFrom()) of the morphologies covered by the snapshot are answered by the snapshot directly, without creating any row.
+ * <br/><br/>
+ * The rows returned by the delegate are expected to be immutable. This class is thread-safe if the delegate is.
+ */
+public final class CachingHematoDataProvider implements HematoDataProvider {
+
+    private enum Table {
+        SAME_PRIMARY, TRANSFORM_TO, TRANSFORM_FROM
+    }
+
+    private final HematoDataProvider _delegate;
+
+    private final BoundedCache<CacheKey, List<HematoDTO>> _cache;
+
+    // the snapshot tier, null if there is none
+    private final HematoSnapshot _snapshot;
+
+    // the loads in progress, used to make concurrent requests for the same rows wait for a single load (and a single delegate call)
+    private final ConcurrentMap<CacheKey, CompletableFuture<List<HematoDTO>>> _pendingCalls = new ConcurrentHashMap<>();
+
+    private final LongAdder _snapshotHits = new LongAdder();
+
+    private final LongAdder _delegateCalls = new LongAdder();
+
+    /**
+     * Constructor
+     * @param delegate the provider of the data, required
+     * @param maximumSize the maximum number of cached row lists, must be positive
+     */
+    public CachingHematoDataProvider(HematoDataProvider delegate, int maximumSize) {
+        this(delegate, maximumSize, null);
+    }
+
+    /**
+     * Constructor
+     * @param delegate the provider of the data, required
+     * @param maximumSize the maximum number of cached row lists, must be positive
+     * @param snapshot snapshot file written by writeSnapshot() (or DefaultHematoDataProvider.writeSnapshot()), can be null or not exist
+     */
+    public CachingHematoDataProvider(HematoDataProvider delegate, int maximumSize, Path snapshot) {
+        if (delegate == null)
+            throw new IllegalArgumentException("Delegate provider is required");
+        _delegate = delegate;
+        _cache = new BoundedCache<>(maximumSize);
+
+        // without a "last updated" date, there is no way to know whether the snapshot was written from the current data
+        Date lastUpdated = delegate.getDataLastUpdated();
+        HematoSnapshot data = snapshot != null && lastUpdated != null ? HematoSnapshot.read(snapshot) : null;
+        _snapshot = data != null && data.getLastUpdated().equals(formatLastUpdated(lastUpdated)) ? data : null;
+    }
+
+    public HematoDataProvider getDelegate() {
+        return _delegate;
+    }
+
+    /**
+     * Returns true if the provider uses a snapshot file.
+     */
+    public boolean isUsingSnapshot() {
+        return _snapshot != null;
+    }
+
+    /**
+     * Returns the current statistics of the memory cache (the matches answered by the snapshot are not included).
+     */
+    public MphCacheStatistics getStatistics() {
+        return new MphCacheStatistics(_cache.getHits(), _cache.getMisses(), _cache.getEvictions(), _cache.getSize(), _cache.getMaximumSize());
+    }
+
+    /**
+     * Returns the number of lookups answered by the snapshot (the matches, and the rows loaded in the memory cache).
+     */
+    public long getSnapshotHits() {
+        return _snapshotHits.sum();
+    }
+
+    /**
+     * Returns the number of calls made to the delegate provider.
+     */
+    public long getDelegateCalls() {
+        return _delegateCalls.sum();
+    }
+
+    /**
+     * Removes all the rows from the memory cache.
+     */
+    public void clear() {
+        _cache.clear();
+    }
+
+    /**
+     * Writes the rows of the provided morphologies to a snapshot file that can be used by the next instances of this provider; the file is replaced
+     * atomically if it already exists. The rows are requested through this provider, so they are cached as well.
+     * @param snapshot snapshot file to write
+     * @param morphologies morphologies to write (using the "9999/9" format), the snapshot will only be used for those morphologies
+     * @throws IOException if the file can't be written
+     * @throws IllegalStateException if the delegate doesn't provide a "last updated" date, or if one of the morphologies (or of their rows) doesn't use the
+     * "9999/9" format
+     */
+    public void writeSnapshot(Path snapshot, Collection<String> morphologies) throws IOException {
+        Date lastUpdated = _delegate.getDataLastUpdated();
+        if (lastUpdated == null)
+            throw new IllegalStateException("The delegate provider doesn't provide the date of its data, a snapshot of that data could never be used");
+        Map<String, List<HematoDTO>> samePrimary = new LinkedHashMap<>();
+        Map<String, List<HematoDTO>> transformTo = new LinkedHashMap<>();
+        Map<String, List<HematoDTO>> transformFrom = new LinkedHashMap<>();
+        for (String morphology : morphologies) {
+            samePrimary.put(morphology, getSamePrimary(morphology));
+            transformTo.put(morphology, getTransformTo(morphology));
+            transformFrom.put(morphology, getTransformFrom(morphology));
+        }
+        HematoSnapshot.write(snapshot, formatLastUpdated(lastUpdated), new HematoIndex(samePrimary), new HematoIndex(transformTo),
+                new HematoIndex(transformFrom), morphologies);
+    }
+
+    @Override
+    public List<HematoDTO> getSamePrimary(String morphology) {
+        return getRows(Table.SAME_PRIMARY, morphology);
+    }
+
+    @Override
+    public List<HematoDTO> getTransformTo(String morphology) {
+        return getRows(Table.TRANSFORM_TO, morphology);
+    }
+
+    @Override
+    public List<HematoDTO> getTransformFrom(String morphology) {
+        return getRows(Table.TRANSFORM_FROM, morphology);
+    }
+
+    @Override
+    public boolean isSamePrimary(String morphology, String otherMorphology, int year) {
+        return matches(Table.SAME_PRIMARY, morphology, otherMorphology, year);
+    }
+
+    @Override
+    public boolean isTransformTo(String morphology, String otherMorphology, int year) {
+        return matches(Table.TRANSFORM_TO, morphology, otherMorphology, year);
+    }
+
+    @Override
+    public boolean isTransformFrom(String morphology, String otherMorphology, int year) {
+        return matches(Table.TRANSFORM_FROM, morphology, otherMorphology, year);
+    }
+
+    @Override
+    public Date getDataLastUpdated() {
+        return _delegate.getDataLastUpdated();
+    }
+
+    private boolean matches(Table table, String morphology, String otherMorphology, int year) {
+        if (_snapshot != null && _snapshot.covers(morphology)) {
+            _snapshotHits.increment();
+            return getSnapshotIndex(table).matches(morphology, otherMorphology, year);
+        }
+        for (HematoDTO dto : getRows(table, morphology))
+            if (dto.matches(otherMorphology, year))
+                return true;
+        return false;
+    }
+
+    private HematoIndex getSnapshotIndex(Table table) {
+        switch (table) {
+            case SAME_PRIMARY:
+                return _snapshot.getSamePrimary();
+            case TRANSFORM_TO:
+                return _snapshot.getTransformTo();
+            default:
+                return _snapshot.getTransformFrom();
+        }
+    }
+
+    private List<HematoDTO> getRows(Table table, String morphology) {
+        CacheKey key = new CacheKey(table, morphology);
+        List<HematoDTO> rows = _cache.get(key);
+        if (rows != null)
+            return rows;
+
+        CompletableFuture<List<HematoDTO>> call = new CompletableFuture<>();
+        CompletableFuture<List<HematoDTO>> pendingCall = _pendingCalls.putIfAbsent(key, call);
+        if (pendingCall != null)
+            return waitFor(pendingCall);
+        try {
+            // another thread might have cached the rows between the lookup and the registration of the call
+            rows = _cache.peek(key);
+            if (rows == null) {
+                rows = loadRows(table, morphology);
+                rows = _cache.putIfAbsent(key, rows == null ? Collections.emptyList() : rows);
+            }
+            call.complete(rows);
+            return rows;
+        }
+        catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            _pendingCalls.remove(key, call);
+        }
+    }
+
+    // returns the rows from the snapshot if it covers the morphology, from the delegate otherwise
+    private List<HematoDTO> loadRows(Table table, String morphology) {
+        if (_snapshot != null && _snapshot.covers(morphology)) {
+            _snapshotHits.increment();
+            return getSnapshotIndex(table).getRows(morphology);
+        }
+        _delegateCalls.increment();
+        return callDelegate(table, morphology);
+    }
+
+    private List<HematoDTO> callDelegate(Table table, String morphology) {
+        switch (table) {
+            case SAME_PRIMARY:
+                return _delegate.getSamePrimary(morphology);
+            case TRANSFORM_TO:
+                return _delegate.getTransformTo(morphology);
+            default:
+                return _delegate.getTransformFrom(morphology);
+        }
+    }
+
+    private static List<HematoDTO> waitFor(CompletableFuture<List<HematoDTO>> call) {
+        try {
+            return call.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException)e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error)e.getCause();
+            throw e;
+        }
+    }
+
+    // the "last updated" date is stored in the snapshots using the format of the library's hemato_data_info.properties
+    private static String formatLastUpdated(Date date) {
+        return new SimpleDateFormat("yyyyMMddHHmm").format(date);
+    }
+
+    private static final class CacheKey {
+
+        private final Table _table;
+
+        private final String _morphology;
+
+        CacheKey(Table table, String morphology) {
+            _table = table;
+            _morphology = morphology;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CacheKey))
+                return false;
+            CacheKey other = (CacheKey)o;
+            return _table == other._table && Objects.equals(_morphology, other._morphology);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * _table.ordinal() + Objects.hashCode(_morphology);
+        }
+    }
+}
@@ -5,60 +5,125 @@ package com.imsweb.mph;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 
 import com.imsweb.mph.internal.CsvUtils;
 import com.imsweb.mph.internal.HematoDTO;
+import com.imsweb.mph.internal.HematoIndex;
+import com.imsweb.mph.internal.HematoSnapshot;
 
 /**
  * This is a default hemato db data provider which uses seer-api to get same primary, transform to or transform from data from
  * hematopoietic and lymphoid neoplasm database.
+ * <br/><br/>
+ * The data is read from the CSV files included in the library. It can also be written to a binary snapshot file (see writeSnapshot()); a provider created
+ * with that file memory-maps it instead of parsing the CSV files, which makes its creation almost instantaneous and lets the JVMs of a same host share the
+ * memory of the data. The CSV files are used if the snapshot doesn't exist, is invalid or doesn't correspond to the data of the library.
  */
 public class DefaultHematoDataProvider implements HematoDataProvider {
 
-    private final Map<String, List<HematoDTO>> _samePrimaryDto;
-    private final Map<String, List<HematoDTO>> _transformToDto;
-    private final Map<String, List<HematoDTO>> _transformFromDto;
+    private static final String _SAME_PRIMARY_FILE = "Hematopoietic2010SamePrimaryPairs.csv";
+    private static final String _TRANSFORM_TO_FILE = "Hematopoietic2010TransformToPairs.csv";
+    private static final String _TRANSFORM_FROM_FILE = "Hematopoietic2010TransformFromPairs.csv";
+
+    private final HematoIndex _samePrimary;
+    private final HematoIndex _transformTo;
+    private final HematoIndex _transformFrom;
 
     public DefaultHematoDataProvider() {
-        _samePrimaryDto = CsvUtils.parseHematoCsvFile("Hematopoietic2010SamePrimaryPairs.csv");
-        _transformToDto = CsvUtils.parseHematoCsvFile("Hematopoietic2010TransformToPairs.csv");
-        _transformFromDto = CsvUtils.parseHematoCsvFile("Hematopoietic2010TransformFromPairs.csv");
+        this(null);
+    }
+
+    /**
+     * Creates a provider using the provided snapshot file (see writeSnapshot()); the CSV files are used if the snapshot can't be used.
+     * @param snapshot snapshot file, can be null
+     */
+    public DefaultHematoDataProvider(Path snapshot) {
+        HematoSnapshot data = snapshot != null ? HematoSnapshot.read(snapshot) : null;
+        if (data != null && data.coversAll() && data.getLastUpdated().equals(readLastUpdatedQuietly())) {
+            _samePrimary = data.getSamePrimary();
+            _transformTo = data.getTransformTo();
+            _transformFrom = data.getTransformFrom();
+        }
+        else {
+            _samePrimary = new HematoIndex(CsvUtils.parseHematoCsvFile(_SAME_PRIMARY_FILE));
+            _transformTo = new HematoIndex(CsvUtils.parseHematoCsvFile(_TRANSFORM_TO_FILE));
+            _transformFrom = new HematoIndex(CsvUtils.parseHematoCsvFile(_TRANSFORM_FROM_FILE));
+        }
+    }
+
+    /**
+     * Writes the data of the CSV files included in the library to a binary snapshot file; the file is replaced atomically if it already exists.
+     * @param snapshot snapshot file to write
+     * @throws IOException if the file can't be written
+     */
+    public static void writeSnapshot(Path snapshot) throws IOException {
+        HematoSnapshot.write(snapshot, readLastUpdated(), new HematoIndex(CsvUtils.parseHematoCsvFile(_SAME_PRIMARY_FILE)),
+                new HematoIndex(CsvUtils.parseHematoCsvFile(_TRANSFORM_TO_FILE)), new HematoIndex(CsvUtils.parseHematoCsvFile(_TRANSFORM_FROM_FILE)), null);
     }
 
     @Override
     public List<HematoDTO> getSamePrimary(String morphology) {
-        return _samePrimaryDto.getOrDefault(morphology, Collections.emptyList());
+        return _samePrimary.getRows(morphology);
     }
 
     @Override
     public List<HematoDTO> getTransformTo(String morphology) {
-        return _transformToDto.getOrDefault(morphology, Collections.emptyList());
+        return _transformTo.getRows(morphology);
     }
 
     @Override
     public List<HematoDTO> getTransformFrom(String morphology) {
-        return _transformFromDto.getOrDefault(morphology, Collections.emptyList());
+        return _transformFrom.getRows(morphology);
+    }
+
+    @Override
+    public boolean isSamePrimary(String morphology, String otherMorphology, int year) {
+        return _samePrimary.matches(morphology, otherMorphology, year);
+    }
+
+    @Override
+    public boolean isTransformTo(String morphology, String otherMorphology, int year) {
+        return _transformTo.matches(morphology, otherMorphology, year);
+    }
+
+    @Override
+    public boolean isTransformFrom(String morphology, String otherMorphology, int year) {
+        return _transformFrom.matches(morphology, otherMorphology, year);
     }
 
     @Override
     public Date getDataLastUpdated() {
+        try {
+            return new SimpleDateFormat("yyyyMMddHHmm").parse(readLastUpdated());
+        }
+        catch (IOException | ParseException e) {
+            return null;
+        }
+    }
+
+    // returns null if the info properties can't be read
+    private static String readLastUpdatedQuietly() {
+        try {
+            return readLastUpdated();
+        }
+        catch (IOException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static String readLastUpdated() throws IOException {
         try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream("hemato_data_info.properties")) {
             if (is == null)
                 throw new IllegalStateException("Unable to get info properties");
             Properties prop = new Properties();
             prop.load(is);
-            String lastUpdateDate = prop.getProperty("last_updated");
-            return new SimpleDateFormat("yyyyMMddHHmm").parse(lastUpdateDate);
-        }
-        catch (IOException | ParseException e) {
-            return null;
+            return prop.getProperty("last_updated");
         }
     }
 }
@@ -40,6 +40,34 @@ public interface HematoDataProvider {
      */
     List<HematoDTO> getTransformFrom(String morphology);
 
+    /**
+     * Returns true if one of the same primary rows of the given morphology matches the other morphology for the given year.
+     * <p/>
+     * The default implementation checks the rows returned by getSamePrimary(); providers can override it with a faster lookup.
+     * <p/>
+     * @param morphology morphology of the rows
+     * @param otherMorphology morphology to look for
+     * @param year year the row must apply to
+     * @return true if a row matches, false otherwise
+     */
+    default boolean isSamePrimary(String morphology, String otherMorphology, int year) {
+        return getSamePrimary(morphology).stream().anyMatch(r -> r.matches(otherMorphology, year));
+    }
+
+    /**
+     * Returns true if one of the "transform to" rows of the given morphology matches the other morphology for the given year (see isSamePrimary()).
+     */
+    default boolean isTransformTo(String morphology, String otherMorphology, int year) {
+        return getTransformTo(morphology).stream().anyMatch(r -> r.matches(otherMorphology, year));
+    }
+
+    /**
+     * Returns true if one of the "transform from" rows of the given morphology matches the other morphology for the given year (see isSamePrimary()).
+     */
+    default boolean isTransformFrom(String morphology, String otherMorphology, int year) {
+        return getTransformFrom(morphology).stream().anyMatch(r -> r.matches(otherMorphology, year));
+    }
+
     /**
      * @return the date when the hemato data is last updated
      */
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A batch evaluation of a list of pairs, running on an executor (see MphUtils.submitBatch()).
+ * <br/><br/>
+ * The pairs are split into chunks, each chunk being evaluated by a single task; the outputs are returned in the order of the pairs. Cancelling the job
+ * stops the evaluation of the chunks as soon as possible.
+ */
+public final class MphBatchJob {
+
+    // the number of pairs evaluated by a single task
+    static final int CHUNK_SIZE = 256;
+
+    private final MphUtils _utils;
+
+    // the current year used by all the chunks, so a job running around the new year evaluates all its pairs the same way
+    private final int _currentYear;
+
+    private final List<? extends MphPair> _pairs;
+
+    private final MphBatchListener _listener;
+
+    private final MphOutput[] _outputs;
+
+    private final AtomicInteger _processedPairs = new AtomicInteger();
+
+    // the last number of processed pairs reported to the listener, guarded by the job
+    private int _reportedPairs;
+
+    private final AtomicInteger _remainingChunks;
+
+    private final CompletableFuture<List<MphOutput>> _future = new CompletableFuture<>();
+
+    MphBatchJob(MphUtils utils, List<? extends MphPair> pairs, MphBatchListener listener) {
+        _utils = utils;
+        _currentYear = utils.getCurrentYear();
+        _pairs = pairs;
+        _listener = listener;
+        _outputs = new MphOutput[pairs.size()];
+        _remainingChunks = new AtomicInteger((pairs.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    void start(Executor executor) {
+        if (_pairs.isEmpty()) {
+            _future.complete(Collections.emptyList());
+            return;
+        }
+        for (int start = 0; start < _pairs.size() && !_future.isDone(); start += CHUNK_SIZE) {
+            int chunkStart = start;
+            int chunkEnd = Math.min(start + CHUNK_SIZE, _pairs.size());
+            try {
+                executor.execute(() -> evaluateChunk(chunkStart, chunkEnd));
+            }
+            catch (RejectedExecutionException e) {
+                _future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void evaluateChunk(int start, int end) {
+        try {
+            MphSession session = new MphSession(_utils, _currentYear);
+            for (int i = start; i < end; i++) {
+                if (_future.isDone())
+                    return;
+                MphPair pair = _pairs.get(i);
+                _outputs[i] = session.computePrimaries(pair.getRecord1(), pair.getRecord2());
+            }
+            int processedPairs = _processedPairs.addAndGet(end - start);
+            if (_listener != null)
+                reportProgress(processedPairs);
+        }
+        catch (Throwable e) {
+            // errors are reported too, otherwise the job would never complete
+            _future.completeExceptionally(e);
+            return;
+        }
+        // the decrement happens after the outputs are written, so the thread completing the job sees all of them
+        if (_remainingChunks.decrementAndGet() == 0)
+            _future.complete(Collections.unmodifiableList(Arrays.asList(_outputs)));
+    }
+
+    /**
+     * Notifies the listener of the progress; the notifications are serialized, and the ones that would report fewer pairs than a previous one are skipped.
+     */
+    private synchronized void reportProgress(int processedPairs) {
+        if (processedPairs > _reportedPairs) {
+            _reportedPairs = processedPairs;
+            _listener.batchProgress(processedPairs, _outputs.length);
+        }
+    }
+
+    /**
+     * Returns the number of pairs of the batch.
+     */
+    public int getNumberOfPairs() {
+        return _outputs.length;
+    }
+
+    /**
+     * Returns the number of pairs evaluated so far.
+     */
+    public int getNumberOfProcessedPairs() {
+        return _processedPairs.get();
+    }
+
+    /**
+     * Cancels the job; the chunks being evaluated stop at their next pair, and the ones that haven't started are skipped.
+     * @return true if the job was cancelled, false if it was already done
+     */
+    public boolean cancel() {
+        return _future.cancel(false);
+    }
+
+    public boolean isCancelled() {
+        return _future.isCancelled();
+    }
+
+    /**
+     * Returns true if the job completed normally, failed or was cancelled.
+     */
+    public boolean isDone() {
+        return _future.isDone();
+    }
+
+    /**
+     * Waits for the job to complete and returns the outputs, in the order of the pairs.
+     * @return the outputs
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws ExecutionException if the evaluation of a pair failed
+     * @throws java.util.concurrent.CancellationException if the job was cancelled
+     */
+    public List<MphOutput> get() throws InterruptedException, ExecutionException {
+        return _future.get();
+    }
+
+    /**
+     * Waits at most the provided time for the job to complete and returns the outputs, in the order of the pairs.
+     * @return the outputs
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws ExecutionException if the evaluation of a pair failed
+     * @throws TimeoutException if the job didn't complete in time
+     * @throws java.util.concurrent.CancellationException if the job was cancelled
+     */
+    public List<MphOutput> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return _future.get(timeout, unit);
+    }
+
+    /**
+     * Evaluates the pairs provided by the iterator, passing the outputs to the consumer in the order of the pairs.
+     * <br/><br/>
+     * The pairs are read by the calling thread, one chunk at a time, and only a limited number of chunks are evaluated at the same time, so the pairs and
+     * outputs don't need to fit in memory; the consumer and the listener are called by the calling thread. If the evaluation stops early (because of a
+     * failure or an interruption), the chunks being evaluated stop at their next pair.
+     */
+    static long evaluate(MphUtils utils, Iterator<? extends MphPair> pairs, Executor executor, int maxChunksInFlight, Consumer<? super MphOutput> consumer,
+            MphBatchListener listener) throws InterruptedException, ExecutionException {
+        Deque<CompletableFuture<MphOutput[]>> chunks = new ArrayDeque<>();
+        long processedPairs = 0;
+        int currentYear = utils.getCurrentYear();
+        AtomicBoolean stopped = new AtomicBoolean();
+        try {
+            while (pairs.hasNext() || !chunks.isEmpty()) {
+                while (pairs.hasNext() && chunks.size() < maxChunksInFlight) {
+                    List<MphPair> chunk = new ArrayList<>(CHUNK_SIZE);
+                    while (pairs.hasNext() && chunk.size() < CHUNK_SIZE)
+                        chunk.add(pairs.next());
+                    chunks.add(CompletableFuture.supplyAsync(() -> {
+                        MphSession session = new MphSession(utils, currentYear);
+                        MphOutput[] outputs = new MphOutput[chunk.size()];
+                        for (int i = 0; i < outputs.length; i++) {
+                            if (stopped.get())
+                                throw new CancellationException("Batch evaluation was stopped");
+                            outputs[i] = session.computePrimaries(chunk.get(i).getRecord1(), chunk.get(i).getRecord2());
+                        }
+                        return outputs;
+                    }, executor));
+                }
+                MphOutput[] outputs = chunks.removeFirst().get();
+                for (MphOutput output : outputs)
+                    consumer.accept(output);
+                processedPairs += outputs.length;
+                if (listener != null)
+                    listener.batchProgress(processedPairs, -1);
+            }
+        }
+        finally {
+            // cancelling the futures only skips the chunks that haven't started, the flag stops the ones being evaluated
+            stopped.set(true);
+            for (CompletableFuture<MphOutput[]> chunk : chunks)
+                chunk.cancel(false);
+        }
+        return processedPairs;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+/**
+ * Listener notified of the progress of a batch evaluation.
+ */
+@FunctionalInterface
+public interface MphBatchListener {
+
+    /**
+     * Called every time a chunk of pairs has been evaluated.
+     * <br/><br/>
+     * The calls can come from the different threads evaluating the pairs, but they are never concurrent, and the number of processed pairs never
+     * decreases from one call to the next (a notification that would report fewer pairs than the previous one is skipped).
+     * @param processedPairs the number of pairs evaluated so far
+     * @param totalPairs the total number of pairs, -1 if it is not known (when the pairs are provided by an iterator)
+     */
+    void batchProgress(long processedPairs, long totalPairs);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+/**
+ * Snapshot of the statistics of a cache used by the library.
+ */
+public class MphCacheStatistics {
+
+    // the number of lookups that found a cached value
+    private final long _hits;
+
+    // the number of lookups that didn't find a cached value
+    private final long _misses;
+
+    // the number of values removed from the cache to keep it under its maximum size
+    private final long _evictions;
+
+    // the number of cached values
+    private final int _size;
+
+    // the maximum number of cached values
+    private final int _maximumSize;
+
+    public MphCacheStatistics(long hits, long misses, long evictions, int size, int maximumSize) {
+        _hits = hits;
+        _misses = misses;
+        _evictions = evictions;
+        _size = size;
+        _maximumSize = maximumSize;
+    }
+
+    public long getHits() {
+        return _hits;
+    }
+
+    public long getMisses() {
+        return _misses;
+    }
+
+    public long getEvictions() {
+        return _evictions;
+    }
+
+    public int getSize() {
+        return _size;
+    }
+
+    public int getMaximumSize() {
+        return _maximumSize;
+    }
+
+    /**
+     * Returns the ratio of lookups that found a cached value (0 if there was no lookup).
+     */
+    public double getHitRatio() {
+        long total = _hits + _misses;
+        return total == 0 ? 0 : (double)_hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + _hits + ", misses=" + _misses + ", evictions=" + _evictions + ", size=" + _size + "/" + _maximumSize;
+    }
+}
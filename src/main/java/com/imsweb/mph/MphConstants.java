@@ -9,7 +9,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.imsweb.mph.mpgroups.GroupUtility;
+import com.imsweb.mph.internal.CodeList;
+import com.imsweb.mph.internal.PairedSites;
 
 @SuppressWarnings("java:S2386") //Mutable fields should not be "public static", Sonar's suggestion to make these protected doesn't work
 public final class MphConstants {
@@ -109,33 +110,33 @@ public final class MphConstants {
     public static final String THYROID = "C739";
     public static final String LYMPH_NODE = "C77";
 
-    public static final List<String> PERITONEUM = Collections.unmodifiableList(Arrays.asList("C481", "C482", "C488"));
+    public static final List<String> PERITONEUM = CodeList.of("C481", "C482", "C488");
 
     public static final String FALLOPIAN = "C570";
 
     public static final String VAGINA = "C529";
 
-    public static final List<String> EXACT_MATCH_SITES = Collections.unmodifiableList(Arrays.asList("C18", "C21", "C38", "C40", "C41", "C44", "C47", "C49"));
-    public static final List<String> TONGUE = Collections.unmodifiableList(Arrays.asList("C01", "C02"));
-    public static final List<String> MOUTH = Collections.unmodifiableList(Arrays.asList("C05", "C06"));
-    public static final List<String> SALIVARY = Collections.unmodifiableList(Arrays.asList("C07", "C08"));
-    public static final List<String> OROPHARYNX = Collections.unmodifiableList(Arrays.asList("C09", "C10"));
-    public static final List<String> HYPOPHARYNX = Collections.unmodifiableList(Arrays.asList("C12", "C13"));
-    public static final List<String> BILIARY = Collections.unmodifiableList(Arrays.asList("C23", "C24"));
-    public static final List<String> SINUS = Collections.unmodifiableList(Arrays.asList("C30", "C31"));
-    public static final List<String> LUNG = Collections.unmodifiableList(Arrays.asList("C33", "C34"));
+    public static final List<String> EXACT_MATCH_SITES = CodeList.of("C18", "C21", "C38", "C40", "C41", "C44", "C47", "C49");
+    public static final List<String> TONGUE = CodeList.of("C01", "C02");
+    public static final List<String> MOUTH = CodeList.of("C05", "C06");
+    public static final List<String> SALIVARY = CodeList.of("C07", "C08");
+    public static final List<String> OROPHARYNX = CodeList.of("C09", "C10");
+    public static final List<String> HYPOPHARYNX = CodeList.of("C12", "C13");
+    public static final List<String> BILIARY = CodeList.of("C23", "C24");
+    public static final List<String> SINUS = CodeList.of("C30", "C31");
+    public static final List<String> LUNG = CodeList.of("C33", "C34");
 
     public static final String MEDIASTINUM = "C370-C383,C388";
     public static final String FEMALE_GENITAL = "C510-C529,C577-C579";
     public static final String OVARY_OR_FEMALE_GENITAL = "C569-C574";
 
-    public static final List<String> MALE_GENITAL = Collections.unmodifiableList(Arrays.asList("C60", "C63"));
-    public static final List<String> KIDNEY_OR_URINARY = Collections.unmodifiableList(Arrays.asList("C64", "C65", "C66", "C68"));
-    public static final List<String> ENDOCRINE = Collections.unmodifiableList(Arrays.asList("C74", "C75"));
+    public static final List<String> MALE_GENITAL = CodeList.of("C60", "C63");
+    public static final List<String> KIDNEY_OR_URINARY = CodeList.of("C64", "C65", "C66", "C68");
+    public static final List<String> ENDOCRINE = CodeList.of("C74", "C75");
     public static final List<String> AORTIC_BODY = Collections.singletonList("C755");
     public static final List<String> CAROTIC_BODY = Collections.singletonList("C754");
-    public static final List<String> UPPER_LIP = Collections.unmodifiableList(Arrays.asList("C000", "C003"));
-    public static final List<String> LOWER_LIP = Collections.unmodifiableList(Arrays.asList("C001", "C004"));
+    public static final List<String> UPPER_LIP = CodeList.of("C000", "C003");
+    public static final List<String> LOWER_LIP = CodeList.of("C001", "C004");
     public static final List<String> UPPER_GUM = Collections.singletonList("C030");
     public static final List<String> LOWER_GUM = Collections.singletonList("C031");
     public static final List<String> NASAL_CAVITY = Collections.singletonList("C300");
@@ -149,7 +150,7 @@ public final class MphConstants {
     public static final List<String> ETHMOID_SINUS = Collections.singletonList("C311");
     public static final List<String> FRONTAL_SINUS = Collections.singletonList("C312");
     public static final List<String> SPHENOID_SINUS = Collections.singletonList("C313");
-    public static final List<String> GLOTTIS_AND_LARYNGEAL_SITES = Collections.unmodifiableList(Arrays.asList("C320", "C321", "C322", "C323"));
+    public static final List<String> GLOTTIS_AND_LARYNGEAL_SITES = CodeList.of("C320", "C321", "C322", "C323");
     public static final List<String> MAXILLA = Collections.singletonList("C410");
     public static final List<String> MANDIBLE = Collections.singletonList("C411");
     public static final List<String> POSTCRICOID = Collections.singletonList("C130");
@@ -175,67 +176,67 @@ public final class MphConstants {
     //Histologies
     public static final List<String> ANAPLASTIC_CARCINOMA = Collections.singletonList("8021/3");
 
-    public static final List<String> OTHER_THYROID_HISTOLOGIES = Collections.unmodifiableList(Arrays.asList("8330/3", "8339/3", "8335/3", "8331/3", "8332/3", "8345/3", "8290/3", "8260/3", "8344/3", "8350/3", "8343/3", "8340/3",
-            "8343/2", "8337/3"));
-    public static final List<String> CARCINOMA_NOS = GroupUtility.expandList("8010");
-    public static final List<String> CARCINOMA_SPECIFIC = GroupUtility.expandList(
+    public static final List<String> OTHER_THYROID_HISTOLOGIES = CodeList.of("8330/3", "8339/3", "8335/3", "8331/3", "8332/3", "8345/3", "8290/3", "8260/3", "8344/3", "8350/3", "8343/3", "8340/3",
+            "8343/2", "8337/3");
+    public static final List<String> CARCINOMA_NOS = CodeList.expand("8010");
+    public static final List<String> CARCINOMA_SPECIFIC = CodeList.expand(
             "8000-8005,8011-8015,8020-8022,8030-8035,8041-8046,8050-8052,8070-8078,8080-8084,8090-8098,8102,8110,8120-8124,8130-8131,8140-8148,8150-8157,8160-8162,8170-8175,"
                     + "8180,8190,8200-8201,8210-8211,8214-8215,8220-8221,8230-8231,8240-8247,8249,8250-8256,8260-8263,8270-8272,8280-8281,8290,8300,8310,8312-8319,8320-8323,"
                     + "8330-8333,8335,8337,8340-8347,8350,8370,8380-8384,8390,8400-8403,8407-8410,8413,8420,8430,8440-8442,8450-8453,8460-8462,"
                     + "8470-8473,8480-8482,8490,8500-8504,8507-8508,8510,8512-8514,8520-8525,8530,8540-8543,8550-8551,8560-8562,8570-8576,8580-8586,8588-8589,9070,9100,9110");
-    public static final List<String> NON_SMALL_CELL_CARCINOMA = GroupUtility.expandList("8046");
-    public static final List<String> SPECIFIC_NON_SMALL_CELL_CARCINOMA = GroupUtility.expandList(
+    public static final List<String> NON_SMALL_CELL_CARCINOMA = CodeList.expand("8046");
+    public static final List<String> SPECIFIC_NON_SMALL_CELL_CARCINOMA = CodeList.expand(
             "8012-8014,8022,8031-8033,8052,8070-8073,8082-8084,8123,8140,8200,8230,8250-8255,8260,8310,8333,8430,8470,8480-8481,8490,8550,8560,8972,8980");
-    public static final List<String> SMALL_CELL_CARCINOMA = GroupUtility.expandList("8041-8045");
+    public static final List<String> SMALL_CELL_CARCINOMA = CodeList.expand("8041-8045");
     public static final String INFLAMMATORY_CARCINOMA = "8530";
-    public static final List<String> ADENOCARCINOMA_NOS = GroupUtility.expandList("8140");
+    public static final List<String> ADENOCARCINOMA_NOS = CodeList.expand("8140");
 
-    public static final List<String> ADENOCARCINOMA_PROSTATE_SUBTYPES = Collections.unmodifiableList(Arrays.asList("8140", "8572/3", "8500", "8201/3", "8260/3", "8230/3", "8480/3", "8490/3"));
-    public static final List<String> ADENOCARCINOMA_SPECIFIC = GroupUtility.expandList("8000-8005,8010-8011,8020-8022,8046,8141-8148,8154,8160-8162,8190,"
+    public static final List<String> ADENOCARCINOMA_PROSTATE_SUBTYPES = CodeList.of("8140", "8572/3", "8500", "8201/3", "8260/3", "8230/3", "8480/3", "8490/3");
+    public static final List<String> ADENOCARCINOMA_SPECIFIC = CodeList.expand("8000-8005,8010-8011,8020-8022,8046,8141-8148,8154,8160-8162,8190,"
             + "8200-8201,8210-8211,8214-8215,8220-8221,8230-8231,8244-8245,8250-8255,8260-8263,8270-8272,8280-8281,8290,8300,8310,8312-8320,8322-8323,8330-8333,8335,8337,8350,"
             + "8370,8380-8384,8390,8400-8403,8407-8409,8410,8413,8420,8440-8442,8450-8453,8460-8462,8470-8473,8480-8482,8490,8500-8504,8507-8508,8510,8512-8514,8520-8525,8530,"
             + "8540-8543,8550-8551,8561-8562,8570-8576");
-    public static final List<String> ADENOCARCINOMA_WITH_MIXED_SUBTYPES = GroupUtility.expandList("8255");
-    public static final List<String> BRONCHIOALVEOLAR = GroupUtility.expandList("8250-8254");
-    public static final List<String> MELANOMA_NOS = GroupUtility.expandList("8720");
-    public static final List<String> MELANOMA_SPECIFIC = GroupUtility.expandList("8000-8005,8721-8790");
-    public static final List<String> SARCOMA_NOS = GroupUtility.expandList("8800");
-    public static final List<String> SARCOMA_SPECIFIC = GroupUtility.expandList("8000-8005,8801-8806,8810-8815,8830,8832-8833,8840,8842,8850-8855,8857-8858,8890-8891,"
+    public static final List<String> ADENOCARCINOMA_WITH_MIXED_SUBTYPES = CodeList.expand("8255");
+    public static final List<String> BRONCHIOALVEOLAR = CodeList.expand("8250-8254");
+    public static final List<String> MELANOMA_NOS = CodeList.expand("8720");
+    public static final List<String> MELANOMA_SPECIFIC = CodeList.expand("8000-8005,8721-8790");
+    public static final List<String> SARCOMA_NOS = CodeList.expand("8800");
+    public static final List<String> SARCOMA_SPECIFIC = CodeList.expand("8000-8005,8801-8806,8810-8815,8830,8832-8833,8840,8842,8850-8855,8857-8858,8890-8891,"
             + "8894-8896,8900-8902,8910,8912,8920-8921,8930-8931,8933,8935-8936,8990-8991,9040-9044,9180-9243,9260-9261");
-    public static final List<String> FOLLICULAR = Collections.unmodifiableList(Arrays.asList("8330/3", "8339/3", "8335/3", "8331/3", "8332/3"));
-    public static final List<String> PAPILLARY = Collections.unmodifiableList(Arrays.asList("8260/3", "8344/3", "8350/3", "8343/3", "8340/3"));
+    public static final List<String> FOLLICULAR = CodeList.of("8330/3", "8339/3", "8335/3", "8331/3", "8332/3");
+    public static final List<String> PAPILLARY = CodeList.of("8260/3", "8344/3", "8350/3", "8343/3", "8340/3");
 
     public static final List<String> FOLLICULAR_NOS = Collections.singletonList("8330/3");
     public static final List<String> PAPILLARY_NOS = Collections.singletonList("8260/3");
     public static final String PAPILLARY_CARCINOMA = "8050";
     public static final String KAPOSI_SARCOMA = "9140";
-    public static final List<String> TRANSITIONAL_CELL_CARCINOMA = GroupUtility.expandList("8120-8124");
-    public static final List<String> PAPILLARY_TRANSITIONAL_CELL_CARCINOMA = GroupUtility.expandList("8130-8131");
-    public static final List<String> PAGET_DISEASE = GroupUtility.expandList("8540-8543");
-    public static final List<String> INTRADUCTAL_CARCINOMA = GroupUtility.expandList("8201,8230,8401,8500-8501,8503-8504,8507");
-    public static final List<String> DUCT_CARCINOMA = GroupUtility.expandList("8022,8035,8500-8503,8508");
-    public static final List<String> LOBULAR_CARCINOMA = GroupUtility.expandList("8520,8522,8524");
-    public static final List<String> LYMPHOMA_NOS_AND_NON_HODGKIN_LYMPHOMA = GroupUtility.expandList("9590-9591,9673,9678,9679,9687,9735-9738,9823,9827");
-    public static final List<String> NON_HODGKIN_LYMPHOMA = GroupUtility.expandList("9591,9670-9729");
-    public static final List<String> HODGKIN_LYMPHOMA = GroupUtility.expandList("9650-9653,9655,9659,9663");
-    public static final List<String> POLYP = GroupUtility.expandList("8210-8211,8213,8220-8221,8261-8263");
-    public static final List<String> FAMILLIAL_POLYPOSIS = GroupUtility.expandList("8220-8221");
-    public static final List<String> FAMILIAL_ADENOMATOUS_POLYPOSIS = GroupUtility.expandList("8220");
-    public static final List<String> PTLD = GroupUtility.expandList("9971"); // post-transplant lymphoproliferative disorder
-    public static final List<String> BCELL = GroupUtility.expandList("9671,9673,9678-9680,9687-9691,9695,9698,9699");
-    public static final List<String> TCELL = GroupUtility.expandList("9702,9705,9708,9709,9716-9719,9724,9726,9827,9831,9834,9837");
-    public static final List<String> PLASMACYTOMA = GroupUtility.expandList("9731-9732,9734");
-    public static final List<String> MAST_CELL_SARCOMA = GroupUtility.expandList("9740");
-    public static final List<String> MAST_CELL_LEUKEMIA = GroupUtility.expandList("9742");
-    public static final List<String> MYELOID_SARCOMA = GroupUtility.expandList("9930");
-    public static final List<String> MYELOID_LEUKEMIA = GroupUtility.expandList("9840,9861,9865-9867,9869-9874,9891,9895-9898,9910-9911,9931");
-    public static final List<String> RETINO_BLASTOMA = GroupUtility.expandList("9510-9513");
+    public static final List<String> TRANSITIONAL_CELL_CARCINOMA = CodeList.expand("8120-8124");
+    public static final List<String> PAPILLARY_TRANSITIONAL_CELL_CARCINOMA = CodeList.expand("8130-8131");
+    public static final List<String> PAGET_DISEASE = CodeList.expand("8540-8543");
+    public static final List<String> INTRADUCTAL_CARCINOMA = CodeList.expand("8201,8230,8401,8500-8501,8503-8504,8507");
+    public static final List<String> DUCT_CARCINOMA = CodeList.expand("8022,8035,8500-8503,8508");
+    public static final List<String> LOBULAR_CARCINOMA = CodeList.expand("8520,8522,8524");
+    public static final List<String> LYMPHOMA_NOS_AND_NON_HODGKIN_LYMPHOMA = CodeList.expand("9590-9591,9673,9678,9679,9687,9735-9738,9823,9827");
+    public static final List<String> NON_HODGKIN_LYMPHOMA = CodeList.expand("9591,9670-9729");
+    public static final List<String> HODGKIN_LYMPHOMA = CodeList.expand("9650-9653,9655,9659,9663");
+    public static final List<String> POLYP = CodeList.expand("8210-8211,8213,8220-8221,8261-8263");
+    public static final List<String> FAMILLIAL_POLYPOSIS = CodeList.expand("8220-8221");
+    public static final List<String> FAMILIAL_ADENOMATOUS_POLYPOSIS = CodeList.expand("8220");
+    public static final List<String> PTLD = CodeList.expand("9971"); // post-transplant lymphoproliferative disorder
+    public static final List<String> BCELL = CodeList.expand("9671,9673,9678-9680,9687-9691,9695,9698,9699");
+    public static final List<String> TCELL = CodeList.expand("9702,9705,9708,9709,9716-9719,9724,9726,9827,9831,9834,9837");
+    public static final List<String> PLASMACYTOMA = CodeList.expand("9731-9732,9734");
+    public static final List<String> MAST_CELL_SARCOMA = CodeList.expand("9740");
+    public static final List<String> MAST_CELL_LEUKEMIA = CodeList.expand("9742");
+    public static final List<String> MYELOID_SARCOMA = CodeList.expand("9930");
+    public static final List<String> MYELOID_LEUKEMIA = CodeList.expand("9840,9861,9865-9867,9869-9874,9891,9895-9898,9910-9911,9931");
+    public static final List<String> RETINO_BLASTOMA = CodeList.expand("9510-9513");
     public static final String WILMS = "8960";
-    public static final List<String> SPECIFIC_RENAL_CELL_HISTOLOGIES = GroupUtility.expandList("8260,8310,8316-8320,8510,8959");
+    public static final List<String> SPECIFIC_RENAL_CELL_HISTOLOGIES = CodeList.expand("8260,8310,8316-8320,8510,8959");
     public static final String GLIOBLASTOMA_NOS_AND_MULTIFORME = "9440";
-    public static final List<String> GLIAL_TUMOR = GroupUtility.expandList("9380-9382,9400-9401,9410-9411,9420-9421,9423-9424,9430,9440-9442");
-    public static final List<String> UROTHELIAL = GroupUtility.expandList("8120,8130,8131,8082,8122,8031,8020");
-    public static final List<String> GLIAL_TUMOR_2018 = GroupUtility.expandList("9380,9385,9391,9392,9393,9396,9400,9401,9411,9424,9430,9440,9441,9442,9445,9450,9451");
+    public static final List<String> GLIAL_TUMOR = CodeList.expand("9380-9382,9400-9401,9410-9411,9420-9421,9423-9424,9430,9440-9442");
+    public static final List<String> UROTHELIAL = CodeList.expand("8120,8130,8131,8082,8122,8031,8020");
+    public static final List<String> GLIAL_TUMOR_2018 = CodeList.expand("9380,9385,9391,9392,9393,9396,9400,9401,9411,9424,9430,9440,9441,9442,9445,9450,9451");
     public static final String MALT = "9699/3";
 
     //Histology Charts
@@ -243,13 +244,13 @@ public final class MphConstants {
 
     static {
         Map<String, List<String>> content = new HashMap<>();
-        content.put("8000", GroupUtility.expandList("8001-9999")); //Cancer/malignant neoplasm, NOS
-        content.put("8010", GroupUtility.expandList("8011-8015")); //Carcinoma, NOS
-        content.put("8140", GroupUtility.expandList("8141-8145,8147-8148")); //Adenocarcinoma, NOS
-        content.put("8070", GroupUtility.expandList("8071-8078,8080-8084")); //Squamous cell carcinoma, NOS
-        content.put("8720", GroupUtility.expandList("8721-8723,8726,8728,8730,8740,8741-8746,8761,8770-8774,8780")); //Melanoma, NOS
-        content.put("8800", GroupUtility.expandList("8801-8806")); //Sarcoma, NOS
-        content.put("8312", GroupUtility.expandList("8313-8320")); //Renal cell carcinoma, NOS
+        content.put("8000", CodeList.expand("8001-9999")); //Cancer/malignant neoplasm, NOS
+        content.put("8010", CodeList.expand("8011-8015")); //Carcinoma, NOS
+        content.put("8140", CodeList.expand("8141-8145,8147-8148")); //Adenocarcinoma, NOS
+        content.put("8070", CodeList.expand("8071-8078,8080-8084")); //Squamous cell carcinoma, NOS
+        content.put("8720", CodeList.expand("8721-8723,8726,8728,8730,8740,8741-8746,8761,8770-8774,8780")); //Melanoma, NOS
+        content.put("8800", CodeList.expand("8801-8806")); //Sarcoma, NOS
+        content.put("8312", CodeList.expand("8313-8320")); //Renal cell carcinoma, NOS
         NOS_VS_SPECIFIC = Collections.unmodifiableMap(content);
     }
 
@@ -394,14 +395,14 @@ public final class MphConstants {
     //--------------------------------------------------------------------------------------------------------------------------------------
     // See Breast 2019 AS OF date at top of this file.
 
-    public static final List<String> BREAST_NST_DUCT_CARCINOMA_2018 = GroupUtility.expandList("8500/2,8500/3,8035/3,8201/3,8022/3");
-    public static final List<String> BREAST_LOBULAR_CARCINOMA_2018 = GroupUtility.expandList("8520/2,8519/2,8520/3");
-    public static final List<String> BREAST_DUCT_2018 = GroupUtility.expandList("8500/2,8500/3,8035/3,8520/2,8519/2,8520/3");
-    public static final List<String> BREAST_LOBULAR_2018 = GroupUtility.expandList("8522/3,8522/2");
+    public static final List<String> BREAST_NST_DUCT_CARCINOMA_2018 = CodeList.expand("8500/2,8500/3,8035/3,8201/3,8022/3");
+    public static final List<String> BREAST_LOBULAR_CARCINOMA_2018 = CodeList.expand("8520/2,8519/2,8520/3");
+    public static final List<String> BREAST_DUCT_2018 = CodeList.expand("8500/2,8500/3,8035/3,8520/2,8519/2,8520/3");
+    public static final List<String> BREAST_LOBULAR_2018 = CodeList.expand("8522/3,8522/2");
 
 
 
-    public static final List<String> BREAST_2018_TABLE2 = Collections.unmodifiableList(Arrays.asList("8500", "8520", "8522", "8540", "8519/2", "8523", "8524", "8575", "8543", "8541/3", "8255/3"));
+    public static final List<String> BREAST_2018_TABLE2 = CodeList.of("8500", "8520", "8522", "8540", "8519/2", "8523", "8524", "8575", "8543", "8541/3", "8255/3");
 
 
 
@@ -521,9 +522,9 @@ public final class MphConstants {
     //--------------------------------------------------------------------------------------------------------------------------------------
     // See Colon 2019 AS OF date at top of this file.
 
-    public static final List<String> COLON_2018_TABLE1_SUBTYPES = Collections.unmodifiableList(Arrays.asList(
+    public static final List<String> COLON_2018_TABLE1_SUBTYPES = CodeList.of(
             "8200", "8201", "8145", "8142/3", "8510", "8265", "8480", "8430", "8213", "8490", "8143", "8263", "8020",
-            "8243", "8013", "8041", "8241", "8249", "8156", "9120/3", "8890/3"));
+            "8243", "8013", "8041", "8241", "8249", "8156", "9120/3", "8890/3");
 
     public static final Map<String, String> COLON_2018_TABLE1_ROWS;
 
@@ -640,12 +641,11 @@ public final class MphConstants {
     //--------------------------------------------------------------------------------------------------------------------------------------
     // See Urinary 2019 AS OF date at top of this file.
 
-    public static final List<String> URINARY_2018_URINARY_SITES = Collections.unmodifiableList(
-            Arrays.asList("C659", "C669", "C670", "C671", "C672", "C673", "C674", "C675", "C676", "C677", "C678", "C679", "C680"));
+    public static final List<String> URINARY_2018_URINARY_SITES = CodeList.of("C659", "C669", "C670", "C671", "C672", "C673", "C674", "C675", "C676", "C677", "C678", "C679", "C680");
 
-    public static final List<String> URINARY_2018_UROTHELIAL_CARCINOMAS = Collections.unmodifiableList(Arrays.asList("8120", "8031", "8082", "8130", "8131", "8020", "8122"));
+    public static final List<String> URINARY_2018_UROTHELIAL_CARCINOMAS = CodeList.of("8120", "8031", "8082", "8130", "8131", "8020", "8122");
 
-    public static final List<String> URINARY_2018_UROTHELIAL_CARCINOMAS_EXCLUDE_MICROPAPILLARY = Collections.unmodifiableList(Arrays.asList("8120", "8031", "8082", "8130", "8020", "8122"));
+    public static final List<String> URINARY_2018_UROTHELIAL_CARCINOMAS_EXCLUDE_MICROPAPILLARY = CodeList.of("8120", "8031", "8082", "8130", "8020", "8122");
 
     public static final Map<String, String> URINARY_2018_TABLE2_SUBTYPES;
 
@@ -724,7 +724,7 @@ public final class MphConstants {
     // Lung
     //--------------------------------------------------------------------------------------------------------------------------------------
     // See Lung 2019 AS OF date at top of this file.
-    public static final List<String> LUNG_2018_TABLE2 = Collections.unmodifiableList(Arrays.asList("8560", "8033", "8562", "8013", "8254/3", "8045", "8072", "8073", "8070", "8074", "8255/3"));
+    public static final List<String> LUNG_2018_TABLE2 = CodeList.of("8560", "8033", "8562", "8013", "8254/3", "8045", "8072", "8073", "8070", "8074", "8255/3");
 
     public static final Map<String, String> LUNG_2018_TABLE3_SUBTYPES;
 
@@ -830,17 +830,17 @@ public final class MphConstants {
     public static final String MALIGNANT_CNS_2018_MENINGES_OF_CRANIAL_OR_PERIPH_NERVES_SITES = "C709";
     public static final String NON_MALIGNANT_CNS_2018_MENINGES_OF_CRANIAL_OR_PERIPH_NERVES_SITES = "C700";
 
-    public static final List<String> CNS_2018_MENINGIOMAS = Collections.unmodifiableList(Arrays.asList(
-            "9530/0", "9534/0", "9539/1", "9538/1", "9532/0", "9531/0", "9537/0"));
+    public static final List<String> CNS_2018_MENINGIOMAS = CodeList.of(
+            "9530/0", "9534/0", "9539/1", "9538/1", "9532/0", "9531/0", "9537/0");
 
     //--------------------------------------------------------------------------------------------------------------------------------------
     // Non-Malignant CNS
     //--------------------------------------------------------------------------------------------------------------------------------------
     // See Non-Malignant CNS 2019 AS OF date at top of this file.
 
-    public static final List<String> NON_MALIGNANT_CNS_2018_TABLE6_SUBTYPES = Collections.unmodifiableList(Arrays.asList(
+    public static final List<String> NON_MALIGNANT_CNS_2018_TABLE6_SUBTYPES = CodeList.of(
             "9390/1", "9351/1", "9352/1", "9431/1", "9493/0", "9121/0", "9122/0", "8880/0", "8728/1", "9534/0", "9539/1", "9538/1", "9532/0", "9531/0", "9533/0", "9537/0",
-            "8825/1", "9550/0", "9560/1"));
+            "8825/1", "9550/0", "9560/1");
 
     public static final Map<String, String> NON_MALIGNANT_CNS_2018_TABLE6_ROWS;
     public static final Map<String, String> NON_MALIGNANT_CNS_2023_TABLE6_ROWS;
@@ -1039,28 +1039,28 @@ public final class MphConstants {
     // See Head and Neck 2018 AS OF date at top of this file.
 
     //Changes made to this list per Sewbesew's request and Suzanne's approval
-    public static final List<String> HEAD_AND_NECK_2018_PAIRED_SITES = Collections.unmodifiableList(Arrays.asList("C079", "C080,C081", "C098,C099", "C301", "C310,C312", "C754"));
+    public static final List<String> HEAD_AND_NECK_2018_PAIRED_SITES = PairedSites.of("C079", "C080,C081", "C098,C099", "C301", "C310,C312", "C754");
 
-    private static final List<String> HEAD_AND_NECK_2018_TABLE1_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C300", "C310", "C311", "C312", "C313", "C318", "C319"));
-    private static final List<String> HEAD_AND_NECK_2018_TABLE2_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C110", "C112", "C113", "C118", "C119"));
-    public static final List<String> HEAD_AND_NECK_2018_TABLE3_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C129", "C130", "C131", "C132", "C138", "C139", "C320", "C321", "C322", "C323", "C328", "C329", "C339"));
+    private static final List<String> HEAD_AND_NECK_2018_TABLE1_SITES = CodeList.of(
+            "C300", "C310", "C311", "C312", "C313", "C318", "C319");
+    private static final List<String> HEAD_AND_NECK_2018_TABLE2_SITES = CodeList.of(
+            "C110", "C112", "C113", "C118", "C119");
+    public static final List<String> HEAD_AND_NECK_2018_TABLE3_SITES = CodeList.of(
+            "C129", "C130", "C131", "C132", "C138", "C139", "C320", "C321", "C322", "C323", "C328", "C329", "C339");
 
-    private static final List<String> HEAD_AND_NECK_2018_TABLE4_SITES = Collections.unmodifiableList(Arrays.asList(
+    private static final List<String> HEAD_AND_NECK_2018_TABLE4_SITES = CodeList.of(
             "C000", "C001", "C002", "C003", "C004", "C005", "C006", "C008", "C009",
             "C020", "C021", "C022", "C023", "C028", "C029",
             "C030", "C031", "C039", "C040", "C041", "C048", "C049",
-            "C050", "C058", "C059", "C060", "C061", "C062", "C068", "C069"));
-    private static final List<String> HEAD_AND_NECK_2018_TABLE5_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C051", "C052", "C100", "C101", "C102", "C103", "C104", "C108", "C109", "C019", "C024", "C090", "C091", "C098", "C099"));
-    private static final List<String> HEAD_AND_NECK_2018_TABLE6_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C079", "C080", "C081", "C088", "C089"));
-    private static final List<String> HEAD_AND_NECK_2018_TABLE7_SITES = Collections.unmodifiableList(Arrays.asList(
-            "C410", "C411"));
+            "C050", "C058", "C059", "C060", "C061", "C062", "C068", "C069");
+    private static final List<String> HEAD_AND_NECK_2018_TABLE5_SITES = CodeList.of(
+            "C051", "C052", "C100", "C101", "C102", "C103", "C104", "C108", "C109", "C019", "C024", "C090", "C091", "C098", "C099");
+    private static final List<String> HEAD_AND_NECK_2018_TABLE6_SITES = CodeList.of(
+            "C079", "C080", "C081", "C088", "C089");
+    private static final List<String> HEAD_AND_NECK_2018_TABLE7_SITES = CodeList.of(
+            "C410", "C411");
     private static final List<String> HEAD_AND_NECK_2018_TABLE8_SITES = Collections.singletonList("C301");
-    public static final List<String> HEAD_AND_NECK_2018_TABLE9_SITES = Collections.unmodifiableList(Arrays.asList("C479", "C754", "C755"));
+    public static final List<String> HEAD_AND_NECK_2018_TABLE9_SITES = CodeList.of("C479", "C754", "C755");
     private static final List<String> HEAD_AND_NECK_2018_TABLEC111_SITES = Collections.singletonList("C111");
 
 
@@ -1488,25 +1488,25 @@ public final class MphConstants {
         CUTANEOUS_MELANOMA_2021_TABLE2_SUBTYPES = Collections.unmodifiableMap(content);
     }
 
-    public static final List<String> CUTANEOUS_MELANOMA_2021_TABLE2_ROWS = Collections.unmodifiableList(Arrays.asList("8720", "8744", "8730", "8722", "8745", "8771", "8742", "8743", "8780", "8761", "8741",
-            "8723", "8770", "8721", "8772/3", "8773", "8774"));
-
-
-    public static final List<String> TESTIS_SITES = Collections.unmodifiableList(Arrays.asList("C620", "C621", "C629"));
-    public static final List<String> ESOPHAGUS_SITES = Collections.unmodifiableList(Arrays.asList("C150", "C151", "C152", "C153", "C154", "C155", "C158", "C159"));
-    public static final List<String> STOMACH_SITES = Collections.unmodifiableList(Arrays.asList("C160", "C161", "C162", "C163", "C164", "C165", "C166", "C168", "C169"));
-    public static final List<String> INTESTINE_SITES = Collections.unmodifiableList(Arrays.asList("C170", "C171", "C172", "C173", "C178", "C179", "C241"));
-    public static final List<String> ANUS_SITES = Collections.unmodifiableList(Arrays.asList("C210", "C211", "C212", "C218"));
-    public static final List<String> LIVER_SITES = Collections.unmodifiableList(Arrays.asList("C220", "C221"));
-    public static final List<String> BLADDER_SITES = Collections.unmodifiableList(Arrays.asList("C239", "C240", "C248", "C249"));
-    public static final List<String> PANCREAS_SITES = Collections.unmodifiableList(Arrays.asList("C250", "C251", "C252", "C253", "C254", "C257", "C258", "C259"));
-    public static final List<String> UTERINE_CORPUS_SITES = Collections.unmodifiableList(Arrays.asList("C540", "C541", "C542", "C543", "C548", "C549", "C559"));
-    public static final List<String> UTERINE_CERVIX_SITES = Collections.unmodifiableList(Arrays.asList("C530", "C531", "C538", "C539"));
-    public static final List<String> VULVA_SITES = Collections.unmodifiableList(Arrays.asList("C510", "C511", "C512", "C518", "C519"));
-    public static final List<String> SOFT_TISSUES_SITES = Collections.unmodifiableList(Arrays.asList("C490", "C491", "C492", "C493", "C494", "C495", "C496", "C498", "C499"));
-    public static final List<String> BONE_SITES = Collections.unmodifiableList(Arrays.asList("C400", "C401", "C402", "C403", "C408", "C409", "C412", "C413", "C414", "C418", "C419"));
+    public static final List<String> CUTANEOUS_MELANOMA_2021_TABLE2_ROWS = CodeList.of("8720", "8744", "8730", "8722", "8745", "8771", "8742", "8743", "8780", "8761", "8741",
+            "8723", "8770", "8721", "8772/3", "8773", "8774");
+
+
+    public static final List<String> TESTIS_SITES = CodeList.of("C620", "C621", "C629");
+    public static final List<String> ESOPHAGUS_SITES = CodeList.of("C150", "C151", "C152", "C153", "C154", "C155", "C158", "C159");
+    public static final List<String> STOMACH_SITES = CodeList.of("C160", "C161", "C162", "C163", "C164", "C165", "C166", "C168", "C169");
+    public static final List<String> INTESTINE_SITES = CodeList.of("C170", "C171", "C172", "C173", "C178", "C179", "C241");
+    public static final List<String> ANUS_SITES = CodeList.of("C210", "C211", "C212", "C218");
+    public static final List<String> LIVER_SITES = CodeList.of("C220", "C221");
+    public static final List<String> BLADDER_SITES = CodeList.of("C239", "C240", "C248", "C249");
+    public static final List<String> PANCREAS_SITES = CodeList.of("C250", "C251", "C252", "C253", "C254", "C257", "C258", "C259");
+    public static final List<String> UTERINE_CORPUS_SITES = CodeList.of("C540", "C541", "C542", "C543", "C548", "C549", "C559");
+    public static final List<String> UTERINE_CERVIX_SITES = CodeList.of("C530", "C531", "C538", "C539");
+    public static final List<String> VULVA_SITES = CodeList.of("C510", "C511", "C512", "C518", "C519");
+    public static final List<String> SOFT_TISSUES_SITES = CodeList.of("C490", "C491", "C492", "C493", "C494", "C495", "C496", "C498", "C499");
+    public static final List<String> BONE_SITES = CodeList.of("C400", "C401", "C402", "C403", "C408", "C409", "C412", "C413", "C414", "C418", "C419");
     public static final String THYMUS = "C379";
-    public static final List<String> PENIS_AND_SCROTUM_SITES = Collections.unmodifiableList(Arrays.asList("C600", "C601", "C602", "C608", "C609", "C630", "C632"));
+    public static final List<String> PENIS_AND_SCROTUM_SITES = CodeList.of("C600", "C601", "C602", "C608", "C609", "C630", "C632");
     public static final Map<String, Map<String, String>> OTHER_SITES_2023_TABLE_ROWS_FOR_SITE;
 
     static {
@@ -2261,7 +2261,7 @@ public final class MphConstants {
         OTHER_SITES_2023_TABLE_ROWS_FOR_SITE = Collections.unmodifiableMap(content);
     }
 
-    public static final List<String> OTHER_SITES_2023_TABLE_2 = Collections.unmodifiableList(Arrays.asList("8045", "8013", "8094", "8552", "8154", "8180", "8244", "8255", "8323", "8340", "8346", "8347", "8560", "8850", "8902", "9085", "9101"));
+    public static final List<String> OTHER_SITES_2023_TABLE_2 = CodeList.of("8045", "8013", "8094", "8552", "8154", "8180", "8244", "8255", "8323", "8340", "8346", "8347", "8560", "8850", "8902", "9085", "9101");
 
     public static final Map<String, Map<String, String>> OTHER_SITES_2023_TABLE_SUBTYPES_FOR_SITE;
 
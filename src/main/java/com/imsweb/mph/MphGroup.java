@@ -3,10 +3,14 @@
  */
 package com.imsweb.mph;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.imsweb.mph.internal.IntervalSet;
 import com.imsweb.mph.internal.Range;
+import com.imsweb.mph.internal.SiteSet;
 import com.imsweb.mph.mpgroups.GroupUtility;
 
 @SuppressWarnings("unused")
@@ -30,17 +34,21 @@ public abstract class MphGroup {
 
     protected List<MphRule> _rules;
 
-    private final List<Range> _siteIncRanges;
+    // the compiled rules, null until the group is frozen
+    private RuleProgram _program;
 
-    private final List<Range> _siteExcRanges;
+    // the compiled inclusions/exclusions, null if they are not defined
+    private final SiteSet _siteIncSet;
 
-    private final List<Range> _histIncRanges;
+    private final SiteSet _siteExcSet;
 
-    private final List<Range> _histExcRanges;
+    private final IntervalSet _histIncSet;
 
-    private final List<Range> _behavIncRanges;
+    private final IntervalSet _histExcSet;
 
-    private final List<Range> _yearIncRanges;
+    private final IntervalSet _behavIncSet;
+
+    private final IntervalSet _yearIncSet;
 
     protected MphGroup(String id, String name, String siteInclusions, String siteExclusions, String histInclusions, String histExclusions, String behavInclusions, String yearInclusions) {
         _id = id;
@@ -53,13 +61,23 @@ public abstract class MphGroup {
         _yearInclusions = yearInclusions;
         _rules = new ArrayList<>();
 
-        // compute the raw inclusions/exclusions into ranges
-        _siteIncRanges = GroupUtility.computeRange(siteInclusions, true);
-        _siteExcRanges = GroupUtility.computeRange(siteExclusions, true);
-        _histIncRanges = GroupUtility.computeRange(histInclusions, false);
-        _histExcRanges = GroupUtility.computeRange(histExclusions, false);
-        _behavIncRanges = GroupUtility.computeRange(behavInclusions, false);
-        _yearIncRanges = GroupUtility.computeRange(yearInclusions, false);
+        // compile the raw inclusions/exclusions into sets
+        _siteIncSet = computeSites(siteInclusions);
+        _siteExcSet = computeSites(siteExclusions);
+        _histIncSet = computeIntervals(histInclusions);
+        _histExcSet = computeIntervals(histExclusions);
+        _behavIncSet = computeIntervals(behavInclusions);
+        _yearIncSet = computeIntervals(yearInclusions);
+    }
+
+    private static SiteSet computeSites(String rawValue) {
+        List<Range> ranges = GroupUtility.computeRange(rawValue, true);
+        return ranges.isEmpty() ? null : SiteSet.of(ranges);
+    }
+
+    private static IntervalSet computeIntervals(String rawValue) {
+        List<Range> ranges = GroupUtility.computeRange(rawValue, false);
+        return ranges.isEmpty() ? null : IntervalSet.of(ranges);
     }
 
     public String getId() {
@@ -98,35 +116,122 @@ public abstract class MphGroup {
         return _rules;
     }
 
+    /**
+     * Makes the rules of this group (and the rules themselves) unmodifiable; called once the group is shared by the MphUtils instances.
+     */
+    void freeze() {
+        _rules = Collections.unmodifiableList(new ArrayList<>(_rules));
+        for (MphRule rule : _rules)
+            rule.freeze();
+        _program = new RuleProgram(_rules);
+    }
+
+    /**
+     * Returns the compiled rules of this group; they are compiled only once if the group is frozen.
+     */
+    RuleProgram getProgram() {
+        return _program != null ? _program : new RuleProgram(_rules);
+    }
+
+    /**
+     * Returns the site ranges (formatted like the inclusions and exclusions) the result of isApplicable depends on.
+     * <br/><br/>
+     * The classification index built by MphUtils assumes the result of isApplicable doesn't change between the boundaries of those ranges,
+     * so groups overriding isApplicable with additional conditions must also override this method. The ranges of the groups taking precedence
+     * over this one are included.
+     */
+    public List<String> getApplicabilitySiteRanges() {
+        List<String> result = nonNullValues(_siteInclusions, _siteExclusions);
+        for (MphGroup group : getGroupsTakingPrecedence())
+            result.addAll(group.getApplicabilitySiteRanges());
+        return result;
+    }
+
+    /**
+     * Returns the histology ranges the result of isApplicable depends on (see getApplicabilitySiteRanges()).
+     */
+    public List<String> getApplicabilityHistologyRanges() {
+        List<String> result = nonNullValues(_histInclusions, _histExclusions);
+        for (MphGroup group : getGroupsTakingPrecedence())
+            result.addAll(group.getApplicabilityHistologyRanges());
+        return result;
+    }
+
+    /**
+     * Returns the year ranges the result of isApplicable depends on (see getApplicabilitySiteRanges()).
+     */
+    public List<String> getApplicabilityYearRanges() {
+        List<String> result = nonNullValues(_yearInclusions);
+        for (MphGroup group : getGroupsTakingPrecedence())
+            result.addAll(group.getApplicabilityYearRanges());
+        return result;
+    }
+
+    private static List<String> nonNullValues(String... values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values)
+            if (value != null)
+                result.add(value);
+        return result;
+    }
+
+    /**
+     * Returns the groups taking precedence over this one: this group is not applicable to the tumors one of those groups is applicable to.
+     * <br/><br/>
+     * This is used by the "other sites" groups, which apply to the solid tumors that don't belong to any of the specific groups; by default there is none.
+     */
+    protected List<MphGroup> getGroupsTakingPrecedence() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns true if this group applies to the provided tumor, validating the diagnosis year against the system clock.
+     * <br/><br/>
+     * The evaluation uses the version taking the current year; the groups adding conditions must override that version.
+     */
     public boolean isApplicable(String primarySite, String histology, String behavior, int year) {
-        if (!GroupUtility.validateProperties(primarySite, histology, behavior, year))
+        return isApplicable(primarySite, histology, behavior, year, LocalDate.now().getYear());
+    }
+
+    /**
+     * Returns true if this group applies to the provided tumor; the diagnosis years after the provided current year are invalid.
+     */
+    public boolean isApplicable(String primarySite, String histology, String behavior, int year, int currentYear) {
+        if (!GroupUtility.validateProperties(primarySite, histology, behavior, year, currentYear))
             return false;
 
         //Check behavior and diagnosis year
-        if (!GroupUtility.isContained(_behavIncRanges, Integer.parseInt(behavior)) || !GroupUtility.isContained(_yearIncRanges, year))
+        if (_behavIncSet == null || !_behavIncSet.contains(Integer.parseInt(behavior)) || _yearIncSet == null || !_yearIncSet.contains(year))
             return false;
 
         boolean siteOk;
         boolean histOk = false;
 
-        Integer site = Integer.parseInt(primarySite.substring(1));
-        Integer hist = Integer.parseInt(histology);
+        int site = SiteSet.parseSite(primarySite);
+        int hist = Integer.parseInt(histology);
 
         // check site
-        if (_siteIncRanges != null && !_siteIncRanges.isEmpty())
-            siteOk = GroupUtility.isContained(_siteIncRanges, site);
+        if (_siteIncSet != null)
+            siteOk = _siteIncSet.contains(site);
         else
-            siteOk = !GroupUtility.isContained(_siteExcRanges, site);
+            siteOk = _siteExcSet == null || !_siteExcSet.contains(site);
 
         // check histology (only if site matched)
         if (siteOk) {
-            if (_histIncRanges != null && !_histIncRanges.isEmpty())
-                histOk = GroupUtility.isContained(_histIncRanges, hist);
+            if (_histIncSet != null)
+                histOk = _histIncSet.contains(hist);
             else
-                histOk = !GroupUtility.isContained(_histExcRanges, hist);
+                histOk = _histExcSet == null || !_histExcSet.contains(hist);
         }
 
-        return siteOk && histOk;
+        if (!siteOk || !histOk)
+            return false;
+
+        for (MphGroup group : getGroupsTakingPrecedence())
+            if (group.isApplicable(primarySite, histology, behavior, year, currentYear))
+                return false;
+
+        return true;
     }
 
     @Override
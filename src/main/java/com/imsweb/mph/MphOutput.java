@@ -4,6 +4,8 @@
 package com.imsweb.mph;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -26,6 +28,9 @@ public class MphOutput {
     // the applied rules (steps); each rule can be seen as a question, some rule provide a final result while others trigger the next rule to run
     private final List<MphRule> _appliedRules;
 
+    // whether this output is shared (for example by the result cache) and therefore cannot be modified
+    private final boolean _readOnly;
+
     // the ID of set of rule that was applied (rules are encapsulated into groups)
     private String _groupId;
 
@@ -35,8 +40,54 @@ public class MphOutput {
     // the step (rule) that provided the final outcome
     private String _step;
 
+    // the fingerprint of the rules and hemato data used to compute the outcome (see MphUtils.getFingerprint())
+    private String _fingerprint;
+
+    // the date when the hemato data used to compute the outcome was last updated
+    private Date _hematoDataLastUpdated;
+
     public MphOutput() {
         _appliedRules = new ArrayList<>();
+        _readOnly = false;
+    }
+
+    private MphOutput(List<MphRule> appliedRules) {
+        _appliedRules = appliedRules;
+        _readOnly = false;
+    }
+
+    /**
+     * Creates an output that only contains a result, group and step (its applied rules are always empty).
+     */
+    static MphOutput resultOnly() {
+        return new MphOutput(Collections.emptyList());
+    }
+
+    /**
+     * Creates a read-only copy of the provided output.
+     */
+    MphOutput(MphOutput output) {
+        _result = output._result;
+        _reason = output._reason;
+        _appliedRules = Collections.unmodifiableList(new ArrayList<>(output._appliedRules));
+        _groupId = output._groupId;
+        _groupName = output._groupName;
+        _step = output._step;
+        _fingerprint = output._fingerprint;
+        _hematoDataLastUpdated = output._hematoDataLastUpdated;
+        _readOnly = true;
+    }
+
+    /**
+     * Returns true if this output is shared and cannot be modified (the setters throw an UnsupportedOperationException).
+     */
+    public boolean isReadOnly() {
+        return _readOnly;
+    }
+
+    private void checkModifiable() {
+        if (_readOnly)
+            throw new UnsupportedOperationException("This output is shared and cannot be modified");
     }
 
     public MphUtils.MpResult getResult() {
@@ -44,6 +95,7 @@ public class MphOutput {
     }
 
     public void setResult(MphUtils.MpResult result) {
+        checkModifiable();
         _result = result;
     }
 
@@ -52,6 +104,7 @@ public class MphOutput {
     }
 
     public void setReason(String reason) {
+        checkModifiable();
         _reason = reason;
     }
 
@@ -64,6 +117,7 @@ public class MphOutput {
     }
 
     public void setGroupId(String groupId) {
+        checkModifiable();
         _groupId = groupId;
     }
 
@@ -72,6 +126,7 @@ public class MphOutput {
     }
 
     public void setGroupName(String groupName) {
+        checkModifiable();
         _groupName = groupName;
     }
 
@@ -80,6 +135,29 @@ public class MphOutput {
     }
 
     public void setStep(String step) {
+        checkModifiable();
         _step = step;
     }
+
+    /**
+     * Returns the fingerprint of the MphUtils instance that computed this output (see MphUtils.getFingerprint()), null if the output wasn't computed by an instance.
+     */
+    public String getFingerprint() {
+        return _fingerprint;
+    }
+
+    /**
+     * Returns the date when the hemato data used to compute this output was last updated, null if it is unknown.
+     */
+    public Date getHematoDataLastUpdated() {
+        return _hematoDataLastUpdated == null ? null : new Date(_hematoDataLastUpdated.getTime());
+    }
+
+    /**
+     * Sets the information of the instance computing this output; the date is not copied, it must not be modified.
+     */
+    void setEngineInfo(String fingerprint, Date hematoDataLastUpdated) {
+        _fingerprint = fingerprint;
+        _hematoDataLastUpdated = hematoDataLastUpdated;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+/**
+ * A pair of tumors to evaluate, used by the batch evaluation.
+ * <br/><br/>
+ * When a tumor belongs to several pairs, creating the pairs from the same MphRecord avoids parsing and classifying the tumor for every pair.
+ */
+public class MphPair {
+
+    private final MphInput _input1;
+
+    private final MphInput _input2;
+
+    private final MphRecord _record1;
+
+    private final MphRecord _record2;
+
+    public MphPair(MphInput input1, MphInput input2) {
+        _input1 = input1;
+        _input2 = input2;
+        _record1 = null;
+        _record2 = null;
+    }
+
+    public MphPair(MphRecord record1, MphRecord record2) {
+        _input1 = null;
+        _input2 = null;
+        _record1 = record1;
+        _record2 = record2;
+    }
+
+    /**
+     * Returns the first tumor; for a pair created from records, this returns a new copy of the values of the record every time it's called.
+     */
+    public MphInput getInput1() {
+        return _input1 != null ? _input1 : _record1.toInput();
+    }
+
+    /**
+     * Returns the second tumor; for a pair created from records, this returns a new copy of the values of the record every time it's called.
+     */
+    public MphInput getInput2() {
+        return _input2 != null ? _input2 : _record2.toInput();
+    }
+
+    MphRecord getRecord1() {
+        return _record1 != null ? _record1 : MphRecord.of(_input1);
+    }
+
+    MphRecord getRecord2() {
+        return _record2 != null ? _record2 : MphRecord.of(_input2);
+    }
+}
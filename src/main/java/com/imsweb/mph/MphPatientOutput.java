@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class is used to encapsulate the output for the MP evaluation of all the tumors of a patient.
+ * <br/><br/>
+ * It provides the output of every pair of tumors, and the primaries. The tumors are identified by their index in the list provided to the evaluation.
+ * <br/><br/>
+ * The primaries are the transitive closure of the SINGLE_PRIMARY pairs: two tumors belong to the same primary if they are connected by a chain of pairs
+ * that were evaluated as SINGLE_PRIMARY (QUESTIONABLE and INVALID_INPUT pairs are not used to connect tumors). Since the rules are only applied to pairs,
+ * that closure can contradict some pairs: if A-B and B-C are single primaries but A-C are multiple primaries, A, B and C still form a single primary. Those
+ * contradictions are reported by getConflictingPairs().
+ * <br/><br/>
+ * The outputs are created by the evaluation and never modified after that, so this class can be shared between threads.
+ */
+public class MphPatientOutput {
+
+    // the number of tumors
+    private final int _numTumors;
+
+    // the outputs of the pairs (i, j) with i < j, stored as a flatten upper triangular matrix
+    private final MphOutput[] _outputs;
+
+    // the computed primaries and conflicting pairs, built the first time they are requested (computing them twice gives the same values)
+    private volatile Clusters _clusters;
+
+    MphPatientOutput(int numTumors) {
+        _numTumors = numTumors;
+        _outputs = new MphOutput[numTumors * (numTumors - 1) / 2];
+    }
+
+    /**
+     * Returns the number of evaluated tumors.
+     */
+    public int getNumberOfTumors() {
+        return _numTumors;
+    }
+
+    /**
+     * Returns the output of the provided pair of tumors; the order of the indexes doesn't matter, the tumor with the lower index was always used as the first one.
+     * @param tumor1 the index of the first tumor
+     * @param tumor2 the index of the second tumor
+     * @return the output of the pair
+     */
+    public MphOutput getOutput(int tumor1, int tumor2) {
+        return _outputs[index(tumor1, tumor2)];
+    }
+
+    /**
+     * Sets the output of the provided pair of tumors; only called by the evaluation, before the primaries are requested.
+     */
+    void setOutput(int tumor1, int tumor2, MphOutput output) {
+        _outputs[index(tumor1, tumor2)] = output;
+        _clusters = null;
+    }
+
+    /**
+     * Returns the result of the provided pair of tumors.
+     */
+    public MphUtils.MpResult getResult(int tumor1, int tumor2) {
+        MphOutput output = getOutput(tumor1, tumor2);
+        return output == null ? null : output.getResult();
+    }
+
+    /**
+     * Returns the primaries (see the class documentation); each primary is a sorted list of tumor indexes and the primaries are sorted by their first tumor.
+     */
+    public List<List<Integer>> getPrimaries() {
+        return getClusters()._primaries;
+    }
+
+    /**
+     * Returns the pairs of tumors that belong to the same primary although they were evaluated as MULTIPLE_PRIMARIES; each pair is a sorted list of two
+     * tumor indexes and the pairs are sorted. The list is empty if the primaries don't contradict any pair.
+     */
+    public List<List<Integer>> getConflictingPairs() {
+        return getClusters()._conflictingPairs;
+    }
+
+    /**
+     * Returns true if the primaries contradict at least one pair (see getConflictingPairs()).
+     */
+    public boolean hasConflicts() {
+        return !getConflictingPairs().isEmpty();
+    }
+
+    /**
+     * Returns the number of primaries.
+     */
+    public int getNumberOfPrimaries() {
+        return getPrimaries().size();
+    }
+
+    private Clusters getClusters() {
+        Clusters clusters = _clusters;
+        if (clusters == null) {
+            clusters = computeClusters();
+            _clusters = clusters;
+        }
+        return clusters;
+    }
+
+    private Clusters computeClusters() {
+        int[] parents = new int[_numTumors];
+        for (int i = 0; i < _numTumors; i++)
+            parents[i] = i;
+        for (int i = 0; i < _numTumors; i++)
+            for (int j = i + 1; j < _numTumors; j++)
+                if (getResult(i, j) == MphUtils.MpResult.SINGLE_PRIMARY) {
+                    int root1 = findRoot(parents, i);
+                    int root2 = findRoot(parents, j);
+                    if (root1 != root2)
+                        parents[Math.max(root1, root2)] = Math.min(root1, root2);
+                }
+
+        List<List<Integer>> primaries = new ArrayList<>();
+        int[] primaryIndexes = new int[_numTumors];
+        for (int i = 0; i < _numTumors; i++) {
+            int root = findRoot(parents, i);
+            if (root == i) {
+                primaryIndexes[i] = primaries.size();
+                primaries.add(new ArrayList<>());
+            }
+            primaries.get(primaryIndexes[root]).add(i);
+        }
+        for (int i = 0; i < primaries.size(); i++)
+            primaries.set(i, Collections.unmodifiableList(primaries.get(i)));
+
+        List<List<Integer>> conflictingPairs = new ArrayList<>();
+        for (int i = 0; i < _numTumors; i++)
+            for (int j = i + 1; j < _numTumors; j++)
+                if (getResult(i, j) == MphUtils.MpResult.MULTIPLE_PRIMARIES && findRoot(parents, i) == findRoot(parents, j))
+                    conflictingPairs.add(Collections.unmodifiableList(Arrays.asList(i, j)));
+
+        return new Clusters(Collections.unmodifiableList(primaries), Collections.unmodifiableList(conflictingPairs));
+    }
+
+    private int index(int tumor1, int tumor2) {
+        if (tumor1 == tumor2 || tumor1 < 0 || tumor2 < 0 || tumor1 >= _numTumors || tumor2 >= _numTumors)
+            throw new IllegalArgumentException("Invalid pair of tumors: " + tumor1 + ", " + tumor2);
+        int low = Math.min(tumor1, tumor2);
+        int high = Math.max(tumor1, tumor2);
+        return low * (2 * _numTumors - low - 1) / 2 + (high - low - 1);
+    }
+
+    private static int findRoot(int[] parents, int tumor) {
+        int root = tumor;
+        while (parents[root] != root)
+            root = parents[root];
+        while (parents[tumor] != root) {
+            int next = parents[tumor];
+            parents[tumor] = root;
+            tumor = next;
+        }
+        return root;
+    }
+
+    private static final class Clusters {
+
+        private final List<List<Integer>> _primaries;
+
+        private final List<List<Integer>> _conflictingPairs;
+
+        private Clusters(List<List<Integer>> primaries, List<List<Integer>> conflictingPairs) {
+            _primaries = primaries;
+            _conflictingPairs = conflictingPairs;
+        }
+    }
+}
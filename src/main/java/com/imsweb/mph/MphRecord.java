@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.time.LocalDate;
+
+import com.imsweb.mph.internal.CancerGroupIndex;
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * Immutable snapshot of the values of an {@link MphInput}; all the values needed by the rules are derived only once, when the record is created.
+ * <br/><br/>
+ * The string getters return the same values as the input the record was built from (including the ICD-O-2/ICD-O-3 resolution of the
+ * histology and behavior); the primitive getters return the parsed values, or -1 when the corresponding string is missing or invalid. The diagnosis
+ * date is also available as a range of epoch days, which is a single day if the date is complete and a month or a year if some parts are unknown.
+ * <br/><br/>
+ * A record is not an input: the rules are applied to a copy of its values (see toInput()), which can be modified like any other input. As long as that
+ * copy is not modified, the evaluation uses the parsed values of the record instead of parsing the strings again.
+ * <br/><br/>
+ * The cancer group of a record only depends on the era of the year used to classify it (the latest diagnosis year of the two tumors); the record keeps
+ * the group of each era once it has been computed, so reusing the same record for several pairs classifies it only once per era.
+ */
+public final class MphRecord {
+
+    // the string values, as returned by the original input
+    private final String _primarySite;
+    private final String _histology;
+    private final String _behavior;
+    private final String _icdCode;
+    private final String _laterality;
+    private final String _dateOfDiagnosisYear;
+    private final String _dateOfDiagnosisMonth;
+    private final String _dateOfDiagnosisDay;
+
+    // the parsed values, -1 if missing or invalid
+    private final int _site;
+    private final int _hist;
+    private final int _beh;
+    private final int _lat;
+    private final int _year;
+    private final int _month;
+    private final int _day;
+
+    // the values used by the evaluation packed into a single number, -1 if some of them don't have a canonical representation
+    private final long _signature;
+
+    // the range of possible diagnosis dates (in epoch days), only available if the year is known
+    private final boolean _hasDateRange;
+    private final int _minEpochDay;
+    private final int _maxEpochDay;
+
+    // the index of the cancer group of each era (see CancerGroupIndex) plus 2, 0 if not computed yet and 1 if there is no group; created when first needed
+    private volatile short[] _groupsByEra;
+
+    /**
+     * Constructor.
+     * @param input the input to build the record from, cannot be null
+     */
+    public MphRecord(MphInput input) {
+        _primarySite = input.getPrimarySite();
+        _histology = input.getHistology();
+        _behavior = input.getBehavior();
+        _icdCode = _histology + "/" + _behavior;
+        _laterality = input.getLaterality();
+        _dateOfDiagnosisYear = input.getDateOfDiagnosisYear();
+        _dateOfDiagnosisMonth = input.getDateOfDiagnosisMonth();
+        _dateOfDiagnosisDay = input.getDateOfDiagnosisDay();
+
+        _site = GroupUtility.validateSite(_primarySite) ? Integer.parseInt(_primarySite.substring(1)) : -1;
+        _hist = GroupUtility.validateHistology(_histology) ? Integer.parseInt(_histology) : -1;
+        _beh = GroupUtility.validateBehavior(_behavior) ? Integer.parseInt(_behavior) : -1;
+        _lat = _laterality != null && _laterality.length() == 1 && Character.isDigit(_laterality.charAt(0)) ? (_laterality.charAt(0) - '0') : -1;
+
+        // same logic as the one used by the rules: an invalid month is ignored, and so is a day without a month or a day that doesn't exist in the month
+        _year = parseNumber(_dateOfDiagnosisYear);
+        int month = parseNumber(_dateOfDiagnosisMonth);
+        _month = month >= 1 && month <= 12 ? month : -1;
+        int day = _month != -1 ? parseNumber(_dateOfDiagnosisDay) : -1;
+        _day = _year != -1 && day != -1 && (day < 1 || day > lengthOfMonth(_year, _month)) ? -1 : day;
+
+        _signature = computeSignature();
+
+        _hasDateRange = _year != -1 && _year <= 9999;
+        if (!_hasDateRange) {
+            _minEpochDay = Integer.MIN_VALUE;
+            _maxEpochDay = Integer.MAX_VALUE;
+        }
+        else if (_month == -1) {
+            _minEpochDay = (int)LocalDate.of(_year, 1, 1).toEpochDay();
+            _maxEpochDay = (int)LocalDate.of(_year, 12, 31).toEpochDay();
+        }
+        else if (_day == -1) {
+            _minEpochDay = (int)LocalDate.of(_year, _month, 1).toEpochDay();
+            _maxEpochDay = (int)LocalDate.of(_year, _month, lengthOfMonth(_year, _month)).toEpochDay();
+        }
+        else {
+            _minEpochDay = (int)LocalDate.of(_year, _month, _day).toEpochDay();
+            _maxEpochDay = _minEpochDay;
+        }
+    }
+
+    /**
+     * Returns a record for the provided input; if the input was created by a record (see toInput()) and hasn't been modified since, that record is returned.
+     * @param input input, cannot be null
+     * @return corresponding record, never null
+     */
+    public static MphRecord of(MphInput input) {
+        MphRecord record = getRecord(input);
+        return record != null ? record : new MphRecord(input);
+    }
+
+    /**
+     * Returns the record that created the provided input (see toInput()), null if the input wasn't created by a record or if it has been modified since.
+     * @param input input, cannot be null
+     * @return the record providing the values of the input, maybe null
+     */
+    public static MphRecord getRecord(MphInput input) {
+        return input instanceof RecordInput && !((RecordInput)input)._modified ? ((RecordInput)input)._record : null;
+    }
+
+    /**
+     * Returns a new input containing the values of this record; the histology and behavior used by the evaluation are set as the ICD-O-3 values.
+     * <br/><br/>
+     * The returned input can be modified; it then stops being associated with this record.
+     */
+    public MphInput toInput() {
+        return new RecordInput(this);
+    }
+
+    private long computeSignature() {
+        if (_site == -1 || _hist == -1 || _histology.length() != 4 || _beh == -1 || (_lat == -1 && _laterality != null) || _year == -1 || _year > 9999)
+            return -1;
+        long signature = _site;
+        signature = (signature << 11) | (_hist - 8000);
+        signature = (signature << 3) | _beh;
+        signature = (signature << 4) | (_lat == -1 ? 15 : _lat);
+        signature = (signature << 14) | _year;
+        signature = (signature << 4) | (_month == -1 ? 0 : _month);
+        signature = (signature << 5) | (_day == -1 ? 0 : _day);
+        return signature;
+    }
+
+    private static int parseNumber(String value) {
+        if (!MphUtils.isDigits(value))
+            return -1;
+        try {
+            return Integer.parseInt(value);
+        }
+        catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2)
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    public String getPrimarySite() {
+        return _primarySite;
+    }
+
+    public String getHistology() {
+        return _histology;
+    }
+
+    public String getBehavior() {
+        return _behavior;
+    }
+
+    public String getIcdCode() {
+        return _icdCode;
+    }
+
+    public String getLaterality() {
+        return _laterality;
+    }
+
+    public String getDateOfDiagnosisYear() {
+        return _dateOfDiagnosisYear;
+    }
+
+    public String getDateOfDiagnosisMonth() {
+        return _dateOfDiagnosisMonth;
+    }
+
+    public String getDateOfDiagnosisDay() {
+        return _dateOfDiagnosisDay;
+    }
+
+    /**
+     * Returns the numeric part of the primary site (0-999), -1 if the site is not valid.
+     */
+    public int getSiteCode() {
+        return _site;
+    }
+
+    /**
+     * Returns the histology (8000-9999), -1 if the histology is not valid.
+     */
+    public int getHistologyCode() {
+        return _hist;
+    }
+
+    /**
+     * Returns the behavior (0-3, 6), -1 if the behavior is not valid.
+     */
+    public int getBehaviorCode() {
+        return _beh;
+    }
+
+    /**
+     * Returns the laterality (0-9), -1 if the laterality is missing or not a single digit.
+     */
+    public int getLateralityCode() {
+        return _lat;
+    }
+
+    /**
+     * Returns the diagnosis year, -1 if unknown.
+     */
+    public int getYear() {
+        return _year;
+    }
+
+    /**
+     * Returns the diagnosis month (1-12), -1 if unknown or invalid.
+     */
+    public int getMonth() {
+        return _month;
+    }
+
+    /**
+     * Returns the diagnosis day, -1 if unknown or invalid.
+     */
+    public int getDay() {
+        return _day;
+    }
+
+    /**
+     * Returns true if the site, histology and behavior are valid, and the year is known.
+     * <br/><br/>
+     * Note that the year might still be rejected by the evaluation if it is in the future.
+     */
+    public boolean hasValidProperties() {
+        return _site != -1 && _hist != -1 && _beh != -1 && _year != -1;
+    }
+
+    /**
+     * Returns a number uniquely identifying the values used by the evaluation (two records with the same signature always get the same result),
+     * -1 if the record contains values that are not in their canonical form (like a histology with leading zeros).
+     */
+    long getSignature() {
+        return _signature;
+    }
+
+    /**
+     * Returns the cancer group of this record for the provided year, null if there is none; the record must have valid properties, and the year must be
+     * indexable. The group is computed only once per era, so the same index must always be used (the index of the groups shared by all the MphUtils instances).
+     */
+    MphGroup findCancerGroup(CancerGroupIndex index, int year) {
+        short[] groupsByEra = _groupsByEra;
+        if (groupsByEra == null) {
+            groupsByEra = new short[index.getNumEras()];
+            _groupsByEra = groupsByEra;
+        }
+        int era = index.getEra(year);
+        // several threads might compute the same group, but they all get the same value
+        int value = groupsByEra[era];
+        if (value == 0) {
+            value = index.findIndex(_site, _hist, _beh, era) + 2;
+            groupsByEra[era] = (short)value;
+        }
+        return value == 1 ? null : index.getGroup(value - 2);
+    }
+
+    /**
+     * Returns true if the diagnosis date can be expressed as a range of epoch days (which requires a known year).
+     */
+    public boolean hasDateRange() {
+        return _hasDateRange;
+    }
+
+    /**
+     * Returns the first possible diagnosis date, as an epoch day; only meaningful if hasDateRange() returns true.
+     */
+    public int getMinEpochDay() {
+        return _minEpochDay;
+    }
+
+    /**
+     * Returns the last possible diagnosis date, as an epoch day; only meaningful if hasDateRange() returns true.
+     */
+    public int getMaxEpochDay() {
+        return _maxEpochDay;
+    }
+
+    /**
+     * The inputs created by the records; they behave like any other input, but remember whether they have been modified.
+     */
+    private static final class RecordInput extends MphInput {
+
+        private final MphRecord _record;
+
+        private boolean _modified;
+
+        private RecordInput(MphRecord record) {
+            _record = record;
+            super.setPrimarySite(record._primarySite);
+            super.setHistologyIcdO3(record._histology);
+            super.setBehaviorIcdO3(record._behavior);
+            super.setLaterality(record._laterality);
+            super.setDateOfDiagnosisYear(record._dateOfDiagnosisYear);
+            super.setDateOfDiagnosisMonth(record._dateOfDiagnosisMonth);
+            super.setDateOfDiagnosisDay(record._dateOfDiagnosisDay);
+        }
+
+        @Override
+        public String getHistology() {
+            return _modified ? super.getHistology() : _record._histology;
+        }
+
+        @Override
+        public String getBehavior() {
+            return _modified ? super.getBehavior() : _record._behavior;
+        }
+
+        @Override
+        public String getIcdCode() {
+            return _modified ? super.getIcdCode() : _record._icdCode;
+        }
+
+        @Override
+        public void setPrimarySite(String primarySite) {
+            super.setPrimarySite(primarySite);
+            _modified = true;
+        }
+
+        @Override
+        public void setHistologyIcdO3(String histologyIcdO3) {
+            super.setHistologyIcdO3(histologyIcdO3);
+            _modified = true;
+        }
+
+        @Override
+        public void setBehaviorIcdO3(String behaviorIcdO3) {
+            super.setBehaviorIcdO3(behaviorIcdO3);
+            _modified = true;
+        }
+
+        @Override
+        public void setHistologyIcdO2(String histologyIcdO2) {
+            super.setHistologyIcdO2(histologyIcdO2);
+            _modified = true;
+        }
+
+        @Override
+        public void setBehaviorIcdO2(String behaviorIcdO2) {
+            super.setBehaviorIcdO2(behaviorIcdO2);
+            _modified = true;
+        }
+
+        @Override
+        public void setLaterality(String laterality) {
+            super.setLaterality(laterality);
+            _modified = true;
+        }
+
+        @Override
+        public void setDateOfDiagnosisYear(String dateOfDiagnosisYear) {
+            super.setDateOfDiagnosisYear(dateOfDiagnosisYear);
+            _modified = true;
+        }
+
+        @Override
+        public void setDateOfDiagnosisMonth(String dateOfDiagnosisMonth) {
+            super.setDateOfDiagnosisMonth(dateOfDiagnosisMonth);
+            _modified = true;
+        }
+
+        @Override
+        public void setDateOfDiagnosisDay(String dateOfDiagnosisDay) {
+            super.setDateOfDiagnosisDay(dateOfDiagnosisDay);
+            _modified = true;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import com.imsweb.mph.internal.BoundedCache;
+
+/**
+ * Size-bounded cache of pair results that can be provided to an MphUtils instance.
+ * <br/><br/>
+ * Pairs of tumors with the same values for all the fields used by the evaluation (site, histology, behavior, laterality and diagnosis date) get the same output;
+ * when a cache is used, that output is computed once and shared, so it is read-only (see MphOutput.isReadOnly()). The results are also keyed by the instance that
+ * computed them, so a cache can be shared by instances using different hemato data providers.
+ * <br/><br/>
+ * This class is thread-safe.
+ */
+public final class MphResultCache {
+
+    private final BoundedCache<PairKey, MphOutput> _cache;
+
+    /**
+     * Constructor
+     * @param maximumSize the maximum number of cached results, must be positive
+     */
+    public MphResultCache(int maximumSize) {
+        _cache = new BoundedCache<>(maximumSize);
+    }
+
+    /**
+     * Returns the current statistics of the cache.
+     */
+    public MphCacheStatistics getStatistics() {
+        return new MphCacheStatistics(_cache.getHits(), _cache.getMisses(), _cache.getEvictions(), _cache.getSize(), _cache.getMaximumSize());
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void clear() {
+        _cache.clear();
+    }
+
+    /**
+     * Returns the key for the provided pair, null if the pair cannot be cached.
+     */
+    static PairKey createKey(int ruleSetId, MphRecord input1, MphRecord input2) {
+        long signature1 = input1.getSignature();
+        long signature2 = input2.getSignature();
+        return signature1 == -1 || signature2 == -1 ? null : new PairKey(ruleSetId, signature1, signature2);
+    }
+
+    MphOutput get(PairKey key) {
+        return _cache.get(key);
+    }
+
+    /**
+     * Caches a read-only copy of the provided output and returns the cached output.
+     */
+    MphOutput put(PairKey key, MphOutput output) {
+        return _cache.putIfAbsent(key, new MphOutput(output));
+    }
+
+    static final class PairKey {
+
+        private final int _ruleSetId;
+
+        private final long _signature1;
+
+        private final long _signature2;
+
+        PairKey(int ruleSetId, long signature1, long signature2) {
+            _ruleSetId = ruleSetId;
+            _signature1 = signature1;
+            _signature2 = signature2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof PairKey))
+                return false;
+            PairKey other = (PairKey)o;
+            return _ruleSetId == other._ruleSetId && _signature1 == other._signature1 && _signature2 == other._signature2;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = _ruleSetId;
+            result = 31 * result + Long.hashCode(_signature1);
+            result = 31 * result + Long.hashCode(_signature2);
+            return result;
+        }
+    }
+}
@@ -4,8 +4,10 @@
 package com.imsweb.mph;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.imsweb.mph.internal.RuleDocumentation;
 import com.imsweb.mph.internal.TempRuleResult;
 
 public abstract class MphRule {
@@ -18,15 +20,17 @@ public abstract class MphRule {
 
     private String _reason;
 
+    // the notes and examples, null until they are requested (the ones of the rules of the library are read from the rule documentation)
     private List<String> _notes;
 
     private List<String> _examples;
 
+    // whether this rule is shared (by the groups of the MphUtils instances) and therefore cannot be modified
+    private boolean _frozen;
+
     protected MphRule(String groupName, String step) {
         _groupName = groupName;
         _step = step;
-        _notes = new ArrayList<>();
-        _examples = new ArrayList<>();
     }
 
     public String getGroupName() {
@@ -42,6 +46,7 @@ public abstract class MphRule {
     }
 
     public void setQuestion(String question) {
+        checkModifiable();
         _question = question;
     }
 
@@ -50,15 +55,37 @@ public abstract class MphRule {
     }
 
     public void setReason(String reason) {
+        checkModifiable();
         _reason = reason;
     }
 
-    public List<String> getNotes() {
-        return _notes;
+    public synchronized List<String> getNotes() {
+        if (_notes == null)
+            loadDocumentation();
+        return _frozen ? Collections.unmodifiableList(_notes) : _notes;
+    }
+
+    public synchronized List<String> getExamples() {
+        if (_examples == null)
+            loadDocumentation();
+        return _frozen ? Collections.unmodifiableList(_examples) : _examples;
+    }
+
+    private void loadDocumentation() {
+        _notes = new ArrayList<>(RuleDocumentation.getNotes(_groupName, _step));
+        _examples = new ArrayList<>(RuleDocumentation.getExamples(_groupName, _step));
+    }
+
+    /**
+     * Makes this rule unmodifiable (the setters throw an UnsupportedOperationException, the notes and examples can't be changed).
+     */
+    synchronized void freeze() {
+        _frozen = true;
     }
 
-    public List<String> getExamples() {
-        return _examples;
+    private void checkModifiable() {
+        if (_frozen)
+            throw new UnsupportedOperationException("This rule is shared and cannot be modified");
     }
 
     public abstract TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context);
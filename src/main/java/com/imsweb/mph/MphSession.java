@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A session evaluates pairs of tumors with a given MphUtils instance, reusing its working state (rule execution context and rule buffers) from one pair
+ * to the next instead of allocating it for every pair.
+ * <br/><br/>
+ * The sessions are created with MphUtils.newSession(); they are NOT thread-safe, each thread evaluating pairs should use its own session. The returned outputs
+ * are never shared with the session, they can be kept after the session evaluates other pairs.
+ */
+public final class MphSession {
+
+    private final MphUtils _utils;
+
+    // the current year used to validate the diagnosis years, resolved when the session is created
+    private final int _currentYear;
+
+    // the context provided to the rules
+    private final RuleExecutionContext _context;
+
+    // the buffer of the rules applied after a potential result was found
+    private final List<MphRule> _rulesBuffer = new ArrayList<>();
+
+    MphSession(MphUtils utils) {
+        this(utils, utils.getCurrentYear());
+    }
+
+    MphSession(MphUtils utils, int currentYear) {
+        _utils = utils;
+        _currentYear = currentYear;
+        _context = new RuleExecutionContext(utils, currentYear);
+    }
+
+    /**
+     * Returns the instance used by this session.
+     */
+    public MphUtils getUtils() {
+        return _utils;
+    }
+
+    /**
+     * Returns the current year used by this session (see MphUtils.getCurrentYear()); it doesn't change during the life of the session.
+     */
+    public int getCurrentYear() {
+        return _currentYear;
+    }
+
+    /**
+     * Determines whether two tumors are single or multiple primaries; see MphUtils.computePrimaries().
+     */
+    public MphOutput computePrimaries(MphInput input1, MphInput input2) {
+        return _utils.computePrimaries(MphRecord.of(input1), MphRecord.of(input2), true, this);
+    }
+
+    /**
+     * Determines whether two records are single or multiple primaries; see MphUtils.computePrimaries().
+     */
+    public MphOutput computePrimaries(MphRecord input1, MphRecord input2) {
+        return _utils.computePrimaries(input1, input2, true, this);
+    }
+
+    /**
+     * Determines whether two tumors are single or multiple primaries, without explaining the result; see MphUtils.computeResult().
+     */
+    public MphOutput computeResult(MphInput input1, MphInput input2) {
+        return _utils.computePrimaries(MphRecord.of(input1), MphRecord.of(input2), false, this);
+    }
+
+    RuleExecutionContext getContext() {
+        return _context;
+    }
+
+    List<MphRule> getRulesBuffer() {
+        _rulesBuffer.clear();
+        return _rulesBuffer;
+    }
+}
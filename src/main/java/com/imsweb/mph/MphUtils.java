@@ -8,14 +8,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
+import com.imsweb.mph.internal.CancerGroupIndex;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mpgroups.GroupUtility;
 import com.imsweb.mph.mpgroups.Mp1998HematopoieticGroup;
@@ -80,21 +91,29 @@ public final class MphUtils {
         INVALID_INPUT
     }
 
-    // the unique instance of this utility class
-    private static MphUtils _INSTANCE = null;
+    // the unique instance of this utility class (volatile so it can be read without locking)
+    private static volatile MphUtils _INSTANCE = null;
 
     // the Hematopoietic diseases provider used by the instance
     private final HematoDataProvider _provider;
 
-    // the cached groups of rules used by the instance
-    private final Map<String, MphGroup> _groups = new LinkedHashMap<>();
+    // the sequence used to identify the rules sets of the instances
+    private static final AtomicInteger _RULE_SET_IDS = new AtomicInteger();
 
-    /**
-     * Adds an ID and a MphGroup to the _groups Map.
-     */
-    private void addGroup(MphGroup newGroup) {
-        _groups.put(newGroup.getId(), newGroup);
-    }
+    // the identifier of the rules set of this instance (used to share a result cache between instances)
+    private final int _ruleSetId = _RULE_SET_IDS.incrementAndGet();
+
+    // the optional cache of the pair results
+    private final MphResultCache _resultCache;
+
+    // the date when the hemato data was last updated, as reported by the provider when the instance was created
+    private final Date _hematoDataLastUpdated;
+
+    // the fingerprint of the rules and hemato data used by the instance
+    private final String _fingerprint;
+
+    // the clock providing the current year (the diagnosis years after that year are invalid)
+    private final Clock _clock;
 
     /**
      * Initialized the instance with the given hemato db data provider; this allows to use a customized provider instead of the default one.
@@ -105,20 +124,51 @@ public final class MphUtils {
         _INSTANCE = new MphUtils(provider);
     }
 
+    /**
+     * Initialized the instance with the given hemato db data provider and result cache.
+     * This method must be called before trying to get an instance, of the default provider will be used instead.
+     * @param provider hemato database data provider interface
+     * @param resultCache the cache of the pair results, null to not use any cache
+     */
+    public static synchronized void initialize(HematoDataProvider provider, MphResultCache resultCache) {
+        _INSTANCE = new MphUtils(provider, resultCache);
+    }
+
+    /**
+     * Replaces the instance by a new one using the provided hemato db data provider, and returns it.
+     * <br/><br/>
+     * The new instance shares the result cache of the current one (and like all the instances, the groups of rules), so it is created almost instantly.
+     * The instances are immutable: the batches and sessions started with the current instance keep evaluating their pairs with it, only the callers of getInstance() get the new one.
+     * @param provider hemato database data provider interface, if it is null the default hemato db provider will be used
+     * @return the new instance
+     */
+    public static synchronized MphUtils update(HematoDataProvider provider) {
+        _INSTANCE = _INSTANCE == null ? new MphUtils(provider) : _INSTANCE.withHematoDataProvider(provider);
+        return _INSTANCE;
+    }
+
     /**
      * Returns true if the instance has been initialized, false otherwise.
      */
-    public static synchronized boolean isInitialized() {
+    public static boolean isInitialized() {
         return _INSTANCE != null;
     }
 
     /**
      * Returns the instance of MPH utils.
+     * <br/><br/>
+     * Once the instance is initialized, this method doesn't acquire any lock.
      */
-    public static synchronized MphUtils getInstance() {
-        if (!isInitialized())
-            initialize(new DefaultHematoDataProvider());
-        return _INSTANCE;
+    public static MphUtils getInstance() {
+        MphUtils instance = _INSTANCE;
+        if (instance == null) {
+            synchronized (MphUtils.class) {
+                if (_INSTANCE == null)
+                    _INSTANCE = new MphUtils(new DefaultHematoDataProvider());
+                instance = _INSTANCE;
+            }
+        }
+        return instance;
     }
 
     /**
@@ -160,48 +210,58 @@ public final class MphUtils {
      * @param provider the provider to use for this instance, if it is null the default hemato db provider will be used
      */
     public MphUtils(HematoDataProvider provider) {
-        _provider = provider != null ? provider : new DefaultHematoDataProvider();
-
-        // 1998 Hematopoietic rules
-        addGroup(new Mp1998HematopoieticGroup());
-
-        // 2001 Hematopoietic rules
-        addGroup(new Mp2001HematopoieticGroup());
+        this(provider, null);
+    }
 
-        // 2010 Hematopoietic rules
-        addGroup(new Mp2010HematopoieticGroup());
+    /**
+     * Constructor with a provider and a result cache
+     * @param provider the provider to use for this instance, if it is null the default hemato db provider will be used
+     * @param resultCache the cache of the pair results, null to not use any cache; the outputs returned by the instance are read-only when a cache is used
+     */
+    public MphUtils(HematoDataProvider provider, MphResultCache resultCache) {
+        this(provider, resultCache, Clock.systemDefaultZone());
+    }
 
-        // 2004 solid tumor rules 
-        addGroup(new Mp2004BenignBrainGroup());
-        addGroup(new Mp2004SolidMalignantGroup());
+    private MphUtils(HematoDataProvider provider, MphResultCache resultCache, Clock clock) {
+        _provider = provider != null ? provider : new DefaultHematoDataProvider();
+        _resultCache = resultCache;
+        _hematoDataLastUpdated = _provider.getDataLastUpdated();
+        _fingerprint = computeFingerprint(_hematoDataLastUpdated);
+        _clock = clock;
+    }
 
-        // 2007 solid tumor rules
-        addGroup(new Mp2007HeadAndNeckGroup());
-        addGroup(new Mp2007ColonGroup());
-        addGroup(new Mp2007LungGroup());
-        addGroup(new Mp2007MelanomaGroup());
-        addGroup(new Mp2007BreastGroup());
-        addGroup(new Mp2007KidneyGroup());
-        addGroup(new Mp2007UrinaryGroup());
-        addGroup(new Mp2007BenignBrainGroup());
-        addGroup(new Mp2007MalignantBrainGroup());
-        addGroup(new Mp2007OtherSitesGroup());
+    /**
+     * Returns a new instance identical to this one, but using the provided hemato db data provider; the result cache is shared with this instance
+     * (but the results of the two instances are cached separately).
+     * @param provider the provider to use for the new instance, if it is null the default hemato db provider will be used
+     * @return the new instance
+     */
+    public MphUtils withHematoDataProvider(HematoDataProvider provider) {
+        return new MphUtils(provider, _resultCache, _clock);
+    }
 
-        // 2018 solid tumor rules
-        addGroup(new Mp2018BreastGroup());
-        addGroup(new Mp2018ColonGroup());
-        addGroup(new Mp2018HeadAndNeckGroup());
-        addGroup(new Mp2018KidneyGroup());
-        addGroup(new Mp2018LungGroup());
-        addGroup(new Mp2018MalignantCNSAndPeripheralNervesGroup());
-        addGroup(new Mp2018NonMalignantCNSTumorsGroup());
-        addGroup(new Mp2018UrinarySitesGroup());
+    /**
+     * Returns a new instance identical to this one, but using the provided clock to get the current year (the diagnosis years after that year are invalid);
+     * this allows to evaluate pairs reproducibly, for example in tests or in batches that must not depend on the day they run.
+     * @param clock the clock to use for the new instance, required
+     * @return the new instance
+     */
+    public MphUtils withClock(Clock clock) {
+        if (clock == null)
+            throw new IllegalArgumentException("Clock is required");
+        return new MphUtils(_provider, _resultCache, clock);
+    }
 
-        //2021 solid tumor rules
-        addGroup(new Mp2021CutaneousMelanomaGroup());
+    /**
+     * Returns the current year, as provided by the clock of this instance; the sessions resolve it once, when they are created.
+     */
+    public int getCurrentYear() {
+        return LocalDate.now(_clock).getYear();
+    }
 
-        //2023
-        addGroup(new Mp2023OtherSitesGroup());
+    // the rules are identified by the version of the library, the hemato data by its last update
+    private static String computeFingerprint(Date hematoDataLastUpdated) {
+        return getLibraryVersion() + "-" + (hematoDataLastUpdated == null ? "?" : new SimpleDateFormat("yyyyMMddHHmm").format(hematoDataLastUpdated));
     }
 
     /**
@@ -229,73 +289,261 @@ public final class MphUtils {
      * @return the computed output which is an object which has result (Single Primary, Multiple Primaries or Questionable), reason and rules applied to make a decision.
      */
     public MphOutput computePrimaries(MphInput input1, MphInput input2) {
-        MphOutput output = new MphOutput();
-
-        int year1 = isDigits(input1.getDateOfDiagnosisYear()) ? Integer.parseInt(input1.getDateOfDiagnosisYear()) : -1;
-        int year2 = isDigits(input2.getDateOfDiagnosisYear()) ? Integer.parseInt(input2.getDateOfDiagnosisYear()) : -1;
-        String site1 = input1.getPrimarySite();
-        String site2 = input2.getPrimarySite();
-        String hist1 = input1.getHistology();
-        String hist2 = input2.getHistology();
-        String beh1 = input1.getBehavior();
-        String beh2 = input2.getBehavior();
-
-        if (!GroupUtility.validateProperties(site1, hist1, beh1, year1)) {
+        return computePrimaries(MphRecord.of(input1), MphRecord.of(input2));
+    }
+
+    /**
+     * Determines whether two records of solid tumors are single or multiple primary. It returns "questionable" if there is no enough information to decide.
+     * <br/><br/>
+     * This method returns the same result as the one taking inputs, but it should be preferred when the same tumor is compared to several other ones
+     * since all the values used by the rules are parsed only once, when the record is created.
+     * @param input1 first tumor
+     * @param input2 second tumor
+     * @return the computed output which is an object which has result (Single Primary, Multiple Primaries or Questionable), reason and rules applied to make a decision.
+     */
+    public MphOutput computePrimaries(MphRecord input1, MphRecord input2) {
+        return computePrimaries(input1, input2, true, null);
+    }
+
+    /**
+     * Determines whether two tumors are single or multiple primaries, without explaining the result.
+     * <br/><br/>
+     * The returned output only contains the result, the group and the step that provided the result; the reason is not set and there is no applied rule
+     * (unless the output comes from the result cache). Use computePrimaries to get the full explanation of a result.
+     * @param input1 first tumor
+     * @param input2 second tumor
+     * @return the computed output
+     */
+    public MphOutput computeResult(MphInput input1, MphInput input2) {
+        return computePrimaries(MphRecord.of(input1), MphRecord.of(input2), false, null);
+    }
+
+    /**
+     * Returns a new session, evaluating pairs with this instance and reusing its working state from one pair to the next; a session must be used by a single thread.
+     */
+    public MphSession newSession() {
+        return new MphSession(this);
+    }
+
+    /**
+     * Determines whether two tumors are single or multiple primaries; the session is optional, it provides the working state of the rules when it is set.
+     */
+    MphOutput computePrimaries(MphRecord input1, MphRecord input2, boolean explain, MphSession session) {
+        int year1 = input1.getYear();
+        int year2 = input2.getYear();
+        int currentYear = session != null ? session.getCurrentYear() : getCurrentYear();
+
+        if (!input1.hasValidProperties() || !GroupUtility.validateYear(year1, currentYear)) {
+            MphOutput output = createOutput(explain);
             output.setResult(MpResult.INVALID_INPUT);
-            output.setReason(
-                    "Cannot identify rule set for " + GroupUtility.getSiteHistInfo(site1, hist1, beh1, year1)
-                            + ". Valid primary site (C000-C999 excluding C809), histology (8000-9999), behavior (0-3, 6) and diagnosis year are required.");
+            if (explain)
+                output.setReason(
+                        "Cannot identify rule set for " + GroupUtility.getSiteHistInfo(input1.getPrimarySite(), input1.getHistology(), input1.getBehavior(), year1, currentYear)
+                                + ". Valid primary site (C000-C999 excluding C809), histology (8000-9999), behavior (0-3, 6) and diagnosis year are required.");
             return output;
         }
-        else if (!GroupUtility.validateProperties(site2, hist2, beh2, year2)) {
+        else if (!input2.hasValidProperties() || !GroupUtility.validateYear(year2, currentYear)) {
+            MphOutput output = createOutput(explain);
             output.setResult(MpResult.INVALID_INPUT);
-            output.setReason(
-                    "Cannot identify rule set for " + GroupUtility.getSiteHistInfo(site2, hist2, beh2, year2)
-                            + ".Valid primary site (C000-C999 excluding C809), histology (8000-9999), behavior (0-3, 6) and diagnosis year are required.");
+            if (explain)
+                output.setReason(
+                        "Cannot identify rule set for " + GroupUtility.getSiteHistInfo(input2.getPrimarySite(), input2.getHistology(), input2.getBehavior(), year2, currentYear)
+                                + ".Valid primary site (C000-C999 excluding C809), histology (8000-9999), behavior (0-3, 6) and diagnosis year are required.");
             return output;
         }
 
+        MphResultCache.PairKey key = createCacheKey(input1, input2);
+        if (key != null) {
+            MphOutput cachedOutput = _resultCache.get(key);
+            if (cachedOutput != null)
+                return cachedOutput;
+        }
+
         //calculate cancer group based on latest year
         int latestYear = Math.max(year1, year2);
-        MphGroup group1 = findCancerGroup(site1, hist1, beh1, latestYear);
-        MphGroup group2 = findCancerGroup(site2, hist2, beh2, latestYear);
+        MphGroup group1 = findCancerGroup(input1, latestYear, currentYear);
+        MphGroup group2 = findCancerGroup(input2, latestYear, currentYear);
+
+        MphOutput output = computePrimaries(input1, input2, group1, group2, explain, session, currentYear);
+
+        return key != null && explain ? _resultCache.put(key, output) : output;
+    }
+
+    /**
+     * Determines whether all the tumors of a patient are single or multiple primaries.
+     * <br/><br/>
+     * Every pair of tumors is evaluated the same way computePrimaries evaluates two tumors (the tumor with the lower index being used as the first one), but the inputs
+     * are parsed only once, and the cancer group of each tumor is only computed once per era of the rules (see MphRecord).
+     * @param inputs the tumors of a single patient, cannot be null
+     * @return the patient output, providing the result of each pair and the resulting primaries
+     */
+    public MphPatientOutput computePrimaries(List<? extends MphInput> inputs) {
+        int size = inputs.size();
+        MphRecord[] records = new MphRecord[size];
+        for (int i = 0; i < size; i++)
+            records[i] = MphRecord.of(inputs.get(i));
+
+        // the records keep their group of each era, so each tumor is classified only once per era
+        MphSession session = newSession();
+        MphPatientOutput result = new MphPatientOutput(size);
+        for (int i = 0; i < size; i++)
+            for (int j = i + 1; j < size; j++)
+                result.setOutput(i, j, computePrimaries(records[i], records[j], true, session));
+
+        return result;
+    }
+
+    /**
+     * Evaluates the provided pairs using the common fork-join pool, and waits for the outputs.
+     * <br/><br/>
+     * The pairs are evaluated the same way computePrimaries evaluates two tumors; if the current thread is interrupted while waiting, the evaluation is cancelled.
+     * @param pairs the pairs to evaluate, cannot be null
+     * @return the outputs, in the order of the pairs
+     */
+    public List<MphOutput> computeBatch(List<? extends MphPair> pairs) {
+        MphBatchJob job = submitBatch(pairs, ForkJoinPool.commonPool(), null);
+        try {
+            return job.get();
+        }
+        catch (InterruptedException e) {
+            job.cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Batch evaluation was interrupted");
+        }
+        catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Starts the evaluation of the provided pairs on the provided executor and returns immediately.
+     * <br/><br/>
+     * The pairs are split into chunks evaluated by separate tasks; the returned job gives access to the outputs (in the order of the pairs) and to the
+     * progress of the evaluation, and can be used to cancel it. The list of pairs must not be modified until the job is done.
+     * @param pairs the pairs to evaluate, cannot be null
+     * @param executor the executor running the tasks, cannot be null
+     * @param listener optional listener notified every time a chunk has been evaluated
+     * @return the job
+     */
+    public MphBatchJob submitBatch(List<? extends MphPair> pairs, Executor executor, MphBatchListener listener) {
+        if (pairs == null || executor == null)
+            throw new IllegalArgumentException("Pairs and executor are required");
+        MphBatchJob job = new MphBatchJob(this, pairs, listener);
+        job.start(executor);
+        return job;
+    }
+
+    /**
+     * Evaluates the pairs provided by the iterator on the provided executor, passing the outputs to the consumer in the order of the pairs.
+     * <br/><br/>
+     * This method is meant for very large numbers of pairs: they are read one chunk at a time, and only a few chunks per thread of the executor are evaluated
+     * at the same time, so the pairs and outputs don't have to fit in memory. The iterator and consumer are only used by the calling thread, which blocks until
+     * all the pairs have been evaluated; interrupting it cancels the evaluation.
+     * @param pairs the pairs to evaluate, cannot be null
+     * @param executor the executor running the evaluation, cannot be null
+     * @param consumer the consumer of the outputs, cannot be null
+     * @param listener optional listener notified every time a chunk has been consumed
+     * @return the number of evaluated pairs
+     * @throws InterruptedException if the calling thread was interrupted
+     */
+    public long computeBatch(Iterator<? extends MphPair> pairs, Executor executor, Consumer<? super MphOutput> consumer, MphBatchListener listener) throws InterruptedException {
+        if (pairs == null || executor == null || consumer == null)
+            throw new IllegalArgumentException("Pairs, executor and consumer are required");
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool)executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        try {
+            return MphBatchJob.evaluate(this, pairs, executor, 2 * parallelism, consumer, listener);
+        }
+        catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    // returns the exception to throw for a failed batch evaluation; errors are thrown as they are
+    private static RuntimeException rethrow(ExecutionException e) {
+        if (e.getCause() instanceof Error)
+            throw (Error)e.getCause();
+        return e.getCause() instanceof RuntimeException ? (RuntimeException)e.getCause() : new IllegalStateException(e.getCause());
+    }
+
+    private MphOutput createOutput(boolean explain) {
+        MphOutput output = explain ? new MphOutput() : MphOutput.resultOnly();
+        output.setEngineInfo(_fingerprint, _hematoDataLastUpdated);
+        return output;
+    }
+
+    private MphResultCache.PairKey createCacheKey(MphRecord input1, MphRecord input2) {
+        return _resultCache != null ? MphResultCache.createKey(_ruleSetId, input1, input2) : null;
+    }
+
+    // the year has already been validated against the current year of the evaluation
+    private MphGroup findCancerGroup(MphRecord input, int year, int currentYear) {
+        if (input.hasValidProperties() && GroupRegistry._INDEX.isIndexable(input.getHistology(), year))
+            return input.findCancerGroup(GroupRegistry._INDEX, year);
+        return findCancerGroup(input.getPrimarySite(), input.getHistology(), input.getBehavior(), year, currentYear);
+    }
+
+    /**
+     * Applies the rules to two valid tumors for which the cancer groups have already been computed.
+     * <br/><br/>
+     * If the explanation is not requested, the returned output only contains the result, group and step; the reason and the applied rules are not computed.
+     */
+    private MphOutput computePrimaries(MphRecord input1, MphRecord input2, MphGroup group1, MphGroup group2, boolean explain, MphSession session, int currentYear) {
+        MphOutput output = createOutput(explain);
 
         //Generic rule, if both groups can not be determined, and if they have same valid site, hist, behavior, date, laterality return single primary.
-        if (group1 == null && group2 == null && GroupUtility.sameAndValidMainFields(input1, input2)) {
+        if (group1 == null && group2 == null && GroupUtility.sameAndValidMainFields(input1.toInput(), input2.toInput(), currentYear)) {
             output.setResult(MpResult.SINGLE_PRIMARY);
-            output.setReason("The two sets of parameters have same values for site, histology, behavior, diagnosis date and laterality.");
+            if (explain)
+                output.setReason("The two sets of parameters have same values for site, histology, behavior, diagnosis date and laterality.");
         }
         else if (group1 == null) {
             output.setResult(MpResult.QUESTIONABLE);
-            output.setReason("Could not find rule sets for " + GroupUtility.getSiteHistInfo(site1, hist1, beh1, year1) + ".");
+            if (explain)
+                output.setReason("Could not find rule sets for " + GroupUtility.getSiteHistInfo(input1.getPrimarySite(), input1.getHistology(), input1.getBehavior(), input1.getYear(), currentYear) + ".");
         }
         else if (group2 == null) {
             output.setResult(MpResult.QUESTIONABLE);
-            output.setReason("Could not find rule sets for " + GroupUtility.getSiteHistInfo(site2, hist2, beh2, year2) + ".");
+            if (explain)
+                output.setReason("Could not find rule sets for " + GroupUtility.getSiteHistInfo(input2.getPrimarySite(), input2.getHistology(), input2.getBehavior(), input2.getYear(), currentYear) + ".");
         }
         else if (!group1.getId().equals(group2.getId())) {
             output.setResult(MpResult.MULTIPLE_PRIMARIES);
-            output.setReason("The two sets of parameters belong to two different cancer groups.");
+            if (explain)
+                output.setReason("The two sets of parameters belong to two different cancer groups.");
         }
         else {
-            RuleExecutionContext context = new RuleExecutionContext(this);
+            RuleExecutionContext context = session != null ? session.getContext() : new RuleExecutionContext(this, currentYear);
             output.setGroupId(group1.getId());
             output.setGroupName(group1.getName());
+            // the first rule that returned a potential result is the last rule of the applied rules until the potential result is confirmed
+            MphRule potentialRule = null;
             TempRuleResult potentialResult = null;
-            List<MphRule> rulesAppliedAfterQuestionable = new ArrayList<>();
-            for (MphRule rule : group1.getRules()) {
-                if (potentialResult == null)
-                    output.getAppliedRules().add(rule);
-                else
-                    rulesAppliedAfterQuestionable.add(rule);
-                TempRuleResult result = rule.apply(input1, input2, context);
-                if (result.getPotentialResult() != null) {
+            List<MphRule> rulesAppliedAfterQuestionable = null;
+            if (explain)
+                rulesAppliedAfterQuestionable = session != null ? session.getRulesBuffer() : new ArrayList<>();
+            // the rules get their own copy of the values of the records, so they can't change the records
+            MphInput i1 = input1.toInput();
+            MphInput i2 = input2.toInput();
+            RuleProgram program = group1.getProgram();
+            for (int idx = 0; idx < program.size(); idx++) {
+                MphRule rule = program.getRule(idx);
+                if (explain) {
                     if (potentialResult == null)
+                        output.getAppliedRules().add(rule);
+                    else
+                        rulesAppliedAfterQuestionable.add(rule);
+                }
+                TempRuleResult result = program.apply(idx, i1, i2, context);
+                if (result.getPotentialResult() != null) {
+                    if (potentialResult == null) {
                         potentialResult = result;
+                        potentialRule = rule;
+                    }
                     else if (!result.getPotentialResult().equals(potentialResult.getPotentialResult())) {
                         output.setResult(MpResult.QUESTIONABLE);
-                        output.setStep(output.getAppliedRules().get(output.getAppliedRules().size() - 1).getStep());
-                        output.setReason(potentialResult.getMessage());
+                        output.setStep(potentialRule.getStep());
+                        if (explain)
+                            output.setReason(potentialResult.getMessage());
                         break;
                     }
                 }
@@ -303,14 +551,17 @@ public final class MphUtils {
                     if (potentialResult == null || potentialResult.getPotentialResult().equals(result.getFinalResult())) {
                         output.setResult(result.getFinalResult());
                         output.setStep(rule.getStep());
-                        output.setReason(result.getMessage() != null && !result.getMessage().trim().isEmpty() ? result.getMessage() : rule.getReason());
-                        if (potentialResult != null && potentialResult.getPotentialResult().equals(result.getFinalResult()))
-                            output.getAppliedRules().addAll(rulesAppliedAfterQuestionable);
+                        if (explain) {
+                            output.setReason(result.getMessage() != null && !result.getMessage().trim().isEmpty() ? result.getMessage() : rule.getReason());
+                            if (potentialResult != null && potentialResult.getPotentialResult().equals(result.getFinalResult()))
+                                output.getAppliedRules().addAll(rulesAppliedAfterQuestionable);
+                        }
                     }
                     else {
                         output.setResult(MpResult.QUESTIONABLE);
-                        output.setStep(output.getAppliedRules().get(output.getAppliedRules().size() - 1).getStep());
-                        output.setReason(potentialResult.getMessage());
+                        output.setStep(potentialRule.getStep());
+                        if (explain)
+                            output.setReason(potentialResult.getMessage());
                     }
                     break;
                 }
@@ -321,19 +572,25 @@ public final class MphUtils {
     }
 
     /**
-     * Calculates the cancer group for the provided naaccr properties.
+     * Calculates the cancer group for the provided naaccr properties; the diagnosis years after the current year of this instance are invalid.
      * @param primarySite primary site
      * @param histology histology ICD-O-3
      * @param behavior behavior ICD-O-3
      * @return the corresponding cancer group, null if not found
      */
     public MphGroup findCancerGroup(String primarySite, String histology, String behavior, int year) {
-        if (!GroupUtility.validateProperties(primarySite, histology, behavior, year))
+        return findCancerGroup(primarySite, histology, behavior, year, getCurrentYear());
+    }
+
+    private MphGroup findCancerGroup(String primarySite, String histology, String behavior, int year, int currentYear) {
+        if (!GroupUtility.validateProperties(primarySite, histology, behavior, year, currentYear))
             return null;
 
-        //for (MphGroup group : getAllGroups())
+        if (GroupRegistry._INDEX.isIndexable(histology, year))
+            return GroupRegistry._INDEX.find(Integer.parseInt(primarySite.substring(1)), Integer.parseInt(histology), Integer.parseInt(behavior), year);
+
         for (Map.Entry<String, MphGroup> entry : getAllGroups().entrySet())
-            if (entry.getValue().isApplicable(primarySite, histology, behavior, year))
+            if (entry.getValue().isApplicable(primarySite, histology, behavior, year, currentYear))
                 return entry.getValue();
 
         return null;
@@ -343,14 +600,30 @@ public final class MphUtils {
      * Returns a map of all groups of rules used by this instance.
      */
     public Map<String, MphGroup> getAllGroups() {
-        return Collections.unmodifiableMap(_groups);
+        return GroupRegistry._GROUPS;
+    }
+
+    /**
+     * Returns the cache of the pair results used by this instance, null if the instance doesn't use any cache.
+     */
+    public MphResultCache getResultCache() {
+        return _resultCache;
     }
 
     /**
-     * @return the date when the hemato data is last updated
+     * @return the date when the hemato data is last updated (as reported by the provider when the instance was created)
      */
     public Date getHematoDataLastUpdated() {
-        return _provider.getDataLastUpdated();
+        return _hematoDataLastUpdated == null ? null : new Date(_hematoDataLastUpdated.getTime());
+    }
+
+    /**
+     * Returns the fingerprint of the rules and hemato data used by this instance; two instances with the same fingerprint return the same results.
+     * <br/><br/>
+     * The fingerprint is made of the version of the library and of the date when the hemato data was last updated; it is also provided by every output.
+     */
+    public String getFingerprint() {
+        return _fingerprint;
     }
 
     /**
@@ -368,9 +641,9 @@ public final class MphUtils {
             return true;
 
         if (year1 == year2)
-            return _provider.getSamePrimary(morph1).stream().anyMatch(r -> r.matches(morph2, year1)) && _provider.getSamePrimary(morph2).stream().anyMatch(r -> r.matches(morph1, year2));
+            return _provider.isSamePrimary(morph1, morph2, year1) && _provider.isSamePrimary(morph2, morph1, year2);
 
-        return year1 > year2 ? _provider.getSamePrimary(morph1).stream().anyMatch(r -> r.matches(morph2, year1)) : _provider.getSamePrimary(morph2).stream().anyMatch(r -> r.matches(morph1, year2));
+        return year1 > year2 ? _provider.isSamePrimary(morph1, morph2, year1) : _provider.isSamePrimary(morph2, morph1, year2);
     }
 
     public boolean isTransformation(String leftCode, String rightCode, int leftYear, int rightYear) {
@@ -388,10 +661,76 @@ public final class MphUtils {
     }
 
     private boolean confirmTransformTo(String leftCode, String rightCode, int year) {
-        return _provider.getTransformTo(leftCode).stream().anyMatch(d -> d.matches(rightCode, year));
+        return _provider.isTransformTo(leftCode, rightCode, year);
     }
 
     private boolean confirmTransformFrom(String leftCode, String rightCode, int year) {
-        return _provider.getTransformFrom(leftCode).stream().anyMatch(d -> d.matches(rightCode, year));
+        return _provider.isTransformFrom(leftCode, rightCode, year);
+    }
+
+    /**
+     * The groups of rules don't depend on the provider, so they are shared by all the instances; they are created the first time they are used, and
+     * they can't be modified.
+     */
+    private static final class GroupRegistry {
+
+        // the groups, by ID
+        private static final Map<String, MphGroup> _GROUPS;
+
+        // the index used to find the group of a tumor
+        private static final CancerGroupIndex _INDEX;
+
+        static {
+            List<MphGroup> groups = new ArrayList<>();
+
+            // 1998 Hematopoietic rules
+            groups.add(new Mp1998HematopoieticGroup());
+
+            // 2001 Hematopoietic rules
+            groups.add(new Mp2001HematopoieticGroup());
+
+            // 2010 Hematopoietic rules
+            groups.add(new Mp2010HematopoieticGroup());
+
+            // 2004 solid tumor rules
+            groups.add(new Mp2004BenignBrainGroup());
+            groups.add(new Mp2004SolidMalignantGroup());
+
+            // 2007 solid tumor rules
+            groups.add(new Mp2007HeadAndNeckGroup());
+            groups.add(new Mp2007ColonGroup());
+            groups.add(new Mp2007LungGroup());
+            groups.add(new Mp2007MelanomaGroup());
+            groups.add(new Mp2007BreastGroup());
+            groups.add(new Mp2007KidneyGroup());
+            groups.add(new Mp2007UrinaryGroup());
+            groups.add(new Mp2007BenignBrainGroup());
+            groups.add(new Mp2007MalignantBrainGroup());
+            groups.add(new Mp2007OtherSitesGroup());
+
+            // 2018 solid tumor rules
+            groups.add(new Mp2018BreastGroup());
+            groups.add(new Mp2018ColonGroup());
+            groups.add(new Mp2018HeadAndNeckGroup());
+            groups.add(new Mp2018KidneyGroup());
+            groups.add(new Mp2018LungGroup());
+            groups.add(new Mp2018MalignantCNSAndPeripheralNervesGroup());
+            groups.add(new Mp2018NonMalignantCNSTumorsGroup());
+            groups.add(new Mp2018UrinarySitesGroup());
+
+            // 2021 solid tumor rules
+            groups.add(new Mp2021CutaneousMelanomaGroup());
+
+            // 2023 solid tumor rules
+            groups.add(new Mp2023OtherSitesGroup());
+
+            Map<String, MphGroup> groupsById = new LinkedHashMap<>();
+            for (MphGroup group : groups) {
+                group.freeze();
+                groupsById.put(group.getId(), group);
+            }
+            _GROUPS = Collections.unmodifiableMap(groupsById);
+            _INDEX = new CancerGroupIndex(groups);
+        }
     }
 }
@@ -3,12 +3,73 @@
  */
 package com.imsweb.mph;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * The context provided to the rules when they are applied to a pair of tumors.
+ * <br/><br/>
+ * Besides the access to the hemato data, the context provides the features of the pair used by several rules (date comparisons, laterality and site
+ * comparisons). When the tumors are unmodified inputs created by records (which is always the case when the rules are applied by MphUtils, see
+ * MphRecord.toInput()), those features are computed at most once per pair: they are remembered until the context is used with another pair. A context
+ * is not thread-safe.
+ */
 public class RuleExecutionContext {
 
+    // the value of the features that haven't been computed yet
+    private static final int _UNKNOWN = Integer.MIN_VALUE;
+
+    // the laterality flags
+    private static final int _LATERALITY_SAME_SIDE = 1;
+    private static final int _LATERALITY_OPPOSITE_SIDES = 2;
+    private static final int _LATERALITY_VALID_PAIRED = 4;
+
+    // the number of different thresholds remembered for the "days apart" and "years apart" features
+    private static final int _NUM_THRESHOLDS = 4;
+
+    // the number of different lists remembered for the "paired sites" feature
+    private static final int _NUM_PAIRED_SITES = 2;
+
     private final MphUtils _mphUtils;
 
+    // the current year used by the date comparisons (the diagnosis years after that year are unknown)
+    private final int _currentYear;
+
+    // the pair of records for which the features are remembered
+    private MphRecord _record1;
+    private MphRecord _record2;
+
+    // the features of that pair
+    private int _compareDxDate;
+    private int _sameKnownDateParts;
+    private int _lateralityFlags;
+    private int _sameSitePrefix;
+    private final int[] _daysApartThresholds = new int[_NUM_THRESHOLDS];
+    private final int[] _daysApartValues = new int[_NUM_THRESHOLDS];
+    private int _numDaysApart;
+    private final int[] _yearsApartThresholds = new int[_NUM_THRESHOLDS];
+    private final int[] _yearsApartValues = new int[_NUM_THRESHOLDS];
+    private int _numYearsApart;
+    private final Object[] _pairedSitesLists = new Object[_NUM_PAIRED_SITES];
+    private final boolean[] _pairedSitesValues = new boolean[_NUM_PAIRED_SITES];
+    private int _numPairedSites;
+
+    /**
+     * Creates a context using the current year of the provided instance (the year of the system clock if the instance is null).
+     */
     public RuleExecutionContext(MphUtils mphUtils) {
+        this(mphUtils, mphUtils != null ? mphUtils.getCurrentYear() : LocalDate.now().getYear());
+    }
+
+    /**
+     * Creates a context using the provided current year (the diagnosis years after that year are unknown).
+     */
+    public RuleExecutionContext(MphUtils mphUtils, int currentYear) {
         _mphUtils = mphUtils;
+        _currentYear = currentYear;
     }
 
     public boolean isHematoSamePrimary(String morph1, String morph2, int year1, int year2) {
@@ -31,4 +92,163 @@ public class RuleExecutionContext {
     public MphUtils getMphUtils() {
         return _mphUtils;
     }
+
+    /**
+     * Returns the current year used by the date comparisons of this context.
+     */
+    public int getCurrentYear() {
+        return _currentYear;
+    }
+
+    /**
+     * Same as GroupUtility.compareDxDate()
+     */
+    public int compareDxDate(MphInput i1, MphInput i2) {
+        if (!isRemembered(i1, i2))
+            return GroupUtility.compareDxDate(i1, i2, _currentYear);
+        if (_compareDxDate == _UNKNOWN)
+            _compareDxDate = GroupUtility.compareDxDate(i1, i2, _currentYear);
+        return _compareDxDate;
+    }
+
+    /**
+     * Same as GroupUtility.verifyDaysApart()
+     */
+    public int verifyDaysApart(MphInput i1, MphInput i2, int days) {
+        if (!isRemembered(i1, i2))
+            return GroupUtility.verifyDaysApart(i1, i2, days, _currentYear);
+        for (int i = 0; i < _numDaysApart; i++)
+            if (_daysApartThresholds[i] == days)
+                return _daysApartValues[i];
+        int value = GroupUtility.verifyDaysApart(i1, i2, days, _currentYear);
+        if (_numDaysApart < _NUM_THRESHOLDS) {
+            _daysApartThresholds[_numDaysApart] = days;
+            _daysApartValues[_numDaysApart++] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Same as GroupUtility.verifyYearsApart()
+     */
+    public int verifyYearsApart(MphInput i1, MphInput i2, int years) {
+        if (!isRemembered(i1, i2))
+            return GroupUtility.verifyYearsApart(i1, i2, years, _currentYear);
+        for (int i = 0; i < _numYearsApart; i++)
+            if (_yearsApartThresholds[i] == years)
+                return _yearsApartValues[i];
+        int value = GroupUtility.verifyYearsApart(i1, i2, years, _currentYear);
+        if (_numYearsApart < _NUM_THRESHOLDS) {
+            _yearsApartThresholds[_numYearsApart] = years;
+            _yearsApartValues[_numYearsApart++] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Same as GroupUtility.sameKnownDateParts()
+     */
+    public boolean sameKnownDateParts(MphInput i1, MphInput i2) {
+        if (!isRemembered(i1, i2))
+            return GroupUtility.sameKnownDateParts(i1, i2);
+        if (_sameKnownDateParts == _UNKNOWN)
+            _sameKnownDateParts = GroupUtility.sameKnownDateParts(i1, i2) ? 1 : 0;
+        return _sameKnownDateParts == 1;
+    }
+
+    /**
+     * Same as GroupUtility.areSameSide() called with the lateralities of the tumors
+     */
+    public boolean areSameSide(MphInput i1, MphInput i2) {
+        return (getLateralityFlags(i1, i2) & _LATERALITY_SAME_SIDE) != 0;
+    }
+
+    /**
+     * Same as GroupUtility.areOppositeSides() called with the lateralities of the tumors
+     */
+    public boolean areOppositeSides(MphInput i1, MphInput i2) {
+        return (getLateralityFlags(i1, i2) & _LATERALITY_OPPOSITE_SIDES) != 0;
+    }
+
+    /**
+     * Same as GroupUtility.validPairedSiteLaterality() called with the lateralities of the tumors
+     */
+    public boolean validPairedSiteLaterality(MphInput i1, MphInput i2) {
+        return (getLateralityFlags(i1, i2) & _LATERALITY_VALID_PAIRED) != 0;
+    }
+
+    /**
+     * Same as GroupUtility.isPairedSites() called with the sites of the tumors; the result is remembered per list of paired sites.
+     */
+    public boolean isPairedSites(MphInput i1, MphInput i2, List<String> pairedSites) {
+        if (!isRemembered(i1, i2))
+            return GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), pairedSites);
+        for (int i = 0; i < _numPairedSites; i++)
+            if (_pairedSitesLists[i] == pairedSites)
+                return _pairedSitesValues[i];
+        boolean value = GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), pairedSites);
+        if (_numPairedSites < _NUM_PAIRED_SITES) {
+            _pairedSitesLists[_numPairedSites] = pairedSites;
+            _pairedSitesValues[_numPairedSites++] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if the primary sites of the tumors have the same first three characters (Cxx).
+     */
+    public boolean haveSameSitePrefix(MphInput i1, MphInput i2) {
+        if (!isRemembered(i1, i2))
+            return computeSameSitePrefix(i1, i2);
+        if (_sameSitePrefix == _UNKNOWN)
+            _sameSitePrefix = computeSameSitePrefix(i1, i2) ? 1 : 0;
+        return _sameSitePrefix == 1;
+    }
+
+    private static boolean computeSameSitePrefix(MphInput i1, MphInput i2) {
+        return i1.getPrimarySite().regionMatches(0, i2.getPrimarySite(), 0, 3);
+    }
+
+    private int getLateralityFlags(MphInput i1, MphInput i2) {
+        if (!isRemembered(i1, i2))
+            return computeLateralityFlags(i1.getLaterality(), i2.getLaterality());
+        if (_lateralityFlags == _UNKNOWN)
+            _lateralityFlags = computeLateralityFlags(i1.getLaterality(), i2.getLaterality());
+        return _lateralityFlags;
+    }
+
+    private static int computeLateralityFlags(String lat1, String lat2) {
+        int flags = 0;
+        if (GroupUtility.areSameSide(lat1, lat2))
+            flags |= _LATERALITY_SAME_SIDE;
+        if (GroupUtility.areOppositeSides(lat1, lat2))
+            flags |= _LATERALITY_OPPOSITE_SIDES;
+        if (GroupUtility.validPairedSiteLaterality(lat1, lat2))
+            flags |= _LATERALITY_VALID_PAIRED;
+        return flags;
+    }
+
+    /**
+     * Returns true if the features of the provided pair can be remembered (the tumors are unmodified inputs of records, which can't change), and makes sure the remembered
+     * features are the ones of that pair.
+     */
+    private boolean isRemembered(MphInput i1, MphInput i2) {
+        MphRecord record1 = MphRecord.getRecord(i1);
+        MphRecord record2 = MphRecord.getRecord(i2);
+        if (record1 == null || record2 == null)
+            return false;
+        if (record1 != _record1 || record2 != _record2) {
+            _record1 = record1;
+            _record2 = record2;
+            _compareDxDate = _UNKNOWN;
+            _sameKnownDateParts = _UNKNOWN;
+            _lateralityFlags = _UNKNOWN;
+            _sameSitePrefix = _UNKNOWN;
+            _numDaysApart = 0;
+            _numYearsApart = 0;
+            _numPairedSites = 0;
+            Arrays.fill(_pairedSitesLists, null);
+        }
+        return true;
+    }
 }
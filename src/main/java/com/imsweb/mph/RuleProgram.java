@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph;
+
+import java.util.List;
+
+import com.imsweb.mph.internal.TableRows;
+import com.imsweb.mph.internal.TempRuleResult;
+import com.imsweb.mph.mprules.MpRuleDifferentRowInTable;
+import com.imsweb.mph.mprules.MpRuleFollowing;
+import com.imsweb.mph.mprules.MpRuleHistology;
+import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
+import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituLessThan60Days;
+import com.imsweb.mph.mprules.MpRuleLaterality;
+import com.imsweb.mph.mprules.MpRuleNoCriteriaSatisfied;
+import com.imsweb.mph.mprules.MpRulePrimarySite;
+import com.imsweb.mph.mprules.MpRuleSameRowInTable;
+import com.imsweb.mph.mprules.MpRuleYearsApart;
+
+/**
+ * Compiled version of the rules of a group, applied by MphUtils.
+ * <br/><br/>
+ * Each rule becomes an instruction: the rules using one of the common shapes (years apart, laterality, same/different row in a table, etc...) are reduced
+ * to their operands (step, group name, number of years, compiled table, morphologies) when the program is created, and the evaluation of their
+ * instruction calls the static implementation of the shape with those operands, without going through the rule. The other rules (mostly the anonymous
+ * rules defined by the groups) use the CUSTOM instruction and are applied through MphRule.apply(). Only the rules of those exact classes are reduced to
+ * data, the subclasses might override apply() and are custom rules.
+ */
+final class RuleProgram {
+
+    static final byte CUSTOM = 0;
+    static final byte NO_CRITERIA_SATISFIED = 1;
+    static final byte INVASIVE_AFTER_INSITU_GREATER_THAN_60_DAYS = 2;
+    static final byte INVASIVE_AFTER_INSITU_LESS_THAN_60_DAYS = 3;
+    static final byte PRIMARY_SITE = 4;
+    static final byte HISTOLOGY = 5;
+    static final byte YEARS_APART = 6;
+    static final byte LATERALITY = 7;
+    static final byte SAME_ROW_IN_TABLE = 8;
+    static final byte DIFFERENT_ROW_IN_TABLE = 9;
+    static final byte FOLLOWING = 10;
+
+    private final MphRule[] _rules;
+
+    private final byte[] _instructions;
+
+    // the operands of the instructions, indexed like the rules (the operands an instruction doesn't use are not set)
+    private final String[] _steps;
+    private final String[] _groupNames;
+    private final int[] _years;
+    private final boolean[] _synchronous;
+    private final TableRows[] _tables;
+    private final String[] _laterMorphologies;
+    private final String[] _earlierMorphologies;
+
+    RuleProgram(List<MphRule> rules) {
+        _rules = rules.toArray(new MphRule[0]);
+        _instructions = new byte[_rules.length];
+        _steps = new String[_rules.length];
+        _groupNames = new String[_rules.length];
+        _years = new int[_rules.length];
+        _synchronous = new boolean[_rules.length];
+        _tables = new TableRows[_rules.length];
+        _laterMorphologies = new String[_rules.length];
+        _earlierMorphologies = new String[_rules.length];
+        for (int i = 0; i < _rules.length; i++)
+            compile(i, _rules[i]);
+    }
+
+    private void compile(int index, MphRule rule) {
+        _steps[index] = rule.getStep();
+        _groupNames[index] = rule.getGroupName();
+        Class<?> type = rule.getClass();
+        if (type == MpRuleNoCriteriaSatisfied.class)
+            _instructions[index] = NO_CRITERIA_SATISFIED;
+        else if (type == MpRuleInvasiveAfterInsituGreaterThan60Days.class)
+            _instructions[index] = INVASIVE_AFTER_INSITU_GREATER_THAN_60_DAYS;
+        else if (type == MpRuleInvasiveAfterInsituLessThan60Days.class)
+            _instructions[index] = INVASIVE_AFTER_INSITU_LESS_THAN_60_DAYS;
+        else if (type == MpRulePrimarySite.class)
+            _instructions[index] = PRIMARY_SITE;
+        else if (type == MpRuleHistology.class)
+            _instructions[index] = HISTOLOGY;
+        else if (type == MpRuleYearsApart.class) {
+            _instructions[index] = YEARS_APART;
+            _years[index] = ((MpRuleYearsApart)rule).getYears();
+        }
+        else if (type == MpRuleLaterality.class)
+            _instructions[index] = LATERALITY;
+        else if (type == MpRuleSameRowInTable.class) {
+            _instructions[index] = SAME_ROW_IN_TABLE;
+            _tables[index] = ((MpRuleSameRowInTable)rule).getTable();
+            _synchronous[index] = ((MpRuleSameRowInTable)rule).isSynchronous();
+        }
+        else if (type == MpRuleDifferentRowInTable.class) {
+            _instructions[index] = DIFFERENT_ROW_IN_TABLE;
+            _tables[index] = ((MpRuleDifferentRowInTable)rule).getTable();
+        }
+        else if (type == MpRuleFollowing.class) {
+            _instructions[index] = FOLLOWING;
+            _laterMorphologies[index] = ((MpRuleFollowing)rule).getLaterMorphology();
+            _earlierMorphologies[index] = ((MpRuleFollowing)rule).getEarlierMorphology();
+        }
+        else
+            _instructions[index] = CUSTOM;
+    }
+
+    int size() {
+        return _rules.length;
+    }
+
+    MphRule getRule(int index) {
+        return _rules[index];
+    }
+
+    byte getInstruction(int index) {
+        return _instructions[index];
+    }
+
+    /**
+     * Applies the rule at the provided index; same as calling apply() on the rule.
+     */
+    TempRuleResult apply(int index, MphInput i1, MphInput i2, RuleExecutionContext context) {
+        switch (_instructions[index]) {
+            case NO_CRITERIA_SATISFIED:
+                return MpRuleNoCriteriaSatisfied.evaluate();
+            case INVASIVE_AFTER_INSITU_GREATER_THAN_60_DAYS:
+                return MpRuleInvasiveAfterInsituGreaterThan60Days.evaluate(_steps[index], _groupNames[index], i1, i2, context);
+            case INVASIVE_AFTER_INSITU_LESS_THAN_60_DAYS:
+                return MpRuleInvasiveAfterInsituLessThan60Days.evaluate(_steps[index], _groupNames[index], i1, i2, context);
+            case PRIMARY_SITE:
+                return MpRulePrimarySite.evaluate(i1, i2, context);
+            case HISTOLOGY:
+                return MpRuleHistology.evaluate(i1, i2);
+            case YEARS_APART:
+                return MpRuleYearsApart.evaluate(_steps[index], _groupNames[index], _years[index], i1, i2, context);
+            case LATERALITY:
+                return MpRuleLaterality.evaluate(_steps[index], _groupNames[index], i1, i2, context);
+            case SAME_ROW_IN_TABLE:
+                return MpRuleSameRowInTable.evaluate(_steps[index], _groupNames[index], _tables[index], _synchronous[index], i1, i2, context);
+            case DIFFERENT_ROW_IN_TABLE:
+                return MpRuleDifferentRowInTable.evaluate(_steps[index], _groupNames[index], _tables[index], i1, i2);
+            case FOLLOWING:
+                return MpRuleFollowing.evaluate(_steps[index], _groupNames[index], _laterMorphologies[index], _earlierMorphologies[index], i1, i2, context);
+            default:
+                return _rules[index].apply(i1, i2, context);
+        }
+    }
+}
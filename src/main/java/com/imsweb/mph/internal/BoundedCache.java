@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache evicting the least recently used entries once its maximum size is reached.
+ * <br/><br/>
+ * The entries are split into segments using the hash of the keys; each segment has its own lock and evicts its own entries, which reduces
+ * the contention when the cache is used by many threads (the maximum size is therefore approximate).
+ */
+public class BoundedCache<K, V> {
+
+    private static final int _MAX_SEGMENTS = 16;
+
+    private final int _maximumSize;
+
+    private final Segment<K, V>[] _segments;
+
+    private final LongAdder _hits = new LongAdder();
+
+    private final LongAdder _misses = new LongAdder();
+
+    private final LongAdder _evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive");
+        _maximumSize = maximumSize;
+        int numSegments = Math.min(_MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        _segments = new Segment[numSegments];
+        for (int i = 0; i < numSegments; i++)
+            _segments[i] = new Segment<>((maximumSize + numSegments - 1) / numSegments, _evictions);
+    }
+
+    /**
+     * Returns the cached value for the provided key, null if there is no such value.
+     */
+    public V get(K key) {
+        V value = segmentFor(key).get(key);
+        if (value == null)
+            _misses.increment();
+        else
+            _hits.increment();
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the provided key, null if there is no such value; unlike get(), this method doesn't update the statistics.
+     */
+    public V peek(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Caches the provided value, unless a value is already cached for that key; returns the value that ends up cached.
+     */
+    public V putIfAbsent(K key, V value) {
+        return segmentFor(key).putIfAbsent(key, value);
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : _segments)
+            segment.clear();
+    }
+
+    public int getMaximumSize() {
+        return _maximumSize;
+    }
+
+    public int getSize() {
+        int size = 0;
+        for (Segment<K, V> segment : _segments)
+            size += segment.size();
+        return size;
+    }
+
+    public long getHits() {
+        return _hits.sum();
+    }
+
+    public long getMisses() {
+        return _misses.sum();
+    }
+
+    public long getEvictions() {
+        return _evictions.sum();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return _segments[hash & (_segments.length - 1)];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final Map<K, V> _map;
+
+        Segment(int maximumSize, LongAdder evictions) {
+            _map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key) {
+            return _map.get(key);
+        }
+
+        synchronized V putIfAbsent(K key, V value) {
+            V existing = _map.get(key);
+            if (existing != null)
+                return existing;
+            _map.put(key, value);
+            return value;
+        }
+
+        synchronized void clear() {
+            _map.clear();
+        }
+
+        synchronized int size() {
+            return _map.size();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.imsweb.mph.MphGroup;
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * Index returning the first applicable group (in the order they were provided) for a site, histology, behavior and year.
+ * <br/><br/>
+ * The boundaries of the ranges the groups depend on split each dimension into classes of values for which every group gives the same answer;
+ * the applicable group is computed once per combination of classes (using a representative value of each class) and stored in a table.
+ * <br/><br/>
+ * The classes of years are the eras of the rules: within an era, the group of a tumor only depends on its site, histology and behavior, so the group of
+ * a tumor can be computed once per era (see findIndex()).
+ * <br/><br/>
+ * The index doesn't depend on the current year: it is built as if no diagnosis year up to 9999 was in the future, so the callers must reject the
+ * years that are after their own current year before using it.
+ * <br/><br/>
+ * This class is thread-safe.
+ */
+public class CancerGroupIndex {
+
+    private static final int _MIN_SITE = 0;
+    private static final int _MAX_SITE = 999;
+    private static final int _MIN_HIST = 8000;
+    private static final int _MAX_HIST = 9999;
+    private static final int _MIN_YEAR = 0;
+    private static final int _MAX_YEAR = 9999;
+
+    // the valid behaviors, and the class of each behavior (-1 for invalid ones)
+    private static final String[] _BEHAVIORS = {"0", "1", "2", "3", "6"};
+    private static final int[] _BEHAVIOR_CLASSES = {0, 1, 2, 3, -1, -1, 4};
+
+    private final MphGroup[] _groups;
+
+    private final int[] _siteClasses;
+    private final int[] _histClasses;
+    private final int[] _yearClasses;
+    private final int _numSiteClasses;
+    private final int _numHistClasses;
+
+    // the representative values of the classes
+    private final int[] _years;
+    private final String[] _sites;
+    private final String[] _hists;
+
+    // for each combination of year and behavior classes, the index of the applicable group for each combination of site and histology classes (-1 if no group applies);
+    // a slice is computed the first time it's needed since most of the years are never used
+    private final AtomicReferenceArray<short[]> _slices;
+
+    public CancerGroupIndex(List<MphGroup> groups) {
+        _groups = groups.toArray(new MphGroup[0]);
+
+        List<String> siteRanges = new ArrayList<>();
+        List<String> histRanges = new ArrayList<>();
+        List<String> yearRanges = new ArrayList<>();
+        for (MphGroup group : groups) {
+            siteRanges.addAll(group.getApplicabilitySiteRanges());
+            histRanges.addAll(group.getApplicabilityHistologyRanges());
+            yearRanges.addAll(group.getApplicabilityYearRanges());
+        }
+
+        _siteClasses = new int[_MAX_SITE - _MIN_SITE + 1];
+        int[] siteValues = computeClasses(siteRanges, true, _MIN_SITE, _siteClasses);
+        _histClasses = new int[_MAX_HIST - _MIN_HIST + 1];
+        int[] histValues = computeClasses(histRanges, false, _MIN_HIST, _histClasses);
+        _yearClasses = new int[_MAX_YEAR - _MIN_YEAR + 1];
+        int[] yearValues = computeClasses(yearRanges, false, _MIN_YEAR, _yearClasses);
+        _numSiteClasses = siteValues.length;
+        _numHistClasses = histValues.length;
+
+        _years = yearValues;
+        _sites = new String[siteValues.length];
+        for (int i = 0; i < siteValues.length; i++)
+            _sites[i] = String.format("C%03d", siteValues[i]);
+        _hists = new String[histValues.length];
+        for (int i = 0; i < histValues.length; i++)
+            _hists[i] = String.valueOf(histValues[i]);
+
+        _slices = new AtomicReferenceArray<>(yearValues.length * _BEHAVIORS.length);
+    }
+
+    /**
+     * Returns the first applicable group; the values must be valid (and the year must be between 0 and 9999).
+     */
+    public MphGroup find(int site, int histology, int behavior, int year) {
+        int groupIdx = findIndex(site, histology, behavior, getEra(year));
+        return groupIdx == -1 ? null : _groups[groupIdx];
+    }
+
+    /**
+     * Returns the index of the first applicable group in the era (see getEra()), -1 if no group applies; the values must be valid.
+     */
+    public int findIndex(int site, int histology, int behavior, int era) {
+        int sliceIdx = era * _BEHAVIORS.length + _BEHAVIOR_CLASSES[behavior];
+        short[] slice = _slices.get(sliceIdx);
+        if (slice == null) {
+            slice = computeSlice(_years[era], _BEHAVIORS[sliceIdx % _BEHAVIORS.length]);
+            _slices.set(sliceIdx, slice);
+        }
+        return slice[_siteClasses[site - _MIN_SITE] * _numHistClasses + _histClasses[histology - _MIN_HIST]];
+    }
+
+    /**
+     * Returns the group at the provided index (see findIndex()).
+     */
+    public MphGroup getGroup(int groupIdx) {
+        return _groups[groupIdx];
+    }
+
+    /**
+     * Returns the era of the provided year (between 0 and 9999); the eras are delimited by the year ranges of the groups.
+     */
+    public int getEra(int year) {
+        return _yearClasses[year - _MIN_YEAR];
+    }
+
+    /**
+     * Returns the number of eras.
+     */
+    public int getNumEras() {
+        return _years.length;
+    }
+
+    /**
+     * Returns the first year of each era.
+     */
+    public int[] getEraStartYears() {
+        return _years.clone();
+    }
+
+    /**
+     * Returns true if the provided valid values can be used with the index; this requires a histology without leading zeros and a year between 0 and 9999
+     * (the year must also have been validated against the current year of the caller).
+     */
+    public boolean isIndexable(String histology, int year) {
+        return histology.length() == 4 && year >= _MIN_YEAR && year <= _MAX_YEAR;
+    }
+
+    private short[] computeSlice(int year, String behavior) {
+        short[] slice = new short[_numSiteClasses * _numHistClasses];
+        int idx = 0;
+        for (String site : _sites)
+            for (String hist : _hists)
+                slice[idx++] = (short)findGroupIndex(site, hist, behavior, year);
+        return slice;
+    }
+
+    private int findGroupIndex(String site, String hist, String behavior, int year) {
+        for (int i = 0; i < _groups.length; i++)
+            if (_groups[i].isApplicable(site, hist, behavior, year, _MAX_YEAR))
+                return i;
+        return -1;
+    }
+
+    // assigns a class to each value of the domain and returns a representative value for each class
+    private static int[] computeClasses(List<String> rawRanges, boolean isSite, int min, int[] classes) {
+        int max = min + classes.length - 1;
+
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        boundaries.add(min);
+        for (String rawRange : rawRanges) {
+            for (Range range : GroupUtility.computeRange(rawRange, isSite)) {
+                if (range.getMinimum() > min && range.getMinimum() <= max)
+                    boundaries.add(range.getMinimum());
+                if (range.getMaximum() >= min && range.getMaximum() < max)
+                    boundaries.add(range.getMaximum() + 1);
+            }
+        }
+
+        int[] values = new int[boundaries.size()];
+        int classIdx = -1;
+        for (int value = min; value <= max; value++) {
+            if (boundaries.contains(value))
+                values[++classIdx] = value;
+            classes[value - min] = classIdx;
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+/**
+ * Parsing of the standard code formats (C000-C999 for the sites, 8000-9999 for the histologies and 8000/0-9999/9 for the morphologies) into the
+ * indexes used by the compiled lists and tables and by the hemato indexes (which store the morphologies as those indexes).
+ * <br/><br/>
+ * The groups compiling their own histology ranges use parseHistology(), which doesn't require the histology to be in 8000-9999.
+ */
+public final class CodeFormat {
+
+    private static final int _MIN_HISTOLOGY = 8000;
+
+    private CodeFormat() {
+        // static utility class
+    }
+
+    // returns the index of a site using the Cxxx format, -1 if the value doesn't use that format
+    static int getSiteIndex(String value) {
+        if (value == null || value.length() != 4 || value.charAt(0) != 'C')
+            return -1;
+        return parseDigits(value, 1, 4);
+    }
+
+    /**
+     * Returns the value of a four-digit histology, -1 if the value is not made of four digits
+     */
+    public static int parseHistology(String value) {
+        if (value == null || value.length() != 4)
+            return -1;
+        return parseDigits(value, 0, 4);
+    }
+
+    // returns the index of a histology using the 8000-9999 format, -1 if the value doesn't use that format
+    static int getHistologyIndex(String value) {
+        int histology = parseHistology(value);
+        return histology >= _MIN_HISTOLOGY ? histology - _MIN_HISTOLOGY : -1;
+    }
+
+    // returns the index of a morphology using the 8000/0-9999/9 format, -1 if the value doesn't use that format
+    static int getMorphologyIndex(String value) {
+        if (value == null || value.length() != 6 || value.charAt(4) != '/')
+            return -1;
+        int histology = parseDigits(value, 0, 4);
+        int behavior = parseDigits(value, 5, 6);
+        return histology >= _MIN_HISTOLOGY && behavior != -1 ? (histology - _MIN_HISTOLOGY) * 10 + behavior : -1;
+    }
+
+    // returns the value of the provided digits, -1 if one of the characters is not a digit
+    private static int parseDigits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
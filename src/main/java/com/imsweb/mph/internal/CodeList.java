@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * Immutable list of codes (sites, histologies or histology/behavior morphologies) with a constant-time contains() method.
+ * <br/><br/>
+ * The codes using the standard formats (C000-C999 for the sites, 8000-9999 for the histologies and 8000/0-9999/9 for the morphologies) are stored in
+ * bit sets; any other value (site prefixes like "C44", values with spaces, etc...) is stored in a hash set. Since a standard code can only be equal to
+ * another standard code of the same format, the list behaves exactly like a regular list of strings.
+ */
+public final class CodeList extends AbstractList<String> implements RandomAccess {
+
+    private static final int _NUM_SITES = 1000;
+
+    private static final int _NUM_HISTOLOGIES = 2000;
+
+    private final String[] _codes;
+
+    // the sites, histologies and morphologies of the list, null if there is no such code
+    private final BitSet _sites;
+    private final BitSet _histologies;
+    private final BitSet _morphologies;
+
+    // the values that don't use one of the standard formats, null if there is no such value
+    private final Set<String> _others;
+
+    private CodeList(String[] codes) {
+        _codes = codes;
+
+        BitSet sites = null, histologies = null, morphologies = null;
+        Set<String> others = null;
+        for (String code : codes) {
+            int idx;
+            if ((idx = CodeFormat.getSiteIndex(code)) != -1) {
+                if (sites == null)
+                    sites = new BitSet(_NUM_SITES);
+                sites.set(idx);
+            }
+            else if ((idx = CodeFormat.getHistologyIndex(code)) != -1) {
+                if (histologies == null)
+                    histologies = new BitSet(_NUM_HISTOLOGIES);
+                histologies.set(idx);
+            }
+            else if ((idx = CodeFormat.getMorphologyIndex(code)) != -1) {
+                if (morphologies == null)
+                    morphologies = new BitSet(_NUM_HISTOLOGIES * 10);
+                morphologies.set(idx);
+            }
+            else {
+                if (others == null)
+                    others = new HashSet<>();
+                others.add(code);
+            }
+        }
+        _sites = sites;
+        _histologies = histologies;
+        _morphologies = morphologies;
+        _others = others;
+    }
+
+    /**
+     * Creates a list containing the provided codes, in the same order.
+     */
+    public static CodeList of(String... codes) {
+        return new CodeList(codes.clone());
+    }
+
+    /**
+     * Creates a list containing the provided codes, in the same order.
+     */
+    public static CodeList of(Collection<String> codes) {
+        return new CodeList(codes.toArray(new String[0]));
+    }
+
+    /**
+     * Creates a list containing the expanded values of the provided comma-separated codes and ranges (see GroupUtility.expandList()).
+     */
+    public static CodeList expand(String rawValue) {
+        List<String> codes = GroupUtility.expandList(rawValue);
+        return new CodeList(codes == null ? new String[0] : codes.toArray(new String[0]));
+    }
+
+    @Override
+    public String get(int index) {
+        return _codes[index];
+    }
+
+    @Override
+    public int size() {
+        return _codes.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof String) {
+            String code = (String)o;
+            int idx;
+            if ((idx = CodeFormat.getSiteIndex(code)) != -1)
+                return _sites != null && _sites.get(idx);
+            if ((idx = CodeFormat.getHistologyIndex(code)) != -1)
+                return _histologies != null && _histologies.get(idx);
+            if ((idx = CodeFormat.getMorphologyIndex(code)) != -1)
+                return _morphologies != null && _morphologies.get(idx);
+        }
+        return _others != null && _others.contains(o);
+    }
+}
@@ -26,14 +26,45 @@ public class HematoDTO {
     }
 
     public boolean matches(String morphology, int year) {
-        Short startYear = _startYear;
-        if (startYear == null)
-            startYear = _validStartYear != null ? _validStartYear : 0;
-        Short endYear = _endYear;
-        if (endYear == null)
-            endYear = _validEndYear != null ? _validEndYear : 9999;
-
-        return year >= startYear && year <= endYear && morphology.equals(_morphology);
+        return year >= getEffectiveStartYear() && year <= getEffectiveEndYear() && morphology.equals(_morphology);
+    }
+
+    /**
+     * Returns the first year this row applies to (the start year, or the valid start year if there is no start year, or 0 if there is none).
+     */
+    public int getEffectiveStartYear() {
+        if (_startYear != null)
+            return _startYear;
+        return _validStartYear != null ? _validStartYear : 0;
+    }
+
+    /**
+     * Returns the last year this row applies to (the end year, or the valid end year if there is no end year, or 9999 if there is none).
+     */
+    public int getEffectiveEndYear() {
+        if (_endYear != null)
+            return _endYear;
+        return _validEndYear != null ? _validEndYear : 9999;
+    }
+
+    public Short getValidStartYear() {
+        return _validStartYear;
+    }
+
+    public Short getValidEndYear() {
+        return _validEndYear;
+    }
+
+    public Short getStartYear() {
+        return _startYear;
+    }
+
+    public Short getEndYear() {
+        return _endYear;
+    }
+
+    public String getMorphology() {
+        return _morphology;
     }
 
     @Override
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Immutable index of hemato rows (same primary, transform to or transform from), keyed by morphology.
+ * <br/><br/>
+ * The morphologies using the standard format (8000/0-9999/9) are encoded as integers: for each morphology, the index stores the encoded morphologies of its
+ * rows (sorted) with their packed year bounds, so checking whether a row matches a morphology and a year is a binary search that doesn't allocate anything.
+ * The other morphologies are checked against the original rows, so the behavior is the same as calling HematoDTO.matches() on each row.
+ * <br/><br/>
+ * An index can also be written to a binary snapshot and read back from a (memory-mapped) buffer, in which case the lookups read the buffer directly.
+ */
+public final class HematoIndex {
+
+    private static final int _MIN_HISTOLOGY = 8000;
+
+    private static final int _NUM_MORPHOLOGIES = 20000;
+
+    // the value of the years that are not defined in a snapshot
+    private static final short _NO_YEAR = Short.MIN_VALUE;
+
+    // the original rows, null if the index was read from a snapshot
+    private final Map<String, List<HematoDTO>> _rows;
+
+    // true if all the morphologies of the original rows use the standard format (the index can then be written to a snapshot)
+    private final boolean _standard;
+
+    // for each encoded morphology, the position of its first row in the buffers below (the rows of the morphology M are between _offsets[M] and _offsets[M + 1])
+    private final IntBuffer _offsets;
+
+    // the encoded morphology and packed year bounds (start year in the high 16 bits, end year in the low 16 bits) of each row, sorted by morphology
+    private final IntBuffer _morphologies;
+    private final IntBuffer _years;
+
+    // the rows in their original order, three values per row (encoded morphology, packed valid years, packed years); only used by snapshots
+    private final IntBuffer _snapshotRows;
+
+    public HematoIndex(Map<String, List<HematoDTO>> rows) {
+        _rows = rows;
+
+        boolean standard = true;
+        List<long[]> entries = new ArrayList<>();
+        for (Entry<String, List<HematoDTO>> entry : rows.entrySet()) {
+            int key = CodeFormat.getMorphologyIndex(entry.getKey());
+            if (key == -1) {
+                standard = false;
+                continue;
+            }
+            for (HematoDTO dto : entry.getValue()) {
+                // a row with a non-standard morphology can't match a standard one, so it's only needed by the fallback
+                int morphology = CodeFormat.getMorphologyIndex(dto.getMorphology());
+                if (morphology != -1)
+                    entries.add(new long[] {key, morphology, packYears(dto.getEffectiveStartYear(), dto.getEffectiveEndYear())});
+                else
+                    standard = false;
+            }
+        }
+        entries.sort((e1, e2) -> e1[0] != e2[0] ? Long.compare(e1[0], e2[0]) : Long.compare(e1[1], e2[1]));
+
+        int[] offsets = new int[_NUM_MORPHOLOGIES + 1];
+        int[] morphologies = new int[entries.size()];
+        int[] years = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            long[] entry = entries.get(i);
+            offsets[(int)entry[0] + 1]++;
+            morphologies[i] = (int)entry[1];
+            years[i] = (int)entry[2];
+        }
+        for (int i = 0; i < _NUM_MORPHOLOGIES; i++)
+            offsets[i + 1] += offsets[i];
+
+        _standard = standard;
+        _offsets = IntBuffer.wrap(offsets);
+        _morphologies = IntBuffer.wrap(morphologies);
+        _years = IntBuffer.wrap(years);
+        _snapshotRows = null;
+    }
+
+    private HematoIndex(IntBuffer offsets, IntBuffer morphologies, IntBuffer years, IntBuffer snapshotRows) {
+        _rows = null;
+        _standard = true;
+        _offsets = offsets;
+        _morphologies = morphologies;
+        _years = years;
+        _snapshotRows = snapshotRows;
+    }
+
+    /**
+     * Returns the rows of the provided morphology, an empty list if there is none.
+     */
+    public List<HematoDTO> getRows(String morphology) {
+        if (_rows != null)
+            return _rows.getOrDefault(morphology, Collections.emptyList());
+
+        int key = CodeFormat.getMorphologyIndex(morphology);
+        if (key == -1 || _offsets.get(key) == _offsets.get(key + 1))
+            return Collections.emptyList();
+        List<HematoDTO> result = new ArrayList<>();
+        for (int i = _offsets.get(key); i < _offsets.get(key + 1); i++) {
+            int validYears = _snapshotRows.get(i * 3 + 1);
+            int years = _snapshotRows.get(i * 3 + 2);
+            result.add(new HematoDTO(unpackYear(validYears >> 16), unpackYear((short)validYears), unpackYear(years >> 16), unpackYear((short)years),
+                    decodeMorphology(_snapshotRows.get(i * 3))));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns true if one of the rows of the provided morphology matches the other morphology and the year (see HematoDTO.matches()).
+     */
+    public boolean matches(String morphology, String otherMorphology, int year) {
+        int key = CodeFormat.getMorphologyIndex(morphology);
+        int target = CodeFormat.getMorphologyIndex(otherMorphology);
+        if (key == -1 || target == -1) {
+            for (HematoDTO dto : getRows(morphology))
+                if (dto.matches(otherMorphology, year))
+                    return true;
+            return false;
+        }
+
+        // find the first row of the target morphology, then check the year bounds of all its rows
+        int end = _offsets.get(key + 1);
+        int low = _offsets.get(key);
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (_morphologies.get(mid) < target)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        for (int i = low; i < end && _morphologies.get(i) == target; i++) {
+            int years = _years.get(i);
+            if (year >= (years >> 16) && year <= (short)years)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the index to a snapshot (see read()).
+     * @throws IllegalStateException if some of the rows don't use the standard morphology format or can't be stored in a snapshot
+     */
+    public void write(DataOutput out) throws IOException {
+        if (_rows == null || !_standard)
+            throw new IllegalStateException("Only an index created from standard morphologies can be written to a snapshot");
+
+        int numRows = _morphologies.capacity();
+        out.writeInt(numRows);
+        for (int i = 0; i <= _NUM_MORPHOLOGIES; i++)
+            out.writeInt(_offsets.get(i));
+        for (int i = 0; i < numRows; i++)
+            out.writeInt(_morphologies.get(i));
+        for (int i = 0; i < numRows; i++)
+            out.writeInt(_years.get(i));
+
+        // the rows of each morphology, in their original order
+        for (int key = 0; key < _NUM_MORPHOLOGIES; key++) {
+            if (_offsets.get(key) == _offsets.get(key + 1))
+                continue;
+            for (HematoDTO dto : _rows.get(decodeMorphology(key))) {
+                out.writeInt(CodeFormat.getMorphologyIndex(dto.getMorphology()));
+                out.writeInt(packYears(packYear(dto.getValidStartYear()), packYear(dto.getValidEndYear())));
+                out.writeInt(packYears(packYear(dto.getStartYear()), packYear(dto.getEndYear())));
+            }
+        }
+    }
+
+    /**
+     * Reads an index written by write(), starting at the current position of the buffer; the position is moved after the index. The returned index reads
+     * the buffer directly, without copying it.
+     * @throws IllegalStateException if the buffer doesn't contain a valid index
+     */
+    public static HematoIndex read(ByteBuffer buffer) {
+        int numRows = buffer.getInt();
+        if (numRows < 0)
+            throw new IllegalStateException("Invalid number of rows: " + numRows);
+        IntBuffer offsets = readInts(buffer, _NUM_MORPHOLOGIES + 1);
+        IntBuffer morphologies = readInts(buffer, numRows);
+        IntBuffer years = readInts(buffer, numRows);
+        IntBuffer rows = readInts(buffer, numRows * 3);
+
+        // the lookups rely on the offsets, so make sure they can't go out of bounds
+        if (offsets.get(0) != 0 || offsets.get(_NUM_MORPHOLOGIES) != numRows)
+            throw new IllegalStateException("Invalid offsets");
+        for (int i = 0; i < _NUM_MORPHOLOGIES; i++)
+            if (offsets.get(i) > offsets.get(i + 1))
+                throw new IllegalStateException("Invalid offsets");
+
+        return new HematoIndex(offsets, morphologies, years, rows);
+    }
+
+    private static IntBuffer readInts(ByteBuffer buffer, int count) {
+        if (buffer.remaining() < count * 4L)
+            throw new IllegalStateException("Unexpected end of snapshot");
+        ByteBuffer slice = buffer.slice();
+        slice.limit(count * 4);
+        buffer.position(buffer.position() + count * 4);
+        return slice.asIntBuffer();
+    }
+
+    private static String decodeMorphology(int value) {
+        return (_MIN_HISTOLOGY + value / 10) + "/" + (value % 10);
+    }
+
+    // the year bounds always fit in a short (the years are stored as shorts, the default bounds are 0 and 9999)
+    private static int packYears(int startYear, int endYear) {
+        return (startYear << 16) | (endYear & 0xFFFF);
+    }
+
+    private static int packYear(Short year) {
+        if (year != null && year == _NO_YEAR)
+            throw new IllegalStateException("Year " + year + " can't be written to a snapshot");
+        return year == null ? _NO_YEAR : year;
+    }
+
+    private static Short unpackYear(int year) {
+        return year == _NO_YEAR ? null : (short)year;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Binary snapshot of the hemato tables (same primary, transform to and transform from), read through a memory-mapped buffer.
+ * <br/><br/>
+ * The file starts with a header (magic number, format version and the "last updated" value of the data), followed by the three tables (see HematoIndex)
+ * and the morphologies covered by the snapshot (all the morphologies, or only the ones listed when the snapshot was written).
+ */
+public final class HematoSnapshot {
+
+    private static final int _MAGIC = 0x4D504848;
+
+    private static final int _VERSION = 1;
+
+    // the number of covered morphologies written when all the morphologies are covered
+    private static final int _ALL_MORPHOLOGIES = -1;
+
+    private final String _lastUpdated;
+
+    private final HematoIndex _samePrimary;
+    private final HematoIndex _transformTo;
+    private final HematoIndex _transformFrom;
+
+    // the encoded morphologies covered by the snapshot, null if all of them are covered
+    private final BitSet _covered;
+
+    private HematoSnapshot(String lastUpdated, HematoIndex samePrimary, HematoIndex transformTo, HematoIndex transformFrom, BitSet covered) {
+        _lastUpdated = lastUpdated;
+        _samePrimary = samePrimary;
+        _transformTo = transformTo;
+        _transformFrom = transformFrom;
+        _covered = covered;
+    }
+
+    public String getLastUpdated() {
+        return _lastUpdated;
+    }
+
+    public HematoIndex getSamePrimary() {
+        return _samePrimary;
+    }
+
+    public HematoIndex getTransformTo() {
+        return _transformTo;
+    }
+
+    public HematoIndex getTransformFrom() {
+        return _transformFrom;
+    }
+
+    /**
+     * Returns true if the snapshot contains the rows of all the morphologies.
+     */
+    public boolean coversAll() {
+        return _covered == null;
+    }
+
+    /**
+     * Returns true if the snapshot contains the rows of the provided morphology.
+     */
+    public boolean covers(String morphology) {
+        if (_covered == null)
+            return true;
+        int value = CodeFormat.getMorphologyIndex(morphology);
+        return value != -1 && _covered.get(value);
+    }
+
+    /**
+     * Writes a snapshot; the file is replaced atomically if it already exists.
+     * @param file file to write
+     * @param lastUpdated "last updated" value of the data
+     * @param samePrimary same primary table
+     * @param transformTo transform to table
+     * @param transformFrom transform from table
+     * @param coveredMorphologies the morphologies covered by the tables, null if they cover all the morphologies
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Path file, String lastUpdated, HematoIndex samePrimary, HematoIndex transformTo, HematoIndex transformFrom, Collection<String> coveredMorphologies)
+            throws IOException {
+        Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(_MAGIC);
+                out.writeInt(_VERSION);
+                out.writeUTF(lastUpdated);
+                // the tables are aligned on 4 bytes since they are read as integers
+                while (out.size() % 4 != 0)
+                    out.writeByte(0);
+                samePrimary.write(out);
+                transformTo.write(out);
+                transformFrom.write(out);
+                if (coveredMorphologies == null)
+                    out.writeInt(_ALL_MORPHOLOGIES);
+                else {
+                    BitSet covered = new BitSet();
+                    for (String morphology : coveredMorphologies) {
+                        int value = CodeFormat.getMorphologyIndex(morphology);
+                        if (value == -1)
+                            throw new IllegalStateException("Morphology " + morphology + " can't be written to a snapshot");
+                        covered.set(value);
+                    }
+                    out.writeInt(covered.cardinality());
+                    for (int value = covered.nextSetBit(0); value >= 0; value = covered.nextSetBit(value + 1))
+                        out.writeInt(value);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by write(); the tables read the memory-mapped file directly.
+     * @param file file to read
+     * @return the snapshot, null if the file doesn't exist or is not a valid snapshot
+     */
+    public static HematoSnapshot read(Path file) {
+        if (!Files.isRegularFile(file))
+            return null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != _MAGIC || buffer.getInt() != _VERSION)
+                return null;
+            byte[] lastUpdated = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(lastUpdated);
+            while (buffer.position() % 4 != 0)
+                buffer.get();
+            HematoIndex samePrimary = HematoIndex.read(buffer);
+            HematoIndex transformTo = HematoIndex.read(buffer);
+            HematoIndex transformFrom = HematoIndex.read(buffer);
+            BitSet covered = null;
+            int numCovered = buffer.getInt();
+            if (numCovered != _ALL_MORPHOLOGIES) {
+                covered = new BitSet();
+                for (int i = 0; i < numCovered; i++)
+                    covered.set(buffer.getInt());
+            }
+            if (buffer.hasRemaining())
+                return null;
+            return new HematoSnapshot(new String(lastUpdated, StandardCharsets.UTF_8), samePrimary, transformTo, transformFrom, covered);
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * Immutable set of integers defined by a list of ranges (like "8000-8523,8527"), stored as sorted and merged intervals in a primitive array.
+ * <br/><br/>
+ * Checking a value is a binary search over the intervals and doesn't allocate anything. The behavior is the same as calling GroupUtility.isContained()
+ * with the ranges returned by GroupUtility.computeRange().
+ */
+public final class IntervalSet {
+
+    private static final IntervalSet _EMPTY = new IntervalSet(new int[0]);
+
+    // the minimum and maximum of each interval (min0, max0, min1, max1, etc...), sorted, without overlapping or adjacent intervals
+    private final int[] _bounds;
+
+    private IntervalSet(int[] bounds) {
+        _bounds = bounds;
+    }
+
+    /**
+     * Creates the set corresponding to the provided comma-separated list of values and ranges (see GroupUtility.computeRange()).
+     */
+    public static IntervalSet of(String rawValue, boolean isSite) {
+        return of(GroupUtility.computeRange(rawValue, isSite));
+    }
+
+    /**
+     * Creates the set corresponding to the provided ranges; the ranges having a minimum greater than their maximum are ignored.
+     */
+    public static IntervalSet of(List<Range> ranges) {
+        List<Range> sorted = new ArrayList<>();
+        for (Range range : ranges)
+            if (range.getMinimum() <= range.getMaximum())
+                sorted.add(range);
+        if (sorted.isEmpty())
+            return _EMPTY;
+        sorted.sort((r1, r2) -> Integer.compare(r1.getMinimum(), r2.getMinimum()));
+
+        int[] bounds = new int[sorted.size() * 2];
+        int size = 0;
+        for (Range range : sorted) {
+            // merge the range with the previous interval if they overlap or are adjacent
+            if (size > 0 && (long)range.getMinimum() <= (long)bounds[size - 1] + 1)
+                bounds[size - 1] = Math.max(bounds[size - 1], range.getMaximum());
+            else {
+                bounds[size++] = range.getMinimum();
+                bounds[size++] = range.getMaximum();
+            }
+        }
+        return new IntervalSet(size == bounds.length ? bounds : Arrays.copyOf(bounds, size));
+    }
+
+    /**
+     * Returns true if the provided value belongs to the set.
+     */
+    public boolean contains(int value) {
+        int low = 0;
+        int high = _bounds.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (value < _bounds[mid * 2])
+                high = mid - 1;
+            else if (value > _bounds[mid * 2 + 1])
+                low = mid + 1;
+            else
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphRecord;
+
+/**
+ * Immutable "NOS vs specific histology" relation (for example "Carcinoma, NOS (8010) and another is a specific carcinoma"), stored as a bit matrix with one
+ * row per NOS histology and one column per histology (8000-9999).
+ * <br/><br/>
+ * The relation is created from a chart mapping the NOS histologies to their specific histologies (see MphConstants.NOS_VS_SPECIFIC), restricted to the NOS
+ * histologies used by a given rule.
+ */
+public final class NosVsSpecific {
+
+    private static final int _NUM_HISTOLOGIES = 2000;
+
+    private static final int _MIN_HISTOLOGY = 8000;
+
+    // the number of words of each row of the matrix
+    private static final int _WORDS_PER_ROW = (_NUM_HISTOLOGIES + 63) / 64;
+
+    // the row of each NOS histology, -1 for the histologies that are not NOS
+    private final int[] _rows = new int[_NUM_HISTOLOGIES];
+
+    // the specific histologies of each NOS histology, one row of bits per NOS histology
+    private final long[] _matrix;
+
+    /**
+     * Constructor
+     * @param chart the specific histologies of the NOS histologies
+     * @param nosHistologies the NOS histologies to use from the chart
+     */
+    public NosVsSpecific(Map<String, List<String>> chart, Collection<String> nosHistologies) {
+        Arrays.fill(_rows, -1);
+        int numRows = 0;
+        for (String nos : nosHistologies) {
+            int idx = CodeFormat.getHistologyIndex(nos);
+            if (idx != -1 && _rows[idx] == -1 && chart.containsKey(nos))
+                _rows[idx] = numRows++;
+        }
+
+        _matrix = new long[numRows * _WORDS_PER_ROW];
+        for (int nos = 0; nos < _NUM_HISTOLOGIES; nos++) {
+            if (_rows[nos] == -1)
+                continue;
+            for (String histology : chart.get(String.valueOf(_MIN_HISTOLOGY + nos))) {
+                // the histologies that don't use the standard format can't be equal to the one of a tumor that can be NOS vs specific
+                int idx = CodeFormat.getHistologyIndex(histology);
+                if (idx != -1)
+                    _matrix[_rows[nos] * _WORDS_PER_ROW + (idx >>> 6)] |= 1L << idx;
+            }
+        }
+    }
+
+    /**
+     * Returns true if one of the histologies is NOS and the other one is one of its specific histologies.
+     */
+    public boolean isNosVsSpecific(int histology1, int histology2) {
+        return isSpecific(histology1, histology2) || isSpecific(histology2, histology1);
+    }
+
+    /**
+     * Returns true if the histology of one of the tumors is NOS and the histology of the other one is one of its specific histologies.
+     */
+    public boolean isNosVsSpecific(MphInput input1, MphInput input2) {
+        return isNosVsSpecific(getHistologyCode(input1), getHistologyCode(input2));
+    }
+
+    private boolean isSpecific(int nos, int histology) {
+        if (nos < _MIN_HISTOLOGY || nos >= _MIN_HISTOLOGY + _NUM_HISTOLOGIES || histology < _MIN_HISTOLOGY || histology >= _MIN_HISTOLOGY + _NUM_HISTOLOGIES)
+            return false;
+        int row = _rows[nos - _MIN_HISTOLOGY];
+        int idx = histology - _MIN_HISTOLOGY;
+        return row != -1 && (_matrix[row * _WORDS_PER_ROW + (idx >>> 6)] & (1L << idx)) != 0;
+    }
+
+    // returns the histology of the tumor if it uses the 8000-9999 format, -1 otherwise
+    private static int getHistologyCode(MphInput input) {
+        String histology = input.getHistology();
+        MphRecord record = MphRecord.getRecord(input);
+        if (record != null && record.getHistologyCode() != -1 && histology.length() == 4)
+            return record.getHistologyCode();
+        int idx = CodeFormat.getHistologyIndex(histology);
+        return idx == -1 ? -1 : _MIN_HISTOLOGY + idx;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of paired sites, each entry being a comma-separated list of sites and site ranges (like "C080,C081").
+ * <br/><br/>
+ * The entries are compiled when the list is created: for each site, a bit mask tells which entries contain that site, so checking whether two sites
+ * belong to the same entry (see GroupUtility.isPairedSites()) doesn't allocate anything.
+ */
+public final class PairedSites extends AbstractList<String> implements RandomAccess {
+
+    private static final int _NUM_SITES = 1000;
+
+    private final String[] _entries;
+
+    private final SiteSet[] _sets;
+
+    // for each site C000-C999, the entries containing that site (one bit per entry); null if there are more than 64 entries
+    private final long[] _masks;
+
+    private PairedSites(String[] entries) {
+        _entries = entries;
+        _sets = new SiteSet[entries.length];
+        for (int i = 0; i < entries.length; i++)
+            _sets[i] = SiteSet.of(entries[i]);
+
+        if (entries.length <= Long.SIZE) {
+            _masks = new long[_NUM_SITES];
+            for (int site = 0; site < _NUM_SITES; site++)
+                for (int i = 0; i < _sets.length; i++)
+                    if (_sets[i].contains(site))
+                        _masks[site] |= 1L << i;
+        }
+        else
+            _masks = null;
+    }
+
+    /**
+     * Creates a list containing the provided entries, in the same order.
+     */
+    public static PairedSites of(String... entries) {
+        return new PairedSites(entries.clone());
+    }
+
+    /**
+     * Creates a list containing the provided entries, in the same order.
+     */
+    public static PairedSites of(Collection<String> entries) {
+        return new PairedSites(entries.toArray(new String[0]));
+    }
+
+    @Override
+    public String get(int index) {
+        return _entries[index];
+    }
+
+    @Override
+    public int size() {
+        return _entries.length;
+    }
+
+    /**
+     * Returns true if both sites belong to the same entry.
+     * @throws NumberFormatException if one of the sites is not a C followed by a number
+     */
+    public boolean arePaired(String site1, String site2) {
+        if (_entries.length == 0)
+            return false;
+
+        int value1 = SiteSet.parseSite(site1);
+        if (_masks != null && value1 >= 0 && value1 < _NUM_SITES) {
+            long mask1 = _masks[value1];
+            if (mask1 == 0L)
+                return false;
+            int value2 = SiteSet.parseSite(site2);
+            if (value2 >= 0 && value2 < _NUM_SITES)
+                return (mask1 & _masks[value2]) != 0L;
+            return arePaired(value1, value2);
+        }
+
+        // the second site is only parsed when the first one belongs to an entry
+        for (SiteSet set : _sets)
+            if (set.contains(value1) && set.contains(SiteSet.parseSite(site2)))
+                return true;
+        return false;
+    }
+
+    private boolean arePaired(int value1, int value2) {
+        for (SiteSet set : _sets)
+            if (set.contains(value1) && set.contains(value2))
+                return true;
+        return false;
+    }
+}
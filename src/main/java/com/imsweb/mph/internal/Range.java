@@ -22,6 +22,14 @@ public class Range {
         return new Range(value, value);
     }
 
+    public Integer getMinimum() {
+        return minimum;
+    }
+
+    public Integer getMaximum() {
+        return maximum;
+    }
+
     public boolean contains(final Integer element) {
         if (element == null)
             return false;
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The notes and examples of the rules of the library, read from a CSV file the first time they are requested.
+ * <br/><br/>
+ * The file has one line per note or example (group name, step, type and text), in the order they are provided by the rules; the line breaks of the texts
+ * are written as "\n".
+ */
+public final class RuleDocumentation {
+
+    private static final String _FILE = "RuleDocumentation.csv";
+
+    private static final String _NOTE = "note";
+
+    private static final String _EXAMPLE = "example";
+
+    private RuleDocumentation() {
+        // static utility class
+    }
+
+    /**
+     * Returns the notes of the provided rule, an empty list if there is none.
+     */
+    public static List<String> getNotes(String groupName, String step) {
+        return Holder._NOTES.getOrDefault(createKey(groupName, step), Collections.emptyList());
+    }
+
+    /**
+     * Returns the examples of the provided rule, an empty list if there is none.
+     */
+    public static List<String> getExamples(String groupName, String step) {
+        return Holder._EXAMPLES.getOrDefault(createKey(groupName, step), Collections.emptyList());
+    }
+
+    private static String createKey(String groupName, String step) {
+        return groupName + "|" + step;
+    }
+
+    // the file is only read when the class is first used
+    private static final class Holder {
+
+        private static final Map<String, List<String>> _NOTES = new HashMap<>();
+
+        private static final Map<String, List<String>> _EXAMPLES = new HashMap<>();
+
+        static {
+            for (String[] row : CsvUtils.parseGroupCsvFile(_FILE)) {
+                Map<String, List<String>> documentation;
+                if (_NOTE.equals(row[2]))
+                    documentation = _NOTES;
+                else if (_EXAMPLE.equals(row[2]))
+                    documentation = _EXAMPLES;
+                else
+                    throw new IllegalStateException("Unknown documentation type: " + row[2]);
+                documentation.computeIfAbsent(createKey(row[0], row[1]), k -> new ArrayList<>()).add(row[3].replace("\\n", "\n"));
+            }
+        }
+    }
+}
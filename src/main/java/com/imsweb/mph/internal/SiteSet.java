@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+/**
+ * Immutable set of primary sites compiled from a comma-separated list of sites and site ranges (like "C370-C383,C388").
+ * <br/><br/>
+ * The sites C000-C999 are stored in a bit set, so checking a site using the standard format doesn't allocate anything. The behavior is the same as
+ * calling GroupUtility.isContained() with the ranges returned by GroupUtility.computeRange().
+ */
+public final class SiteSet {
+
+    private static final int _NUM_SITES = 1000;
+
+    private final BitSet _sites = new BitSet(_NUM_SITES);
+
+    // the original ranges, only used for the values outside of C000-C999
+    private final IntervalSet _ranges;
+
+    private SiteSet(List<Range> ranges) {
+        _ranges = IntervalSet.of(ranges);
+        for (Range range : ranges) {
+            int min = Math.max(range.getMinimum(), 0);
+            int max = Math.min(range.getMaximum(), _NUM_SITES - 1);
+            if (min <= max)
+                _sites.set(min, max + 1);
+        }
+    }
+
+    /**
+     * Creates the set of sites corresponding to the provided comma-separated list of sites and site ranges.
+     */
+    public static SiteSet of(String rawValue) {
+        return of(GroupUtility.computeRange(rawValue, true));
+    }
+
+    /**
+     * Creates the set of sites corresponding to the provided site ranges (see GroupUtility.computeRange()).
+     */
+    public static SiteSet of(List<Range> ranges) {
+        return new SiteSet(ranges);
+    }
+
+    /**
+     * Returns true if the provided site (Cxxx) belongs to the set.
+     * @throws NumberFormatException if the site is not a C followed by a number
+     */
+    public boolean contains(String site) {
+        return contains(parseSite(site));
+    }
+
+    /**
+     * Returns true if the provided site value (the number following the C) belongs to the set.
+     */
+    public boolean contains(int value) {
+        if (value >= 0 && value < _NUM_SITES)
+            return _sites.get(value);
+        return _ranges.contains(value);
+    }
+
+    /**
+     * Returns the value of the provided site (the number following the C).
+     * @throws NumberFormatException if the site is not a C followed by a number
+     */
+    public static int parseSite(String site) {
+        if (site.length() == 4) {
+            int value = 0;
+            for (int i = 1; i < 4; i++) {
+                char c = site.charAt(i);
+                if (c < '0' || c > '9')
+                    return Integer.parseInt(site.substring(1));
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+        return Integer.parseInt(site.substring(1));
+    }
+}
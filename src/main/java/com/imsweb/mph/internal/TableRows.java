@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphRecord;
+
+/**
+ * Immutable compiled version of a table mapping histologies (8000-9999) and morphologies (8000/0-9999/9) to the row they belong to
+ * (for example MphConstants.BREAST_2018_TABLE3_ROWS).
+ * <br/><br/>
+ * Each distinct row is identified by a small integer; the rows of the standard codes are stored in arrays indexed by histology and by histology/behavior,
+ * any other key is kept in a hash map. Like the rules always did, the row of a tumor is the row of its histology if the table contains it, and the row of
+ * its histology/behavior otherwise.
+ */
+public final class TableRows {
+
+    private static final int _NUM_HISTOLOGIES = 2000;
+
+    private static final int _MIN_HISTOLOGY = 8000;
+
+    // the value of the codes that are not in the table, in the arrays below
+    private static final short _NO_ROW = -1;
+
+    // the row of each histology and morphology (histology * 10 + behavior, relative to 8000/0)
+    private final short[] _histologyRows = new short[_NUM_HISTOLOGIES];
+    private final short[] _morphologyRows = new short[_NUM_HISTOLOGIES * 10];
+
+    // the rows of the keys that don't use one of the standard formats
+    private final Map<String, Integer> _otherRows = new HashMap<>();
+
+    // the value of each row in the original table
+    private final List<String> _names = new ArrayList<>();
+
+    /**
+     * Compiles the provided table; the changes made to the table after it was compiled are not reflected in the compiled version.
+     */
+    public TableRows(Map<String, String> table) {
+        Arrays.fill(_histologyRows, _NO_ROW);
+        Arrays.fill(_morphologyRows, _NO_ROW);
+
+        Map<String, Integer> rows = new HashMap<>();
+        for (Entry<String, String> entry : table.entrySet()) {
+            Integer row = rows.get(entry.getValue());
+            if (row == null) {
+                row = _names.size();
+                rows.put(entry.getValue(), row);
+                _names.add(entry.getValue());
+            }
+            int idx;
+            if ((idx = CodeFormat.getHistologyIndex(entry.getKey())) != -1)
+                _histologyRows[idx] = row.shortValue();
+            else if ((idx = CodeFormat.getMorphologyIndex(entry.getKey())) != -1)
+                _morphologyRows[idx] = row.shortValue();
+            else
+                _otherRows.put(entry.getKey(), row);
+        }
+        if (_names.size() > Short.MAX_VALUE)
+            throw new IllegalStateException("Too many rows in table");
+    }
+
+    /**
+     * Returns the row of the provided tumor (the row of its histology if the table contains it, the row of its histology/behavior otherwise), -1 if the
+     * tumor is not in the table.
+     */
+    public int getRow(MphInput input) {
+        String histology = input.getHistology();
+        MphRecord record = MphRecord.getRecord(input);
+        if (record != null) {
+            // the records already know their codes, there is nothing to parse
+            if (record.getHistologyCode() != -1 && record.getBehaviorCode() != -1 && histology.length() == 4) {
+                int idx = record.getHistologyCode() - _MIN_HISTOLOGY;
+                return _histologyRows[idx] != _NO_ROW ? _histologyRows[idx] : _morphologyRows[idx * 10 + record.getBehaviorCode()];
+            }
+        }
+
+        int idx = CodeFormat.getHistologyIndex(histology);
+        if (idx != -1 && _histologyRows[idx] != _NO_ROW)
+            return _histologyRows[idx];
+        if (idx == -1 && _otherRows.containsKey(histology))
+            return _otherRows.get(histology);
+        String icdCode = input.getIcdCode();
+        idx = CodeFormat.getMorphologyIndex(icdCode);
+        if (idx != -1)
+            return _morphologyRows[idx];
+        return _otherRows.getOrDefault(icdCode, -1);
+    }
+
+    /**
+     * Returns the value of the provided row in the original table, null if the row is -1.
+     */
+    public String getRowName(int row) {
+        return row == -1 ? null : _names.get(row);
+    }
+
+    /**
+     * Returns the values of the rows in the original table, indexed by row.
+     */
+    public List<String> getRowNames() {
+        return Collections.unmodifiableList(_names);
+    }
+}
@@ -7,12 +7,34 @@ import com.imsweb.mph.MphUtils;
 
 public class TempRuleResult {
 
+    // the standard messages are only built when they are requested (the evaluation doesn't need them when only the result is returned)
+    private static final int _MESSAGE_NONE = 0;
+    private static final int _MESSAGE_UNKNOWN_LAT_AND_DATE = 1;
+    private static final int _MESSAGE_UNKNOWN_DATE = 2;
+    private static final int _MESSAGE_UNKNOWN_LAT = 3;
+    private static final int _MESSAGE_NOT_IN_TABLE = 4;
+
     private MphUtils.MpResult _finalResult;
 
     private MphUtils.MpResult _potentialResult;
 
     private String _message;
 
+    // the values used to build the standard messages
+    private int _messageType = _MESSAGE_NONE;
+
+    private String _step;
+
+    private String _groupId;
+
+    private String _row1;
+
+    private String _row2;
+
+    private String _icd1;
+
+    private String _icd2;
+
     public MphUtils.MpResult getFinalResult() {
         return _finalResult;
     }
@@ -30,34 +52,63 @@ public class TempRuleResult {
     }
 
     public String getMessage() {
+        if (_message == null && _messageType != _MESSAGE_NONE)
+            _message = buildMessage();
         return _message;
     }
 
     public void setMessage(String message) {
         _message = message;
+        _messageType = _MESSAGE_NONE;
     }
 
     public void setMessageUnknownLatAndDate(String step, String groupId) {
-        _message = "Unable to apply Rule " + step + " of " + groupId + ". Valid and known laterality and diagnosis date should be provided.";
+        setLazyMessage(_MESSAGE_UNKNOWN_LAT_AND_DATE, step, groupId);
     }
 
     public void setMessageUnknownDiagnosisDate(String step, String groupId) {
-        _message = "Unable to apply Rule " + step + " of " + groupId + ". Valid and known diagnosis date should be provided.";
+        setLazyMessage(_MESSAGE_UNKNOWN_DATE, step, groupId);
     }
 
     public void setMessageUnknownLaterality(String step, String groupId) {
-        _message = "Unable to apply Rule " + step + " of " + groupId + ". Valid and known laterality should be provided.";
+        setLazyMessage(_MESSAGE_UNKNOWN_LAT, step, groupId);
     }
 
     public void setMessageNotInTable(String step, String groupId, String row1, String row2, String icd1, String icd2) {
-        String histologyNotInTable;
-        boolean bothNotInTable = false;
-        if (row1 == null && row2 == null) {
-            bothNotInTable = true;
-            histologyNotInTable = "Both " + icd1 + " and " + icd2;
+        setLazyMessage(_MESSAGE_NOT_IN_TABLE, step, groupId);
+        _row1 = row1;
+        _row2 = row2;
+        _icd1 = icd1;
+        _icd2 = icd2;
+    }
+
+    private void setLazyMessage(int messageType, String step, String groupId) {
+        _message = null;
+        _messageType = messageType;
+        _step = step;
+        _groupId = groupId;
+    }
+
+    private String buildMessage() {
+        switch (_messageType) {
+            case _MESSAGE_UNKNOWN_LAT_AND_DATE:
+                return "Unable to apply Rule " + _step + " of " + _groupId + ". Valid and known laterality and diagnosis date should be provided.";
+            case _MESSAGE_UNKNOWN_DATE:
+                return "Unable to apply Rule " + _step + " of " + _groupId + ". Valid and known diagnosis date should be provided.";
+            case _MESSAGE_UNKNOWN_LAT:
+                return "Unable to apply Rule " + _step + " of " + _groupId + ". Valid and known laterality should be provided.";
+            case _MESSAGE_NOT_IN_TABLE:
+                String histologyNotInTable;
+                boolean bothNotInTable = false;
+                if (_row1 == null && _row2 == null) {
+                    bothNotInTable = true;
+                    histologyNotInTable = "Both " + _icd1 + " and " + _icd2;
+                }
+                else
+                    histologyNotInTable = _row1 == null ? _icd1 : _icd2;
+                return "Unable to apply Rule " + _step + " of " + _groupId + ". " + histologyNotInTable + (bothNotInTable ? " are " : " is ") + "not in the table.";
+            default:
+                return null;
         }
-        else
-            histologyNotInTable = row1 == null ? icd1 : icd2;
-        _message = "Unable to apply Rule " + step + " of " + groupId + ". " + histologyNotInTable + (bothNotInTable ? " are " : " is ") + "not in the table.";
     }
 }
@@ -4,25 +4,33 @@
 package com.imsweb.mph.mpgroups;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import com.imsweb.mph.MphConstants;
+import com.imsweb.mph.MphGroup;
 import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphRecord;
 import com.imsweb.mph.MphUtils;
+import com.imsweb.mph.internal.PairedSites;
 import com.imsweb.mph.internal.Range;
+import com.imsweb.mph.internal.SiteSet;
 
 public final class GroupUtility {
 
     private static final Pattern _SPLIT_COMMA = Pattern.compile(",");
     private static final Pattern _SPLIT_DASH = Pattern.compile("-");
 
+    // the compiled site sets, keyed by the comma-separated list of sites and site ranges (the lists are constants, but the cache is bounded anyway)
+    private static final Map<String, SiteSet> _SITE_SETS = new ConcurrentHashMap<>();
+    private static final int _MAX_SITE_SETS = 1000;
+
     private GroupUtility() {
         // static utility class
     }
@@ -31,7 +39,14 @@ public final class GroupUtility {
      * Validates the provided input's primary site, histology, behavior and diagnosis year. These properties are required to determine the cancer group and used at least in one of the rules in each group.
      */
     public static boolean validateProperties(String primarySite, String histology, String behavior, int year) {
-        return validateSite(primarySite) && validateHistology(histology) && validateBehavior(behavior) && validateYear(year);
+        return validateProperties(primarySite, histology, behavior, year, LocalDate.now().getYear());
+    }
+
+    /**
+     * Same as validateProperties(String, String, String, int), using the provided current year instead of the one of the system clock
+     */
+    public static boolean validateProperties(String primarySite, String histology, String behavior, int year, int currentYear) {
+        return validateSite(primarySite) && validateHistology(histology) && validateBehavior(behavior) && validateYear(year, currentYear);
     }
 
     /**
@@ -59,7 +74,14 @@ public final class GroupUtility {
      * Validates diagnosis year
      */
     public static boolean validateYear(int year) {
-        return year >= 0 && year <= LocalDate.now().getYear();
+        return validateYear(year, LocalDate.now().getYear());
+    }
+
+    /**
+     * Validates diagnosis year, using the provided current year instead of the one of the system clock
+     */
+    public static boolean validateYear(int year, int currentYear) {
+        return year >= 0 && year <= currentYear;
     }
 
     /**
@@ -173,7 +195,22 @@ public final class GroupUtility {
      * Checks if primary site is in range
      */
     public static boolean isSiteContained(String list, String site) {
-        return isContained(computeRange(list, true), Integer.valueOf(site.substring(1)));
+        return getSiteSet(list).contains(site);
+    }
+
+    /**
+     * Returns the compiled set of sites for the provided comma-separated list of sites and site ranges.
+     */
+    private static SiteSet getSiteSet(String list) {
+        if (list == null)
+            return SiteSet.of(Collections.emptyList());
+        SiteSet set = _SITE_SETS.get(list);
+        if (set == null) {
+            set = SiteSet.of(list);
+            if (_SITE_SETS.size() < _MAX_SITE_SETS)
+                _SITE_SETS.putIfAbsent(list, set);
+        }
+        return set;
     }
 
     /**
@@ -187,9 +224,11 @@ public final class GroupUtility {
      * checks if 2 sites are paired
      */
     public static boolean isPairedSites(String site1, String site2, List<String> pairedSites) {
+        if (pairedSites instanceof PairedSites)
+            return ((PairedSites)pairedSites).arePaired(site1, site2);
         if (pairedSites != null && !pairedSites.isEmpty())
             for (String pairedSite : pairedSites)
-                if (isContained(computeRange(pairedSite, true), Integer.parseInt(site1.substring(1))) && isContained(computeRange(pairedSite, true), Integer.parseInt(site2.substring(1))))
+                if (getSiteSet(pairedSite).contains(SiteSet.parseSite(site1)) && getSiteSet(pairedSite).contains(SiteSet.parseSite(site2)))
                     return true;
         return false;
     }
@@ -227,6 +266,13 @@ public final class GroupUtility {
      * checks if two cases have same and valid site, hist, behavior, date, laterality
      */
     public static boolean sameAndValidMainFields(MphInput i1, MphInput i2) {
+        return sameAndValidMainFields(i1, i2, LocalDate.now().getYear());
+    }
+
+    /**
+     * Same as sameAndValidMainFields(MphInput, MphInput), using the provided current year instead of the one of the system clock
+     */
+    public static boolean sameAndValidMainFields(MphInput i1, MphInput i2, int currentYear) {
         DateFieldParts date = new DateFieldParts(i1, i2);
 
         String site1 = i1.getPrimarySite();
@@ -238,8 +284,8 @@ public final class GroupUtility {
         String lat1 = i1.getLaterality();
         String lat2 = i2.getLaterality();
         return date.getYear1() != null && date.getYear2() != null &&
-                validateProperties(site1, hist1, beh1, date.getYear1()) &&
-                validateProperties(site2, hist2, beh2, date.getYear2()) &&
+                validateProperties(site1, hist1, beh1, date.getYear1(), currentYear) &&
+                validateProperties(site2, hist2, beh2, date.getYear2(), currentYear) &&
                 validateLaterality(lat1) && validateLaterality(lat2) &&
                 Objects.equals(site1, site2) &&
                 Objects.equals(hist1, hist2) &&
@@ -253,85 +299,103 @@ public final class GroupUtility {
      * 0 (if the diagnosis takes at the same day) or -1 (if there is insufficient information e.g if both year is 2007, but month and day is unknown)
      */
     public static int compareDxDate(MphInput input1, MphInput input2) {
-        DateFieldParts date = new DateFieldParts(input1, input2);
+        return compareDxDate(input1, input2, LocalDate.now().getYear());
+    }
+
+    /**
+     * Same as compareDxDate(MphInput, MphInput), using the provided current year instead of the one of the system clock
+     */
+    public static int compareDxDate(MphInput input1, MphInput input2, int currYear) {
+        MphRecord record1 = MphRecord.of(input1);
+        MphRecord record2 = MphRecord.of(input2);
         //If year is missing or in the future, return unknown
-        int currYear = LocalDate.now().getYear();
-        if (date.getYear1() == null || date.getYear2() == null || date.getYear1() > currYear || date.getYear2() > currYear)
+        if (!hasKnownYear(record1, currYear) || !hasKnownYear(record2, currYear))
             return MphConstants.COMPARE_DX_UNKNOWN;
-        else if (date.getYear1() > date.getYear2())
-            return MphConstants.COMPARE_DX_FIRST_LATEST;
-        else if (date.getYear2() > date.getYear1())
-            return MphConstants.COMPARE_DX_SECOND_LATEST;
+        return compareDateRanges(record1, record2);
+    }
 
-        // if month is missing, return unknown
-        if (date.getMonth1() == null || date.getMonth2() == null)
-            return MphConstants.COMPARE_DX_UNKNOWN;
-        else if (date.getMonth1() > date.getMonth2())
-            return MphConstants.COMPARE_DX_FIRST_LATEST;
-        else if (date.getMonth2() > date.getMonth1())
-            return MphConstants.COMPARE_DX_SECOND_LATEST;
+    // returns true if the year of the record is known and not in the future (its diagnosis date can then be expressed as a range of epoch days)
+    private static boolean hasKnownYear(MphRecord record, int currYear) {
+        return record.hasDateRange() && record.getYear() <= currYear;
+    }
 
-        // if day is missing, return unknown
-        if (date.getDay1() == null || date.getDay2() == null)
-            return MphConstants.COMPARE_DX_UNKNOWN;
-        else if (date.getDay1() > date.getDay2())
+    // compares the ranges of possible diagnosis dates; the dates are equal only if they are both fully known
+    private static int compareDateRanges(MphRecord record1, MphRecord record2) {
+        if (record1.getMinEpochDay() > record2.getMaxEpochDay())
             return MphConstants.COMPARE_DX_FIRST_LATEST;
-        else if (date.getDay2() > date.getDay1())
+        else if (record2.getMinEpochDay() > record1.getMaxEpochDay())
             return MphConstants.COMPARE_DX_SECOND_LATEST;
-
-        return MphConstants.COMPARE_DX_EQUAL;
+        else if (record1.getMinEpochDay() == record1.getMaxEpochDay() && record2.getMinEpochDay() == record2.getMaxEpochDay())
+            return MphConstants.COMPARE_DX_EQUAL;
+        return MphConstants.COMPARE_DX_UNKNOWN;
     }
 
     /**
      * checks if the two tumors are diagnosed "x" years apart. It returns Yes (1), No (0) or Unknown (-1) (If there is no enough information)
      */
-    //S3776 - Cognitive Complexity of methods should not be too high => Handling unknown dates made this a little bit complicated
-    @SuppressWarnings("java:S3776")
     public static int verifyYearsApart(MphInput input1, MphInput input2, int yearsApart) {
+        return verifyYearsApart(input1, input2, yearsApart, LocalDate.now().getYear());
+    }
 
-        DateFieldParts date = new DateFieldParts(input1, input2);
+    /**
+     * Same as verifyYearsApart(MphInput, MphInput, int), using the provided current year instead of the one of the system clock
+     */
+    public static int verifyYearsApart(MphInput input1, MphInput input2, int yearsApart, int currYear) {
+        MphRecord record1 = MphRecord.of(input1);
+        MphRecord record2 = MphRecord.of(input2);
         //If year is missing or in the future, return unknown
-        int currYear = LocalDate.now().getYear();
-        if (date.getYear1() == null || date.getYear2() == null || date.getYear1() > currYear || date.getYear2() > currYear)
+        if (!hasKnownYear(record1, currYear) || !hasKnownYear(record2, currYear))
             return MphConstants.DATE_VERIFY_UNKNOWN;
-        else if (Math.abs(date.getYear1() - date.getYear2()) > yearsApart)
+
+        MphRecord later = record1.getYear() > record2.getYear() ? record1 : record2;
+        MphRecord earlier = later == record1 ? record2 : record1;
+        int years = later.getYear() - earlier.getYear();
+        if (years > yearsApart)
             return MphConstants.DATE_VERIFY_APART;
-        else if (Math.abs(date.getYear1() - date.getYear2()) < yearsApart)
+        else if (years < yearsApart)
             return MphConstants.DATE_VERIFY_WITHIN;
-        else if (date.getMonth1() == null || date.getMonth2() == null)
+        else if (later.getMonth() == -1 || earlier.getMonth() == -1)
             return MphConstants.DATE_VERIFY_UNKNOWN;
-        else if ((date.getYear1() > date.getYear2() && date.getMonth1() > date.getMonth2()) || (date.getYear2() > date.getYear1() && date.getMonth2() > date.getMonth1()))
+        else if (years > 0 && later.getMonth() > earlier.getMonth())
             return MphConstants.DATE_VERIFY_APART;
-        else if ((date.getYear1() > date.getYear2() && date.getMonth1() < date.getMonth2()) || (date.getYear2() > date.getYear1() && date.getMonth2() < date.getMonth1()))
+        else if (years > 0 && later.getMonth() < earlier.getMonth())
             return MphConstants.DATE_VERIFY_WITHIN;
-        else if (date.getDay1() == null || date.getDay2() == null)
+        else if (later.getDay() == -1 || earlier.getDay() == -1)
             return MphConstants.DATE_VERIFY_UNKNOWN;
-        return Math.abs(ChronoUnit.YEARS.between(LocalDate.of(date.getYear1(), date.getMonth1(), date.getDay1()), LocalDate.of(date.getYear2(), date.getMonth2(), date.getDay2())))
-                >= yearsApart ? MphConstants.DATE_VERIFY_APART : MphConstants.DATE_VERIFY_WITHIN;
+        // same month: the later date is a full number of years after the earlier one if it's not before the anniversary day (same as ChronoUnit.YEARS)
+        return years == 0 || later.getDay() >= earlier.getDay() ? MphConstants.DATE_VERIFY_APART : MphConstants.DATE_VERIFY_WITHIN;
     }
 
     /**
      * checks if the two tumors are diagnosed "x" days apart. It returns Yes (1), No (0) or Unknown (-1) (If there is no enough information)
      */
     public static int verifyDaysApart(MphInput input1, MphInput input2, int days) {
+        return verifyDaysApart(input1, input2, days, LocalDate.now().getYear());
+    }
 
-        int latestDx = compareDxDate(input1, input2);
-        if (latestDx == MphConstants.COMPARE_DX_EQUAL)
-            return MphConstants.DATE_VERIFY_WITHIN;
-
-        DateFieldParts date = new DateFieldParts(input1, input2);
+    /**
+     * Same as verifyDaysApart(MphInput, MphInput, int), using the provided current year instead of the one of the system clock
+     */
+    public static int verifyDaysApart(MphInput input1, MphInput input2, int days, int currYear) {
+        MphRecord record1 = MphRecord.of(input1);
+        MphRecord record2 = MphRecord.of(input2);
         //If year is missing or in the future, return unknown
-        int currYear = LocalDate.now().getYear();
-        if (date.getYear1() == null || date.getYear2() == null || date.getYear1() > currYear || date.getYear2() > currYear)
+        if (!hasKnownYear(record1, currYear) || !hasKnownYear(record2, currYear))
             return MphConstants.DATE_VERIFY_UNKNOWN;
 
-        int minDaysInBetween = daysInBetween(date.getYear2(), date.getMonth2(), date.getDay2(), date.getYear1(), date.getMonth1(), date.getDay1(), true);
-        int maxDaysInBetween = daysInBetween(date.getYear2(), date.getMonth2(), date.getDay2(), date.getYear1(), date.getMonth1(), date.getDay1(), false);
+        int latestDx = compareDateRanges(record1, record2);
+        if (latestDx == MphConstants.COMPARE_DX_EQUAL)
+            return MphConstants.DATE_VERIFY_WITHIN;
+
+        // the minimum and maximum number of days from the second diagnosis to the first one
+        int minDaysInBetween = record1.getMinEpochDay() - record2.getMaxEpochDay();
+        int maxDaysInBetween = record1.getMaxEpochDay() - record2.getMinEpochDay();
         if (MphConstants.COMPARE_DX_UNKNOWN == latestDx)
             return Math.max(Math.abs(minDaysInBetween), Math.abs(maxDaysInBetween)) <= days ? MphConstants.DATE_VERIFY_WITHIN : MphConstants.DATE_VERIFY_UNKNOWN;
         else if (MphConstants.COMPARE_DX_SECOND_LATEST == latestDx) {
-            minDaysInBetween = daysInBetween(date.getYear1(), date.getMonth1(), date.getDay1(), date.getYear2(), date.getMonth2(), date.getDay2(), true);
-            maxDaysInBetween = daysInBetween(date.getYear1(), date.getMonth1(), date.getDay1(), date.getYear2(), date.getMonth2(), date.getDay2(), false);
+            int minDays = -maxDaysInBetween;
+            maxDaysInBetween = -minDaysInBetween;
+            minDaysInBetween = minDays;
         }
 
         if (minDaysInBetween > days)
@@ -342,40 +406,59 @@ public final class GroupUtility {
             return MphConstants.DATE_VERIFY_UNKNOWN;
     }
 
-    //This method is called if one diagnosis is after the other, It returns the minimum or maximum days between two diagnosis dates based on boolean minimum
-    private static int daysInBetween(Integer startYr, Integer startMon, Integer startDay, Integer endYr, Integer endMon, Integer endDay, boolean minimum) {
-        LocalDate startDateMin = LocalDate.of(startYr, 1, 1);
-        LocalDate startDateMax = LocalDate.of(startYr, 12, 31);
-        LocalDate endDateMin = LocalDate.of(endYr, 1, 1);
-        LocalDate endDateMax = LocalDate.of(endYr, 12, 31);
-        if (startDay != null) {
-            startDateMin = LocalDate.of(startYr, startMon, startDay);
-            startDateMax = LocalDate.of(startYr, startMon, startDay);
-        }
-        else if (startMon != null) {
-            startDateMin = LocalDate.of(startYr, startMon, 1);
-            startDateMax = LocalDate.of(startYr, startMon, YearMonth.of(startYr, startMon).lengthOfMonth());
-        }
-        if (endDay != null) {
-            endDateMin = LocalDate.of(endYr, endMon, endDay);
-            endDateMax = LocalDate.of(endYr, endMon, endDay);
-        }
-        else if (endMon != null) {
-            endDateMin = LocalDate.of(endYr, endMon, 1);
-            endDateMax = LocalDate.of(endYr, endMon, YearMonth.of(endYr, endMon).lengthOfMonth());
-        }
+    /**
+     * Returns the specific solid tumor groups, which take precedence over the "other sites" groups; they are only used to check the applicability
+     * of those groups, so they are created only once.
+     */
+    static List<MphGroup> getSpecificSolidTumorGroups() {
+        return SpecificGroupsHolder._GROUPS;
+    }
 
-        return minimum ? (int)ChronoUnit.DAYS.between(startDateMax, endDateMin) : (int)ChronoUnit.DAYS.between(startDateMin, endDateMax);
+    private static final class SpecificGroupsHolder {
+
+        private static final List<MphGroup> _GROUPS = createGroups();
+
+        private static List<MphGroup> createGroups() {
+            List<MphGroup> groups = new ArrayList<>();
+            groups.add(new Mp2007HeadAndNeckGroup());
+            groups.add(new Mp2007ColonGroup());
+            groups.add(new Mp2007LungGroup());
+            groups.add(new Mp2007MelanomaGroup());
+            groups.add(new Mp2007BreastGroup());
+            groups.add(new Mp2007KidneyGroup());
+            groups.add(new Mp2007UrinaryGroup());
+            groups.add(new Mp2007BenignBrainGroup());
+            groups.add(new Mp2007MalignantBrainGroup());
+
+            groups.add(new Mp2018BreastGroup());
+            groups.add(new Mp2018ColonGroup());
+            groups.add(new Mp2018HeadAndNeckGroup());
+            groups.add(new Mp2018KidneyGroup());
+            groups.add(new Mp2018LungGroup());
+            groups.add(new Mp2018MalignantCNSAndPeripheralNervesGroup());
+            groups.add(new Mp2018NonMalignantCNSTumorsGroup());
+            groups.add(new Mp2018UrinarySitesGroup());
+
+            groups.add(new Mp2021CutaneousMelanomaGroup());
+            return Collections.unmodifiableList(groups);
+        }
     }
 
     /**
      * Returns the site, hist/beh information of the input
      */
     public static String getSiteHistInfo(String site, String hist, String beh, int year) {
+        return getSiteHistInfo(site, hist, beh, year, LocalDate.now().getYear());
+    }
+
+    /**
+     * Same as getSiteHistInfo(String, String, String, int), using the provided current year instead of the one of the system clock
+     */
+    public static String getSiteHistInfo(String site, String hist, String beh, int year, int currentYear) {
         return (site == null || site.trim().isEmpty() ? "Unknown Site" : site) + ", "
                 + (hist == null || hist.trim().isEmpty() ? "Unknown Histology" : hist) + "/"
                 + (beh == null || beh.trim().isEmpty() ? "Unknown Behavior" : beh) + " "
-                + (validateYear(year) ? ("with year of diagnosis " + year) : "with unknown year of diagnosis");
+                + (validateYear(year, currentYear) ? ("with year of diagnosis " + year) : "with unknown year of diagnosis");
     }
 
     static class DateFieldParts {
@@ -388,6 +471,17 @@ public final class GroupUtility {
         private Integer _day2;
 
         public DateFieldParts(MphInput input1, MphInput input2) {
+            MphRecord record1 = MphRecord.getRecord(input1);
+            MphRecord record2 = MphRecord.getRecord(input2);
+            if (record1 != null && record2 != null) {
+                _year1 = record1.getYear() != -1 ? record1.getYear() : null;
+                _month1 = record1.getMonth() != -1 ? record1.getMonth() : null;
+                _day1 = record1.getDay() != -1 ? record1.getDay() : null;
+                _year2 = record2.getYear() != -1 ? record2.getYear() : null;
+                _month2 = record2.getMonth() != -1 ? record2.getMonth() : null;
+                _day2 = record2.getDay() != -1 ? record2.getDay() : null;
+                return;
+            }
             _year1 = MphUtils.isDigits(input1.getDateOfDiagnosisYear()) ? Integer.parseInt(input1.getDateOfDiagnosisYear()) : null;
             _year2 = MphUtils.isDigits(input2.getDateOfDiagnosisYear()) ? Integer.parseInt(input2.getDateOfDiagnosisYear()) : null;
             _month1 = MphUtils.isDigits(input1.getDateOfDiagnosisMonth()) ? Integer.parseInt(input1.getDateOfDiagnosisMonth()) : null;
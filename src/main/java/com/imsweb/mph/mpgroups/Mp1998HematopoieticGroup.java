@@ -3,7 +3,8 @@
  */
 package com.imsweb.mph.mpgroups;
 
-import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 import com.imsweb.mph.MphConstants;
@@ -12,16 +13,18 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.CodeFormat;
 import com.imsweb.mph.internal.CsvUtils;
 import com.imsweb.mph.internal.TempRuleResult;
 
 public class Mp1998HematopoieticGroup extends MphGroup {
 
-    private static final List<String[]> _HEMATOPOIETIC_1998 = new ArrayList<>();
+    // the histologies covered by the compiled lookup (the histologies of the group)
+    private static final int _MIN_HISTOLOGY = 9590;
+    private static final int _NUM_HISTOLOGIES = 9993 - _MIN_HISTOLOGY + 1;
 
     public Mp1998HematopoieticGroup() {
         super(MphConstants.HEMATO_2000_AND_EARLIER, MphConstants.HEMATOPOIETIC_AND_LYMPHOID_2000_AND_EARLIER, "C000-C809", null, "9590-9993", null, "2-3,6", "0000-2000");
-        initializeLookup();
 
         MphRule rule = new MphRule(MphConstants.HEMATOPOIETIC_AND_LYMPHOID_2000_AND_EARLIER, "") {
             @Override
@@ -33,7 +36,7 @@ public class Mp1998HematopoieticGroup extends MphGroup {
                     return result;
                 }
 
-                int laterDx = GroupUtility.compareDxDate(i1, i2);
+                int laterDx = context.compareDxDate(i1, i2);
                 if (MphConstants.COMPARE_DX_UNKNOWN == laterDx) {
                     result.setFinalResult(MphUtils.MpResult.QUESTIONABLE);
                     result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -41,14 +44,11 @@ public class Mp1998HematopoieticGroup extends MphGroup {
                 }
                 String firstDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? i2.getHistology() : i1.getHistology();
                 String secondDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? i1.getHistology() : i2.getHistology();
-                for (String[] row : _HEMATOPOIETIC_1998)
-                    if ((firstDx.compareTo(row[0]) >= 0 && firstDx.compareTo(row[1]) <= 0 && secondDx.compareTo(row[2]) >= 0 && secondDx.compareTo(row[3]) <= 0) ||
-                            (MphConstants.COMPARE_DX_EQUAL == laterDx && (secondDx.compareTo(row[0]) >= 0 && secondDx.compareTo(row[1]) <= 0 && firstDx.compareTo(row[2]) >= 0 && firstDx.compareTo(
-                                    row[3]) <= 0))) {
-                        result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
-                        result.setMessage("Single primary based on SEER 1998 multiple primary rules for hematopoietic cancer.");
-                        return result;
-                    }
+                if (isSamePrimary(firstDx, secondDx) || (MphConstants.COMPARE_DX_EQUAL == laterDx && isSamePrimary(secondDx, firstDx))) {
+                    result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
+                    result.setMessage("Single primary based on SEER 1998 multiple primary rules for hematopoietic cancer.");
+                    return result;
+                }
 
                 //if they don't match
                 result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
@@ -59,8 +59,47 @@ public class Mp1998HematopoieticGroup extends MphGroup {
         _rules.add(rule);
     }
 
-    private static synchronized void initializeLookup() {
-        if (_HEMATOPOIETIC_1998.isEmpty())
-            _HEMATOPOIETIC_1998.addAll(CsvUtils.parseGroupCsvFile("Hematopoietic1998HistologyPairs.csv"));
+    /**
+     * Returns true if a histology diagnosed first and a histology diagnosed second are the same primary according to the 1998 table.
+     */
+    private static boolean isSamePrimary(String firstHist, String secondHist) {
+        int first = getHistologyIndex(firstHist);
+        int second = getHistologyIndex(secondHist);
+        if (first != -1 && second != -1)
+            return LookupHolder._SAME_PRIMARIES.get(first * _NUM_HISTOLOGIES + second);
+
+        // the histologies that can't be compiled are compared to the rows as strings
+        for (String[] row : LookupHolder._ROWS)
+            if (firstHist.compareTo(row[0]) >= 0 && firstHist.compareTo(row[1]) <= 0 && secondHist.compareTo(row[2]) >= 0 && secondHist.compareTo(row[3]) <= 0)
+                return true;
+        return false;
+    }
+
+    // returns the index of a histology of the group (four digits between 9590 and 9993), -1 for any other value
+    private static int getHistologyIndex(String hist) {
+        int value = CodeFormat.parseHistology(hist);
+        return value >= _MIN_HISTOLOGY && value < _MIN_HISTOLOGY + _NUM_HISTOLOGIES ? value - _MIN_HISTOLOGY : -1;
+    }
+
+    // the table is loaded and compiled the first time it's needed
+    private static final class LookupHolder {
+
+        private static final List<String[]> _ROWS = Collections.unmodifiableList(CsvUtils.parseGroupCsvFile("Hematopoietic1998HistologyPairs.csv"));
+
+        // the matrix of the same primaries, the bit (first * number of histologies + second) is set if the first and second histologies are the same primary
+        private static final BitSet _SAME_PRIMARIES = new BitSet(_NUM_HISTOLOGIES * _NUM_HISTOLOGIES);
+
+        static {
+            // the rows compare four-digit strings, so the string order is the same as the numeric order
+            for (String[] row : _ROWS) {
+                int firstLow = Math.max(Integer.parseInt(row[0]), _MIN_HISTOLOGY) - _MIN_HISTOLOGY;
+                int firstHigh = Math.min(Integer.parseInt(row[1]), _MIN_HISTOLOGY + _NUM_HISTOLOGIES - 1) - _MIN_HISTOLOGY;
+                int secondLow = Math.max(Integer.parseInt(row[2]), _MIN_HISTOLOGY) - _MIN_HISTOLOGY;
+                int secondHigh = Math.min(Integer.parseInt(row[3]), _MIN_HISTOLOGY + _NUM_HISTOLOGIES - 1) - _MIN_HISTOLOGY;
+                for (int first = firstLow; first <= firstHigh; first++)
+                    if (secondLow <= secondHigh)
+                        _SAME_PRIMARIES.set(first * _NUM_HISTOLOGIES + secondLow, first * _NUM_HISTOLOGIES + secondHigh + 1);
+            }
+        }
     }
 }
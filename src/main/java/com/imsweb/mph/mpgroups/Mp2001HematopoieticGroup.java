@@ -3,8 +3,12 @@
  */
 package com.imsweb.mph.mpgroups;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.imsweb.mph.MphConstants;
 import com.imsweb.mph.MphGroup;
@@ -12,17 +16,18 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.CodeFormat;
 import com.imsweb.mph.internal.CsvUtils;
 import com.imsweb.mph.internal.TempRuleResult;
 
 public class Mp2001HematopoieticGroup extends MphGroup {
 
-    private static final List<String[]> _2001_HEMATOPOIETIC_GROUPS = new ArrayList<>();
-    private static final List<String[]> _2001_HEMATOPOIETIC_GROUP_PAIRS = new ArrayList<>();
+    // the histologies covered by the compiled lookup (the histologies of the group)
+    private static final int _MIN_HISTOLOGY = 9590;
+    private static final int _NUM_HISTOLOGIES = 9993 - _MIN_HISTOLOGY + 1;
 
     public Mp2001HematopoieticGroup() {
         super(MphConstants.HEMATO_2001_TO_2009, MphConstants.HEMATOPOIETIC_AND_LYMPHOID_2001_2009, "C000-C809", null, "9590-9993", null, "2-3,6", "2001-2009");
-        initializeLookups();
 
         MphRule rule = new MphRule(MphConstants.HEMATOPOIETIC_AND_LYMPHOID_2001_2009, "") {
             @Override
@@ -36,32 +41,23 @@ public class Mp2001HematopoieticGroup extends MphGroup {
                     return result;
                 }
                 //find the group for both histologies
-                String group1 = null;
-                String group2 = null;
-                for (String[] row : _2001_HEMATOPOIETIC_GROUPS) {
-                    if (group1 == null && hist1.compareTo(row[1]) >= 0 && hist1.compareTo(row[2]) <= 0)
-                        group1 = row[0];
-                    if (group2 == null && hist2.compareTo(row[1]) >= 0 && hist2.compareTo(row[2]) <= 0)
-                        group2 = row[0];
-                    if (group1 != null && group2 != null)
-                        break;
-                }
+                int group1 = getGroup(hist1);
+                int group2 = getGroup(hist2);
                 //If we found both groups, let's check if they are same primaries
-                if (group1 != null && group2 != null) {
-                    int laterDx = GroupUtility.compareDxDate(i1, i2);
+                if (group1 != -1 && group2 != -1) {
+                    int laterDx = context.compareDxDate(i1, i2);
                     if (MphConstants.COMPARE_DX_UNKNOWN == laterDx) {
                         result.setFinalResult(MphUtils.MpResult.QUESTIONABLE);
                         result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
                         return result;
                     }
-                    String firstDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? group2 : group1;
-                    String secondDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? group1 : group2;
-                    for (String[] row : _2001_HEMATOPOIETIC_GROUP_PAIRS)
-                        if ((firstDx.equals(row[0]) && secondDx.equals(row[1])) || (MphConstants.COMPARE_DX_EQUAL == laterDx && secondDx.equals(row[0]) && firstDx.equals(row[1]))) {
-                            result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
-                            result.setMessage("Single primary based on SEER 2001 multiple primary rules for hematopoietic cancer.");
-                            return result;
-                        }
+                    int firstDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? group2 : group1;
+                    int secondDx = MphConstants.COMPARE_DX_FIRST_LATEST == laterDx ? group1 : group2;
+                    if (isSamePrimary(firstDx, secondDx) || (MphConstants.COMPARE_DX_EQUAL == laterDx && isSamePrimary(secondDx, firstDx))) {
+                        result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
+                        result.setMessage("Single primary based on SEER 2001 multiple primary rules for hematopoietic cancer.");
+                        return result;
+                    }
                 }
                 result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 result.setMessage("Multiple primaries based on SEER 2001 multiple primary rules for hematopoietic cancer.");
@@ -71,10 +67,62 @@ public class Mp2001HematopoieticGroup extends MphGroup {
         _rules.add(rule);
     }
 
-    private static synchronized void initializeLookups() {
-        if (_2001_HEMATOPOIETIC_GROUPS.isEmpty())
-            _2001_HEMATOPOIETIC_GROUPS.addAll(CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroups.csv"));
-        if (_2001_HEMATOPOIETIC_GROUP_PAIRS.isEmpty())
-            _2001_HEMATOPOIETIC_GROUP_PAIRS.addAll(CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroupPairs.csv"));
+    /**
+     * Returns the index of the group of the provided histology (the first group containing it), -1 if there is none.
+     */
+    private static int getGroup(String hist) {
+        int value = CodeFormat.parseHistology(hist);
+        if (value >= _MIN_HISTOLOGY && value < _MIN_HISTOLOGY + _NUM_HISTOLOGIES)
+            return LookupHolder._HISTOLOGY_GROUPS[value - _MIN_HISTOLOGY];
+
+        // the histologies that can't be compiled are compared to the rows as strings
+        for (String[] row : LookupHolder._GROUP_ROWS)
+            if (hist.compareTo(row[1]) >= 0 && hist.compareTo(row[2]) <= 0)
+                return LookupHolder._GROUP_INDEXES.get(row[0]);
+        return -1;
+    }
+
+    /**
+     * Returns true if a group diagnosed first and a group diagnosed second are the same primary according to the 2001 table.
+     */
+    private static boolean isSamePrimary(int firstGroup, int secondGroup) {
+        return LookupHolder._SAME_PRIMARIES.get(firstGroup * LookupHolder._GROUP_INDEXES.size() + secondGroup);
+    }
+
+    // the tables are loaded and compiled the first time they are needed
+    private static final class LookupHolder {
+
+        private static final List<String[]> _GROUP_ROWS = Collections.unmodifiableList(CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroups.csv"));
+
+        // the index of each group
+        private static final Map<String, Integer> _GROUP_INDEXES = new HashMap<>();
+
+        // the group index of each histology of the group, -1 if the histology doesn't belong to any group
+        private static final int[] _HISTOLOGY_GROUPS = new int[_NUM_HISTOLOGIES];
+
+        // the matrix of the same primaries, the bit (first * number of groups + second) is set if the first and second groups are the same primary
+        private static final BitSet _SAME_PRIMARIES = new BitSet();
+
+        static {
+            for (String[] row : _GROUP_ROWS)
+                _GROUP_INDEXES.putIfAbsent(row[0], _GROUP_INDEXES.size());
+
+            // the rows compare four-digit strings, so the string order is the same as the numeric order; the first group containing a histology wins
+            Arrays.fill(_HISTOLOGY_GROUPS, -1);
+            for (String[] row : _GROUP_ROWS) {
+                int low = Math.max(Integer.parseInt(row[1]), _MIN_HISTOLOGY) - _MIN_HISTOLOGY;
+                int high = Math.min(Integer.parseInt(row[2]), _MIN_HISTOLOGY + _NUM_HISTOLOGIES - 1) - _MIN_HISTOLOGY;
+                for (int hist = low; hist <= high; hist++)
+                    if (_HISTOLOGY_GROUPS[hist] == -1)
+                        _HISTOLOGY_GROUPS[hist] = _GROUP_INDEXES.get(row[0]);
+            }
+
+            for (String[] row : CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroupPairs.csv")) {
+                Integer first = _GROUP_INDEXES.get(row[0]);
+                Integer second = _GROUP_INDEXES.get(row[1]);
+                if (first != null && second != null)
+                    _SAME_PRIMARIES.set(first * _GROUP_INDEXES.size() + second);
+            }
+        }
     }
 }
@@ -21,8 +21,8 @@ public class Mp2004BenignBrainGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (isSameSite(i1.getPrimarySite(), i2.getPrimarySite()) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior())
-                        && GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality()) && i1.getLaterality().equals(i2.getLaterality()))
+                if (context.haveSameSitePrefix(i1, i2) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior())
+                        && context.validPairedSiteLaterality(i1, i2) && i1.getLaterality().equals(i2.getLaterality()))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 return result;
             }
@@ -36,8 +36,8 @@ public class Mp2004BenignBrainGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (isSameSite(i1.getPrimarySite(), i2.getPrimarySite()) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior())
-                        && !GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality()))
+                if (context.haveSameSitePrefix(i1, i2) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior())
+                        && !context.validPairedSiteLaterality(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 return result;
             }
@@ -51,7 +51,7 @@ public class Mp2004BenignBrainGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (!isSameSite(i1.getPrimarySite(), i2.getPrimarySite()) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior()))
+                if (!context.haveSameSitePrefix(i1, i2) && isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior()))
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 return result;
             }
@@ -64,7 +64,7 @@ public class Mp2004BenignBrainGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior()) && GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                if (isSameHistology(i1.getHistology(), i1.getBehavior(), i2.getHistology(), i2.getBehavior()) && context.areOppositeSides(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 return result;
             }
@@ -86,10 +86,6 @@ public class Mp2004BenignBrainGroup extends MphGroup {
         _rules.add(rule);
     }
 
-    private boolean isSameSite(String site1, String site2) {
-        return site1.substring(0, 3).equals(site2.substring(0, 3));
-    }
-
     private boolean isSameHistology(String hist1, String beh1, String hist2, String beh2) {
         String group1 = MphConstants.BENIGN_BRAIN_2004_HISTOLOGY_GROUPING.get(hist1);
         if (group1 == null)
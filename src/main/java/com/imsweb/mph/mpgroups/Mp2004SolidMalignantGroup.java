@@ -31,8 +31,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
             }
         };
         rule.setReason("A single lesion composed of one histologic type is a single primary, even if the lesion crosses site boundaries.");
-        rule.getExamples().add("A single lesion involving the tongue and floor of mouth is one primary.");
-        rule.getExamples().add("A single, large mucinous adenocarcinoma involving the sigmoid and descending colon segments is one primary.");
         _rules.add(rule);
 
         // Rule 2
@@ -43,9 +41,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
             }
         };
         rule.setReason("A single lesion composed of multiple (different) histologic types is a single primary even if it crosses site boundaries.");
-        rule.getExamples().add(" A single lesion containing both embryonal cell carcinoma and teratoma is a single primary and would be coded to 9081/3, mixed embryonal carcinoma and teratoma.");
-        rule.getExamples().add(
-                "A single lesion of the liver composed of neuroendocrine carcinoma (8246/3) and hepatocellular carcinoma (8170/3) is a single primary and would be coded to the more specific histology, neuroendocrine carcinoma 8246/3.");
         _rules.add(rule);
 
         // Rule 3
@@ -53,13 +48,13 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 if (isSameSite(i1.getPrimarySite(), i2.getPrimarySite()) && isSameHistology(i1.getHistology(), i2.getHistology()) && daysApart != MphConstants.DATE_VERIFY_APART) {
                     if (isPairedSite(i1.getPrimarySite()) && isPairedSite(i2.getPrimarySite())) {
                         //Each side of a paired organ is considered a separate site.
-                        if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                        if (context.areOppositeSides(i1, i2))
                             return result;
-                        else if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                        else if (!context.validPairedSiteLaterality(i1, i2)) {
                             result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                             if (MphConstants.DATE_VERIFY_UNKNOWN == daysApart)
                                 result.setMessageUnknownLatAndDate(this.getStep(), this.getGroupName());
@@ -80,11 +75,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
         };
         rule.setReason("Simultaneous multiple lesions of the same histologic type within the same site (i.e., multifocal tumors in a single organ or site) are a single primary. "
                 + "If a new cancer of the same histology as an earlier one is diagnosed in the same site within two months, this is a single primary cancer");
-        rule.getExamples().add(
-                "At nephrectomy, two separate, distinct foci of renal cell carcinoma are found in the specimen, in addition to the 3.5 cm primary renal cell carcinoma. Abstract as a single primary.");
-        rule.getExamples().add("At mastectomy for removal of a 2 cm invasive ductal carcinoma, an additional 5 cm area of intraductal carcinoma was noted. Abstract as one invasive primary.");
-        rule.getExamples().add("Adenocarcinoma in adenomatous polyp (8210) in sigmoid colon removed by polypectomy in December 2004. At segmental resection in January 2005, an adenocarcinoma in a "
-                + "tubular adenoma (8210) adjacent to the previous polypectomy site was removed. Count as one primary.");
         _rules.add(rule);
 
         // Rule 4
@@ -96,11 +86,9 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 String site2 = i2.getPrimarySite();
                 String hist1 = i1.getHistology();
                 String hist2 = i2.getHistology();
-                String lat1 = i1.getLaterality();
-                String lat2 = i2.getLaterality();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 if (isSameSite(site1, site2) && isSameHistology(hist1, hist2) && isPairedSite(site1) && isPairedSite(site2) && daysApart != MphConstants.DATE_VERIFY_APART) {
-                    if (!GroupUtility.validPairedSiteLaterality(lat1, lat2)) {
+                    if (!context.validPairedSiteLaterality(i1, i2)) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         //Exceptions
                         if ((MphConstants.OVARY.equals(site1) && MphConstants.OVARY.equals(site2)) || (MphConstants.RETINO_BLASTOMA.containsAll(Arrays.asList(hist1, hist2))) ||
@@ -111,7 +99,7 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                         else
                             result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                     }
-                    else if (GroupUtility.areOppositeSides(lat1, lat2)) {
+                    else if (context.areOppositeSides(i1, i2)) {
                         if (MphConstants.DATE_VERIFY_UNKNOWN == daysApart) {
                             result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                             //Exceptions
@@ -152,7 +140,7 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 String hist2 = i2.getHistology();
                 String beh1 = i1.getBehavior();
                 String beh2 = i2.getBehavior();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 //Exceptions
                 List<String> adenoCarcinoma = new ArrayList<>(MphConstants.ADENOCARCINOMA_SPECIFIC);
                 adenoCarcinoma.addAll(MphConstants.ADENOCARCINOMA_NOS);
@@ -185,14 +173,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 + "Multiple invasive adenocarcinomas of the prostate (C619) and Multiple invasive blader cancers (C670 – C679) with histology codes 8120-8131\n"
                 + "Exception 4: Kaposi sarcoma (9140) is reported only once and is coded to the site in which it arises. Code the primary site to skin (C44_) when Kaposi sarcoma arises in skin "
                 + "and another site simultaneously. If no primary site is stated, code the primary site to skin, NOS (C449).");
-        rule.getExamples().add("Infiltrating duct carcinoma of the upper outer quadrant of the right breast diagnosed March 2004 and treated with lumpectomy. Previously "
-                + "unidentified mass in left inner quadrant right breast noted in July 2004 mammogram. This was removed and found to be infiltrating duct carcinoma. "
-                + "Abstract the case as two primaries");
-        rule.getExamples().add("During the workup for a squamous cell carcinoma of the vocal cord, a second squamous cell carcinoma is discovered in the tonsillar fossa. Abstract as two primaries.");
-        rule.getExamples().add(
-                "Urothelial bladder tumor removed by transurethral resection of the bladder (TURB). At three month check-up, a new urothelial tumor is removed. Abstract as one primary of the bladder.");
-        rule.getExamples().add("Patient has elevated PSA and a needle biopsy that shows adenocarcinoma in the right lobe of the prostate. Patient and clinician opt for "
-                + "watchful waiting. Four months later, PSA is higher and patient has a second biopsy, which shows adenocarcinoma in the left lobe. Abstract as one primary of the prostate.");
         _rules.add(rule);
 
         // Rule 6
@@ -206,15 +186,13 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 String hist2 = i2.getHistology();
                 String icd1 = i1.getIcdCode();
                 String icd2 = i2.getIcdCode();
-                String lat1 = i1.getLaterality();
-                String lat2 = i2.getLaterality();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 if (isSameSite(site1, site2) && !isSameHistology(hist1, hist2) && daysApart != MphConstants.DATE_VERIFY_APART) {
                     if (isPairedSite(i1.getPrimarySite()) && isPairedSite(i2.getPrimarySite())) {
                         //only single paired
-                        if (GroupUtility.areOppositeSides(lat1, lat2))
+                        if (context.areOppositeSides(i1, i2))
                             return result;
-                        else if (!GroupUtility.validPairedSiteLaterality(lat1, lat2)) {
+                        else if (!context.validPairedSiteLaterality(i1, i2)) {
                             result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                             //Exceptions
                             if (GroupUtility.differentCategory(hist1, hist2, MphConstants.CARCINOMA_NOS, MphConstants.CARCINOMA_SPECIFIC))
@@ -326,14 +304,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 + "tumors occur most frequently in the thyroid (papillary and follicular), bladder (papillary and transitional cell) and breast (combinations of ductal and lobular, and "
                 + "combinations of Paget disease and ductal/intraductal). They are abstracted as a single primary with a mixed histology. In such cases, consult ICD-O-3 for a list of the most "
                 + "frequent histologic combinations.");
-        rule.getExamples().add("A patient undergoes a partial gastrectomy for adenocarcinoma of the body of the stomach. In the resected specimen, the pathologist finds both adenocarcinoma and "
-                + "nodular non-Hodgkin lymphoma. Abstract two primaries.");
-        rule.getExamples().add(
-                "A thyroid specimen contains two separate carcinomas— one papillary and the other follicular. Abstract one primary when the histology is papillary and follicular (8340).");
-        rule.getExamples().add("Abstract one primary when multiple bladder tumors are papillary urothelial (8130) and/or transitional cell (8120).");
-        rule.getExamples().add("A left mastectomy specimen yields lobular carcinoma in the upper inner quadrant and intraductal carcinoma in the lower inner quadrant. Code one primary.");
-        rule.getExamples().add(
-                " A right mastectomy specimen yields Paget in the nipple and a separate underlying ductal carcinoma. Code one primary. Assign the combination code 8543 (Ductal and Paget disease).");
         _rules.add(rule);
 
         //Rule 7
@@ -345,11 +315,9 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 String site2 = i2.getPrimarySite();
                 String hist1 = i1.getHistology();
                 String hist2 = i2.getHistology();
-                String lat1 = i1.getLaterality();
-                String lat2 = i2.getLaterality();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 if (isSameSite(site1, site2) && !isSameHistology(hist1, hist2) && daysApart != MphConstants.DATE_VERIFY_APART && isPairedSite(site1) && isPairedSite(site2)) {
-                    if (!GroupUtility.validPairedSiteLaterality(lat1, lat2)) {
+                    if (!context.validPairedSiteLaterality(i1, i2)) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         if (MphConstants.DATE_VERIFY_UNKNOWN == daysApart)
                             result.setMessageUnknownLatAndDate(this.getStep(), this.getGroupName());
@@ -360,7 +328,7 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
                     }
-                    else if (GroupUtility.areOppositeSides(lat1, lat2))
+                    else if (context.areOppositeSides(i1, i2))
                         result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 }
                 return result;
@@ -368,7 +336,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
         };
         rule.setReason("Multiple synchronous lesions of different histologic types in paired organs are multiple primaries. If one histologic type is reported in one side of a paired organ and a "
                 + "different histologic type is reported in the other paired organ, these are two primaries unless there is a statement to the contrary.");
-        rule.getExamples().add("If a ductal tumor occurs in one breast and a lobular tumor occurs in the opposite breast, these are two separate primaries.");
         _rules.add(rule);
 
         //Rule 8
@@ -380,7 +347,7 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
                 String site2 = i2.getPrimarySite();
                 String hist1 = i1.getHistology();
                 String hist2 = i2.getHistology();
-                int daysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int daysApart = context.verifyDaysApart(i1, i2, 60);
                 if (isSameSite(site1, site2) && !isSameHistology(hist1, hist2) && daysApart != MphConstants.DATE_VERIFY_WITHIN) {
                     if (MphConstants.DATE_VERIFY_UNKNOWN == daysApart) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
@@ -410,9 +377,6 @@ public class Mp2004SolidMalignantGroup extends MphGroup {
             }
         };
         rule.setReason("Multiple lesions of different histologic types occurring in different sites are separate primaries whether occurring simultaneously or at different times.");
-        rule.getExamples().add(
-                "In 1999, the patient had a mucin-producing carcinoma of the transverse colon. In 2002, the patient was diagnosed with an astrocytoma of the frontal lobe of the brain. Abstract as separate primaries.");
-        rule.getExamples().add("During the workup for a transitional cell carcinoma of the bladder, the patient has a TURP that shows adenocarcinoma of the prostate. Abstract as separate primaries.");
         _rules.add(rule);
 
         //Rule 10
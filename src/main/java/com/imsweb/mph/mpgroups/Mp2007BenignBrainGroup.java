@@ -60,14 +60,12 @@ public class Mp2007BenignBrainGroup extends MphGroup {
         rule = new MpRuleFollowing(MphConstants.MPH_2007_2017_BENIGN_BRAIN, "M6", "9390/1", "9390/0");
         rule.setQuestion("Is there an atypicalchoroid plexuspapilloma (9390/1) following achoroid plexus papilloma,NOS (9390/0)?");
         rule.setReason("An atypical choroid plexus papilloma (9390/1) following a choroid plexus papilloma, NOS (9390/0) is a single primary.");
-        rule.getNotes().add("Do not code progression of disease as multiple primaries.");
         _rules.add(rule);
 
         // M7 - A neurofibromatosis, NOS (9540/1) following a neurofibroma, NOS (9540/0) is a single primary.
         rule = new MpRuleFollowing(MphConstants.MPH_2007_2017_BENIGN_BRAIN, "M7", "9540/1", "9540/0");
         rule.setQuestion("Is there a neurofibromatosis, NOS (9540/1) following a neurofibroma, NOS (9540/0)?");
         rule.setReason("A neurofibromatosis, NOS (9540/1) following a neurofibroma, NOS (9540/0) is a single primary.");
-        rule.getNotes().add("Do not code progression of disease as multiple primaries.");
         _rules.add(rule);
 
         // M8 - Tumors with two or more histologic types on the same branch in Chart 1 are a single primary.
@@ -135,15 +133,10 @@ public class Mp2007BenignBrainGroup extends MphGroup {
 
         //M11- Tumors with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.        
         rule = new MpRuleHistology(MphConstants.MPH_2007_2017_BENIGN_BRAIN, "M11");
-        rule.getNotes().add("Use this rule when none of the histology codes are listed in Chart 1.");
         _rules.add(rule);
 
         //M12- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_BENIGN_BRAIN, "M12");
-        rule.getNotes().add("Timing is not used to determine multiple primaries for benign and borderline intracranial and CNS tumors.");
-        rule.getExamples().add("Tumors in the same site with the same histology (Chart 1) and the same laterality as the original tumor are a single primary.");
-        rule.getExamples().add("Tumors in the same site with the same histology (Chart 1) and it is unknown if laterality is the same as the original tumor are a single primary.");
-        rule.getExamples().add("Tumors in the same site and same laterality with histology codes not listed in Chart 1 that have the same first three numbers are a single primary.");
         _rules.add(rule);
     }
 }
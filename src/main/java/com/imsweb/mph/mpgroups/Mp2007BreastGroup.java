@@ -54,11 +54,11 @@ public class Mp2007BreastGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (!context.validPairedSiteLaterality(i1, i2)) {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                     result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                 }
-                else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                else if (context.areOppositeSides(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
 
                 return result;
@@ -66,13 +66,10 @@ public class Mp2007BreastGroup extends MphGroup {
         };
         rule.setQuestion("Is there a tumor(s) in each breast?");
         rule.setReason("Tumors on both sides (right and left breast) are multiple primaries.");
-        rule.getNotes().add("Lobular carcinoma in both breasts (\"mirror image\") is a multiple primary.");
         _rules.add(rule);
 
         //M8- An invasive tumor following an in situ tumor more than 60 days after diagnosis are multiple primaries.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_BREAST, "M8");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M9- Tumors that are intraductal or duct and Paget Disease are a single primary.
@@ -89,7 +86,6 @@ public class Mp2007BreastGroup extends MphGroup {
         };
         rule.setQuestion("Are the tumors intraductal or duct and Paget Disease?");
         rule.setReason("Tumors that are intraductal or duct and Paget Disease are a single primary.");
-        rule.getNotes().add("Use Table 1 and Table 2 to identify intraductal and duct carcinomas.");
         _rules.add(rule);
 
         //M10- Tumors that are lobular (8520) and intraductal or duct are a single primary.
@@ -107,7 +103,6 @@ public class Mp2007BreastGroup extends MphGroup {
         };
         rule.setQuestion("Are the tumors lobular (8520) and intraductal or duct?");
         rule.setReason("Tumors that are lobular (8520) and intraductal or duct are a single primary.");
-        rule.getNotes().add("Use Table 1 and Table 2 to identify intraductal and duct carcinomas.");
         _rules.add(rule);
 
         //M11- Multiple intraductal and/or duct carcinomas are a single primary.
@@ -124,7 +119,6 @@ public class Mp2007BreastGroup extends MphGroup {
         };
         rule.setQuestion("Are there multiple intraductal and/or duct carcinomas?");
         rule.setReason("Multiple intraductal and/or duct carcinomas are a single primary.");
-        rule.getNotes().add("Use Table 1 and Table 2 to identify intraductal and duct carcinomas.");
         _rules.add(rule);
 
         //M12- Tumors with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.        
@@ -133,10 +127,6 @@ public class Mp2007BreastGroup extends MphGroup {
 
         //M13- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_BREAST, "M13");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by Rule M13 have the same first 3 numbers in ICD-O-3 histology code.");
-        rule.getExamples().add("Invasive duct and intraductal carcinoma in the same breast.");
-        rule.getExamples().add("Multi-centric lobular carcinoma, left breast.");
         _rules.add(rule);
     }
 }
@@ -13,6 +13,7 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.NosVsSpecific;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleHistology;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
@@ -36,7 +37,6 @@ public class Mp2007ColonGroup extends MphGroup {
         };
         rule.setQuestion("Is there adenocarcinoma in adenomatous polyposis coli (familialpolyposis) with one or more malignant polyps?");
         rule.setReason("Adenocarcinoma in adenomatous polyposis coli (familial polyposis) with one or more malignant polyps is a single primary.");
-        rule.getNotes().add("Tumors may be present in multiple segments of the colon or in a single segment of the colon.");
         _rules.add(rule);
 
         //M4- Tumors in sites with ICD-O-3 topography codes that are different at the second (C?xx), third (Cx?x) and/or fourth (C18?) character are multiple primaries.
@@ -58,7 +58,7 @@ public class Mp2007ColonGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                int diff = GroupUtility.verifyYearsApart(i1, i2, 1);
+                int diff = context.verifyYearsApart(i1, i2, 1);
                 if (MphConstants.DATE_VERIFY_UNKNOWN == diff) {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                     result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -74,8 +74,6 @@ public class Mp2007ColonGroup extends MphGroup {
 
         //M6- An invasive tumor following an insitu tumor more than 60 days after diagnosis is a multiple primary.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_COLON, "M6");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M7- A frank malignant or in situ adenocarcinoma and an insitu or malignant tumor in a polyp are a single primary.
@@ -95,15 +93,12 @@ public class Mp2007ColonGroup extends MphGroup {
         _rules.add(rule);
 
         //M8 -
+        NosVsSpecific nosVsSpecific = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, Arrays.asList("8000", "8010", "8140", "8800"));
         rule = new MphRule(MphConstants.MPH_2007_2017_COLON, "M8") {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                String hist1 = i1.getHistology();
-                String hist2 = i2.getHistology();
-                List<String> nosList = Arrays.asList("8000", "8010", "8140", "8800");
-                if ((nosList.contains(hist1) && MphConstants.NOS_VS_SPECIFIC.containsKey(hist1) && MphConstants.NOS_VS_SPECIFIC.get(hist1).contains(hist2)) || (nosList.contains(hist2)
-                        && MphConstants.NOS_VS_SPECIFIC.containsKey(hist2) && MphConstants.NOS_VS_SPECIFIC.get(hist2).contains(hist1)))
+                if (nosVsSpecific.isNosVsSpecific(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 return result;
             }
@@ -131,7 +126,6 @@ public class Mp2007ColonGroup extends MphGroup {
         };
         rule.setQuestion("Are there multiple in situ and /or malignant polyps?");
         rule.setReason("Multiple in situ and/or malignant polyps are a single primary.");
-        rule.getNotes().add("Includes all combinations of adenomatous, tubular, villous, and tubulovillous adenomas or polyps.");
         _rules.add(rule);
 
         //M10- Tumors with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.        
@@ -140,8 +134,6 @@ public class Mp2007ColonGroup extends MphGroup {
 
         //M11- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_COLON, "M11");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by Rule M11 are in the same segment of the colon.");
         _rules.add(rule);
     }
 }
@@ -12,6 +12,7 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.NosVsSpecific;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleHistology;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
@@ -80,8 +81,6 @@ public class Mp2007HeadAndNeckGroup extends MphGroup {
 
         //M8- An invasive tumor following an insitu tumor more than 60 days after diagnosis are multiple primaries.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_HEAD_AND_NECK, "M8");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M9- Tumors diagnosed more than five (5) years apart are multiple primaries.
@@ -89,15 +88,12 @@ public class Mp2007HeadAndNeckGroup extends MphGroup {
         _rules.add(rule);
 
         //M10 - 
+        NosVsSpecific nosVsSpecific = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, Arrays.asList("8000", "8010", "8140", "8070", "8720", "8800"));
         rule = new MphRule(MphConstants.MPH_2007_2017_HEAD_AND_NECK, "M10") {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                String hist1 = i1.getHistology();
-                String hist2 = i2.getHistology();
-                List<String> nosList = Arrays.asList("8000", "8010", "8140", "8070", "8720", "8800");
-                if ((nosList.contains(hist1) && MphConstants.NOS_VS_SPECIFIC.containsKey(hist1) && MphConstants.NOS_VS_SPECIFIC.get(hist1).contains(hist2)) || (nosList.contains(hist2)
-                        && MphConstants.NOS_VS_SPECIFIC.containsKey(hist2) && MphConstants.NOS_VS_SPECIFIC.get(hist2).contains(hist1)))
+                if (nosVsSpecific.isNosVsSpecific(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
 
                 return result;
@@ -124,11 +120,6 @@ public class Mp2007HeadAndNeckGroup extends MphGroup {
 
         //M12- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_HEAD_AND_NECK, "M12");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by Rule M12 have the same first 3 numbers in ICD-O-3 histology code.");
-        rule.getExamples().add("Multifocal tumors in floor of mouth.");
-        rule.getExamples().add("An in situ and invasive tumor diagnosed within60 days.");
-        rule.getExamples().add("In situ following an invasive tumor more than 60 days apart.");
         _rules.add(rule);
     }
 }
@@ -4,7 +4,6 @@
 package com.imsweb.mph.mpgroups;
 
 import java.util.Arrays;
-import java.util.List;
 
 import com.imsweb.mph.MphConstants;
 import com.imsweb.mph.MphGroup;
@@ -12,6 +11,7 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.NosVsSpecific;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleHistology;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
@@ -48,11 +48,11 @@ public class Mp2007KidneyGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (!context.validPairedSiteLaterality(i1, i2)) {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                     result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                 }
-                else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                else if (context.areOppositeSides(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
 
                 return result;
@@ -60,7 +60,6 @@ public class Mp2007KidneyGroup extends MphGroup {
         };
         rule.setQuestion("Are there tumors in both the left and right kidney?");
         rule.setReason("Tumors in both the right kidney and in the left kidney are multiple primaries.");
-        rule.getNotes().add("Abstract as a single primary when the tumors in one kidney are documented to be metastatic from the other kidney.");
         _rules.add(rule);
 
         // M6 - Tumors diagnosed more than three (3) years apart are multiple primaries.
@@ -69,8 +68,6 @@ public class Mp2007KidneyGroup extends MphGroup {
 
         // M7 - An invasive tumor following an in situ tumor more than 60 days after diagnosis are multiple primaries.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_KIDNEY, "M7");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         // M8 - One tumor with a specific renal cell type and another tumor with a different specific renal cell type are multiple primaries (table 1 in pdf).
@@ -90,15 +87,12 @@ public class Mp2007KidneyGroup extends MphGroup {
         _rules.add(rule);
 
         // M9 -
+        NosVsSpecific nosVsSpecific = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, Arrays.asList("8000", "8010", "8140", "8312"));
         rule = new MphRule(MphConstants.MPH_2007_2017_KIDNEY, "M9") {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                String hist1 = i1.getHistology();
-                String hist2 = i2.getHistology();
-                List<String> nosList = Arrays.asList("8000", "8010", "8140", "8312");
-                if ((nosList.contains(hist1) && MphConstants.NOS_VS_SPECIFIC.containsKey(hist1) && MphConstants.NOS_VS_SPECIFIC.get(hist1).contains(hist2)) || (nosList.contains(hist2)
-                        && MphConstants.NOS_VS_SPECIFIC.containsKey(hist2) && MphConstants.NOS_VS_SPECIFIC.get(hist2).contains(hist1)))
+                if (nosVsSpecific.isNosVsSpecific(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
 
                 return result;
@@ -113,8 +107,6 @@ public class Mp2007KidneyGroup extends MphGroup {
                 "- Carcinoma, NOS (8010) and another is a specific carcinoma or\n" +
                 "- Adenocarcinoma, NOS (8140) and another is a specific adenocarcinoma or\n" +
                 "- Renal cell carcinoma, NOS (8312) and the other is a single renal cell type");
-        rule.getNotes().add("The specific histology for in situ tumors may be identified as pattern, architecture, type, subtype, predominantly, with features of, major, or with ____differentiation");
-        rule.getNotes().add("The specific histology for invasive tumors may be identified as type, subtype, predominantly, with features of, major, or with ____differentiation.");
         _rules.add(rule);
 
         // M10- Tumors with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.  
@@ -123,7 +115,6 @@ public class Mp2007KidneyGroup extends MphGroup {
 
         //M11- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_KIDNEY, "M11");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
         _rules.add(rule);
     }
 }
@@ -25,7 +25,6 @@ public class Mp2007LungGroup extends MphGroup {
 
         // M3- Tumors in sites with ICD-O-3 topography codes that are different at the second (C?xx) and/or third (Cx?x) character are multiple primaries.
         MphRule rule = new MpRulePrimarySite(MphConstants.MPH_2007_2017_LUNG, "M3");
-        rule.getNotes().add("This is a change in rules; tumors in the trachea (C33) and in the lung (C34) were a single lung primary in the previous rules.");
         _rules.add(rule);
 
         // M4- At least one tumor that is non-small cell carcinoma (8046) and another tumor that is small cell carcinoma (8041-8045) are multiple primaries.
@@ -65,7 +64,7 @@ public class Mp2007LungGroup extends MphGroup {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                     result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                 }
-                else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                else if (context.areOppositeSides(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
 
                 return result;
@@ -73,7 +72,6 @@ public class Mp2007LungGroup extends MphGroup {
         };
         rule.setQuestion("Is there a single tumor in each lung?");
         rule.setReason("A single tumor in each lung is multiple primaries.");
-        rule.getNotes().add("When there is a single tumor in each lung abstract as multiple primaries unless stated or proven to be metastatic.");
         _rules.add(rule);
 
         // M7- Multiple tumors in both lungs with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.
@@ -99,8 +97,6 @@ public class Mp2007LungGroup extends MphGroup {
 
         // M9- An invasive tumor following an in situ tumor more than 60 days after diagnosis are multiple primaries.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_LUNG, "M9");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         // M10- Tumors with non-small cell carcinoma, NOS (8046) and a more specific non-small cell carcinoma type (chart 1) are a single primary.
@@ -119,13 +115,10 @@ public class Mp2007LungGroup extends MphGroup {
 
         // M11- Tumors with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.
         rule = new MpRuleHistology(MphConstants.MPH_2007_2017_LUNG, "M11");
-        rule.getNotes().add("Adenocarcinoma in one tumor and squamous cell carcinoma in another tumor are multiple primaries.");
         _rules.add(rule);
 
         // M12- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_LUNG, "M12");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by this rule are the same histology.");
         _rules.add(rule);
     }
 }
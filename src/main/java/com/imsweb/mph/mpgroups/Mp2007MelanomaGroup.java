@@ -54,8 +54,6 @@ public class Mp2007MelanomaGroup extends MphGroup {
         };
         rule.setQuestion("Do the melanomas have different lateralities?");
         rule.setReason("Melanomas with different laterality are multiple primaries.");
-        rule.getExamples().add("Melanoma of the right side of the chest and a melanoma at midline of the chest are different laterality, multiple primaries.");
-        rule.getExamples().add("A melanoma of the right side of the chest and a melanoma of the left side of the chest are multiple primaries.");
         _rules.add(rule);
 
         //M5- Melanomas with ICD-O-3 histology codes that are different at the first (?xxx), second (x?xx) or third (xx?x) number are multiple primaries.        
@@ -68,8 +66,6 @@ public class Mp2007MelanomaGroup extends MphGroup {
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2020_MELANOMA, "M6");
         rule.setQuestion("Is there an invasive melanoma following an in situ tumor more than 60 days after diagnosis?");
         rule.setReason("An invasive melanoma that occurs more than 60 days after an in situ melanoma is a multiple primary.");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M7- Melanomas diagnosed more than 60 days apart are multiple primaries. 
@@ -77,7 +73,7 @@ public class Mp2007MelanomaGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                 if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                     result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -94,9 +90,6 @@ public class Mp2007MelanomaGroup extends MphGroup {
         //M8- Melanomas that do not meet any of the above criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2020_MELANOMA, "M8");
         rule.setReason("Melanomas that do not meet any of the above criteria are abstracted as a single primary.");
-        rule.getNotes().add("Use the data item \"Multiplicity Counter\" to record the number of melanomas abstracted as a single primary.");
-        rule.getNotes().add("When an invasive melanoma follows an in situ melanoma within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by this rule are the same site and histology.");
         _rules.add(rule);
     }
 }
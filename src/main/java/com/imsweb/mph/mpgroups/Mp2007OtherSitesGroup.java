@@ -16,6 +16,8 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.NosVsSpecific;
+import com.imsweb.mph.internal.PairedSites;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleHistology;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
@@ -28,6 +30,10 @@ import com.imsweb.mph.mprules.MpRuleYearsApart;
 
 public class Mp2007OtherSitesGroup extends MphGroup {
 
+    // the paired sites of Table 1, used by M8
+    private static final List<String> _PAIRED_SITES = PairedSites.of("C384", "C400", "C401", "C402", "C403", "C413", "C414", "C441", "C442", "C443", "C445", "C446", "C447", "C471", "C472", "C491",
+            "C492", "C569", "C570", "C620-C629", "C630", "C631", "C690-C699", "C740-C749", "C754");
+
     //Excludes Head and Neck, Colon, Lung, Melanoma of Skin, Breast, Kidney, Renal Pelvis, Ureter, Bladder, Brain, Lymphoma and Leukemia
     public Mp2007OtherSitesGroup() {
         super(MphConstants.MPH_2007_OTHER_SITES_GROUP_ID, MphConstants.MPH_2007_2022_OTHER_SITES, null, null, null, "9590-9993", "2-3,6", "2007-2022");
@@ -45,9 +51,6 @@ public class Mp2007OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Is the diagnosis adenocarcinoma of the prostate?");
         rule.setReason("Adenocarcinoma of the prostate is always a single primary.");
-        rule.getNotes().add("Report only one adenocarcinoma of the prostate per patient per lifetime.");
-        rule.getNotes().add("95% of prostate malignancies are the common (acinar) adenocarcinoma histology (8140). See Equivalent Terms, Definitions and Tables for more information.");
-        rule.getNotes().add("If patient has a previous acinar adenocarcinoma of the prostate in the database and is diagnosed with adenocarcinoma in 2007 it is a single primary.");
         _rules.add(rule);
 
         //M4- Retinoblastoma is always a single primary (unilateral or bilateral). (9510, 9511, 9512, 9513)
@@ -82,7 +85,7 @@ public class Mp2007OtherSitesGroup extends MphGroup {
                 if (MphConstants.OVARY.equals(site1) && MphConstants.OVARY.equals(site2) && Integer.parseInt(hist1) <= 8799 && Integer.parseInt(hist2) <= 8799 &&
                         (hist1.equals(hist2) || Arrays.asList("8000", "8010").contains(hist1) || Arrays.asList("8000", "8010").contains(hist2) ||
                                 GroupUtility.differentCategory(hist1, hist2, Arrays.asList("8460", "8461"), Collections.singletonList("8441")))) {
-                    int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                    int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                     if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                         result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                         result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -103,15 +106,12 @@ public class Mp2007OtherSitesGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                List<String> pairedSites = Arrays.asList("C384", "C400", "C401", "C402", "C403", "C413", "C414", "C441", "C442", "C443", "C445", "C446", "C447", "C471", "C472", "C491", "C492", "C569",
-                        "C570", "C620-C629", "C630", "C631", "C690-C699", "C740-C749", "C754");
-
-                if (GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), pairedSites)) {
-                    if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (context.isPairedSites(i1, i2, _PAIRED_SITES)) {
+                    if (!context.validPairedSiteLaterality(i1, i2)) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                     }
-                    else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                    else if (context.areOppositeSides(i1, i2))
                         result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 }
 
@@ -120,7 +120,6 @@ public class Mp2007OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Are there tumors in both the left and right sides of a paired site (Table 1)?");
         rule.setReason("Tumors on both sides (right and left) of a site listed in Table 1 are multiple primaries.");
-        rule.getNotes().add("Table 1 – Paired Organs and Sites with Laterality.");
         _rules.add(rule);
 
         //M9 - Adenocarcinoma in adenomatous polyposis coli (familial polyposis) with one or more in situ or malignant polyps is a single primary.
@@ -151,8 +150,6 @@ public class Mp2007OtherSitesGroup extends MphGroup {
 
         //M11 - Tumors in sites with ICD-O-3 topography codes that are different at the second (C?xx) and/or third (Cx?x) character are multiple primaries.
         rule = new MpRulePrimarySite(MphConstants.MPH_2007_2022_OTHER_SITES, "M11");
-        rule.getExamples().add("A tumor in the penis C609 and a tumor in the rectum C209 have different second characters in their ICD-O-3 topography codes, so they are multiple primaries.");
-        rule.getExamples().add("A tumor in the cervix C539 and a tumor in the vulva C519 have different third characters in their ICD-O-3 topography codes, so they are multiple primaries.");
         _rules.add(rule);
 
         //M12 - Tumors with ICD-O-3 topography codes that differ only at the fourth character (Cxx?) and are in any one of the following primary sites are multiple primaries. ** Anus and anal canal (C21_) Bones, joints, and articular cartilage (C40_- C41_) Peripheral nerves and autonomic nervous system (C47_) Connective subcutaneous and other soft tissues (C49_) Skin (C44_)
@@ -212,25 +209,19 @@ public class Mp2007OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Are there multiple in situ and/or malignant polyps?");
         rule.setReason("Multiple in situ and/or malignant polyps are a single primary.");
-        rule.getNotes().add("Includes all combinations of adenomatous, tubular, villous, and tubulovillous adenomas or polyps.");
         _rules.add(rule);
 
         //M15 - An invasive tumor following an in situ tumor more than 60 days after diagnosis is a multiple primary.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2022_OTHER_SITES, "M15");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M16 -
+        NosVsSpecific nosVsSpecific = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, Arrays.asList("8000", "8010", "8070", "8140", "8720", "8800"));
         rule = new MphRule(MphConstants.MPH_2007_2022_OTHER_SITES, "M16") {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                String hist1 = i1.getHistology();
-                String hist2 = i2.getHistology();
-                List<String> nosList = Arrays.asList("8000", "8010", "8070", "8140", "8720", "8800");
-                if ((nosList.contains(hist1) && MphConstants.NOS_VS_SPECIFIC.containsKey(hist1) && MphConstants.NOS_VS_SPECIFIC.get(hist1).contains(hist2)) || (nosList.contains(hist2)
-                        && MphConstants.NOS_VS_SPECIFIC.containsKey(hist2) && MphConstants.NOS_VS_SPECIFIC.get(hist2).contains(hist1)))
+                if (nosVsSpecific.isNosVsSpecific(i1, i2))
                     result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 return result;
             }
@@ -256,42 +247,11 @@ public class Mp2007OtherSitesGroup extends MphGroup {
 
         //M18- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2022_OTHER_SITES, "M18");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
         _rules.add(rule);
     }
 
     @Override
-    public boolean isApplicable(String primarySite, String histology, String behavior, int year) {
-        if (GroupUtility.isContained(GroupUtility.computeRange(_histExclusions, false), Integer.parseInt(histology)) || !_behavInclusions.contains(behavior) || !GroupUtility.isContained(
-                GroupUtility.computeRange(_yearInclusions, false), year) || !GroupUtility.validateProperties(primarySite, histology, behavior, year))
-            return false;
-
-        List<MphGroup> specificGroups = new ArrayList<>();
-        specificGroups.add(new Mp2007HeadAndNeckGroup());
-        specificGroups.add(new Mp2007ColonGroup());
-        specificGroups.add(new Mp2007LungGroup());
-        specificGroups.add(new Mp2007MelanomaGroup());
-        specificGroups.add(new Mp2007BreastGroup());
-        specificGroups.add(new Mp2007KidneyGroup());
-        specificGroups.add(new Mp2007UrinaryGroup());
-        specificGroups.add(new Mp2007BenignBrainGroup());
-        specificGroups.add(new Mp2007MalignantBrainGroup());
-
-        specificGroups.add(new Mp2018BreastGroup());
-        specificGroups.add(new Mp2018ColonGroup());
-        specificGroups.add(new Mp2018HeadAndNeckGroup());
-        specificGroups.add(new Mp2018KidneyGroup());
-        specificGroups.add(new Mp2018LungGroup());
-        specificGroups.add(new Mp2018MalignantCNSAndPeripheralNervesGroup());
-        specificGroups.add(new Mp2018NonMalignantCNSTumorsGroup());
-        specificGroups.add(new Mp2018UrinarySitesGroup());
-
-        specificGroups.add(new Mp2021CutaneousMelanomaGroup());
-
-        for (MphGroup group : specificGroups) {
-            if (group.isApplicable(primarySite, histology, behavior, year))
-                return false;
-        }
-        return true;
+    protected List<MphGroup> getGroupsTakingPrecedence() {
+        return GroupUtility.getSpecificSolidTumorGroups();
     }
 }
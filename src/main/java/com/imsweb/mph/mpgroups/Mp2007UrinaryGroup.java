@@ -31,20 +31,16 @@ public class Mp2007UrinaryGroup extends MphGroup {
         MphRule rule = new MpRuleRenalPelvis(MphConstants.MPH_2007_2017_URINARY, "M3");
         rule.setQuestion("Are there tumors in both the right renal pelvis and the left renal pelvis and no other urinary sites are involved?");
         rule.setReason("When no other urinary sites are involved, tumor(s) in the right renal pelvis AND tumor(s) in the left renal pelvis are multiple primaries.");
-        rule.getNotes().add("Use this rule and abstract as a multiple primary unless documented to be metastatic.");
         _rules.add(rule);
 
         // M4 - When no other urinary sites are involved, tumor(s) in both the right ureter AND tumor(s) in the left ureter are multiple primaries. (C669) 
         rule = new MpRuleUreter(MphConstants.MPH_2007_2017_URINARY, "M4");
         rule.setQuestion("Are there tumors in both the right ureter and the left ureter and no other urinary sites are involved?");
         rule.setReason("When no other urinary sites are involved, tumor(s) in both the right ureter AND tumor(s) in the left ureter are multiple primaries.");
-        rule.getNotes().add("Use this rule and abstract as a multiple primary unless documented to be metastatic.");
         _rules.add(rule);
 
         // M5- An invasive tumor following an in situ tumor more than 60 days after diagnosis are multiple primaries.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.MPH_2007_2017_URINARY, "M5");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         // M6 - Bladder tumors with any combination of the following histologies: papillary carcinoma (8050), transitional cell carcinoma (8120-8124), 
@@ -111,7 +107,6 @@ public class Mp2007UrinaryGroup extends MphGroup {
 
         // M11- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.MPH_2007_2017_URINARY, "M11");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
         _rules.add(rule);
     }
 }
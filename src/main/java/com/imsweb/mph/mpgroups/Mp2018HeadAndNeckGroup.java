@@ -3,9 +3,11 @@
  */
 package com.imsweb.mph.mpgroups;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import com.imsweb.mph.MphConstants;
@@ -15,6 +17,9 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.MphUtils.MpResult;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.CodeFormat;
+import com.imsweb.mph.internal.IntervalSet;
+import com.imsweb.mph.internal.SiteSet;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleInsituAfterInvasive;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
@@ -24,15 +29,20 @@ import com.imsweb.mph.mprules.MpRulePrimarySite;
 import com.imsweb.mph.mprules.MpRuleYearsApart;
 
 import static com.imsweb.mph.MphConstants.AND_CONNECTOR;
-import static com.imsweb.mph.MphConstants.HIERARCHICAL_RULES;
-import static com.imsweb.mph.MphConstants.HISTOLOGY_IS_IRRELEVANT;
-import static com.imsweb.mph.MphConstants.TIMING_IS_IRRELEVANT;
-import static com.imsweb.mph.MphConstants.USE_FOR_MULTIPLE_RULES;
 
 //S3776 - Cognitive Complexity of methods should not be too high => some of the rules are complicated by definition
 @SuppressWarnings("java:S3776")
 public class Mp2018HeadAndNeckGroup extends MphGroup {
 
+    // the paragangliomas of the carotid body and glomus jugulare (C754-C755, 8680 and 8690-8693, malignant) are also included starting in 2019
+    private static final String _PARAGANGLIOMA_SITES = "C754-C755";
+    private static final String _PARAGANGLIOMA_HISTOLOGIES = "8680, 8690-8693";
+    private static final String _PARAGANGLIOMA_YEARS = "2019-9999";
+
+    private static final SiteSet _PARAGANGLIOMA_SITE_SET = SiteSet.of(_PARAGANGLIOMA_SITES);
+    private static final IntervalSet _PARAGANGLIOMA_HISTOLOGY_SET = IntervalSet.of(_PARAGANGLIOMA_HISTOLOGIES, false);
+    private static final IntervalSet _PARAGANGLIOMA_YEAR_SET = IntervalSet.of(_PARAGANGLIOMA_YEARS, false);
+
     // Head and Neck
     // C000-C148, C300-C339, C410, C411, C479, C754-C755
     // (Excludes lymphoma and leukemia M9590 – M9992 and Kaposi sarcoma M9140)
@@ -98,17 +108,10 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
                 "Submandibular gland C080 AND sublingual gland C081, \n" +
                 "Upper gum C030 AND lower gum C031, \n" +
                 "Upper lip C000 or C003 AND lower lip C001 or C004, are multiple primaries.");
-        rule.getNotes().add(USE_FOR_MULTIPLE_RULES);
-        rule.getNotes().add(TIMING_IS_IRRELEVANT);
-        rule.getNotes().add(HISTOLOGY_IS_IRRELEVANT);
-        rule.getNotes().add("These primary sites differ at the fourth character of the site code CxxX. Use this rule ONLY for the primary sites listed.");
         _rules.add(rule);
 
         // Rule M4 Abstract multiple primaries when separate/non-contiguous tumors are present in sites with ICD-O site codes that differ at the second CXxx, and/or third characters CxXx.
         rule = new MpRulePrimarySite(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M4");
-        rule.getNotes().add(USE_FOR_MULTIPLE_RULES);
-        rule.getNotes().add(TIMING_IS_IRRELEVANT);
-        rule.getNotes().add(HISTOLOGY_IS_IRRELEVANT);
         _rules.add(rule);
 
         // Rule M5 Abstract multiple primaries when there are separate/non-contiguous tumors on both the right side and the left side of a paired site.
@@ -116,12 +119,12 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                if (GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), MphConstants.HEAD_AND_NECK_2018_PAIRED_SITES)) {
-                    if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (context.isPairedSites(i1, i2, MphConstants.HEAD_AND_NECK_2018_PAIRED_SITES)) {
+                    if (!context.validPairedSiteLaterality(i1, i2)) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                     }
-                    else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                    else if (context.areOppositeSides(i1, i2))
                         result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 }
                 return result;
@@ -129,23 +132,10 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
         };
         rule.setQuestion("Are there separate, non-contiguous tumors on both the right side and the left side of a paired site?");
         rule.setReason("Separate, non-contiguous tumors on the right side and the left side of a paired site are multiple primaries.");
-        rule.getNotes().add("See Table 10 for a list of paired sites.");
-        rule.getNotes().add(USE_FOR_MULTIPLE_RULES);
-        rule.getNotes().add(TIMING_IS_IRRELEVANT);
-        rule.getNotes().add(HISTOLOGY_IS_IRRELEVANT);
         _rules.add(rule);
 
         // Rule M6 Abstract multiple primaries when the patient has a subsequent tumor after being clinically disease-free for greater than five years after the original diagnosis or last recurrence.
         rule = new MpRuleYearsApart(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M6", 5);
-        rule.getNotes().add("Clinically disease-free means that there was no evidence of recurrence on follow-up.");
-        rule.getNotes().add("  - Scopes are NED");
-        rule.getNotes().add("  - Scans are NED");
-        rule.getNotes().add("  - Biomarkers are NED");
-        rule.getNotes().add(
-                "When there is a recurrence less than or equal to five years of diagnosis, the \"clock\" starts over. The time interval is calculated from the date of last recurrence. In other words, the patient must have been disease-free for greater than five years from the date of the last recurrence.");
-        rule.getNotes().add("When it is unknown/not documented whether the patient had a recurrence, default to date of diagnosis to compute the time interval.");
-        rule.getNotes().add(
-                "The physician may state this is a recurrence, meaning the patient had a previous head and neck tumor and now has another head and neck tumor. Follow the rules; do not attempt to interpret the physician’s statement.");
         _rules.add(rule);
 
         // Rule M7 Abstract multiple primaries when separate, non-contiguous tumors are two or more different subtypes/variants in Column 2 of the appropriate site table (Tables 1-9) in the Site-group Instructions. Timing is irrelevant.
@@ -209,11 +199,6 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
                 "Are separate, non-contiguous tumors different subtypes/variants in Column 2 of the appropriate site table (Tables 1-9) in the Site-group Instructions?");
         rule.setReason(
                 "Separate, non-contiguous tumors are different subtypes/variants in Column 2 of the appropriate site table (Tables 1-9) in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("The tumors may be subtypes/variants of the same or different NOS histologies.");
-        rule.getNotes().add(
-                "  - Same NOS: Alveolar rhabdomyosarcoma 8920/3 and embryonal rhabdomyosarcoma 8910/3 are both subtypes of rhabdomyosarcoma 8900/3 but are distinctly different histologies. Abstract multiple primaries.");
-        rule.getNotes().add(
-                "  - Different NOS: Colloid-type adenocarcinoma 8144 is a subtype of adenocarcinoma NOS 8140; Sarcomatoid carcinoma 8074 is a subtype of squamous cell carcinoma 8070. They are distinctly different histologies. Abstract multiple primaries.");
         _rules.add(rule);
 
         // Rule M8 Abstract multiple primaries when separate, non-contiguous tumors are on different rows in the appropriate site table (Tables 1-9) in the Site-group Instructions. Timing is irrelevant.
@@ -247,34 +232,18 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
         };
         rule.setQuestion("Are separate, non-contiguous tumors on different rows in the appropriate site table (Tables 1-9) in the Site-group Instructions?");
         rule.setReason("Separate, non-contiguous tumors on different rows in the appropriate site table (Tables 1-9) in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("Each row in the table is a distinctly different histology.");
         _rules.add(rule);
 
         // Rule M9 Abstract a single primary (the invasive) when an in situ tumor is diagnosed after an invasive tumor in the same primary site.
         rule = new MpRuleInsituAfterInvasive(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M9");
-        rule.getNotes().add(HIERARCHICAL_RULES);
-        rule.getNotes().add("The tumors may be a NOS and a subtype/variant of that NOS. See Tables 1-9 in the Site-group Instructions for listings of NOS and subtype/variants.");
-        rule.getNotes().add("The in situ is recorded as a recurrence for those registrars who collect recurrence data.");
         _rules.add(rule);
 
         // Rule M10 Abstract a single primary (the invasive) when an invasive tumor is diagnosed less than or equal to 60 days after an in situ tumor in the same primary site.
         rule = new MpRuleInvasiveAfterInsituLessThan60Days(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M10");
-        rule.getNotes().add(HIERARCHICAL_RULES);
-        rule.getNotes().add("The tumors may be an NOS and a subtype/variant of that NOS");
-        rule.getNotes().add("When the case has been abstracted, change behavior code on original abstract from /2 to /3. Do not change date of diagnosis.");
-        rule.getNotes().add("If the case has already been submitted to the central registry, report all changes.");
-        rule.getNotes().add(
-                "The physician may stage both tumors because staging and determining multiple primaries are done for different reasons. Staging determines which treatment would be most effective. Determining multiple primaries is done to stabilize the data for the study of epidemiology (long-term studies done on incidence, mortality, and causation of a disease with the goal of reducing or eliminating that disease).");
-        rule.getNotes().add("See the COC and SEER manuals for instructions on coding other data items such as Date of Diagnosis, Accession Year and Sequence Number.");
         _rules.add(rule);
 
         // Rule M11 Abstract multiple primaries when an invasive tumor occurs more than 60 days after an in situ tumor.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M11");
-        rule.getNotes().add(HIERARCHICAL_RULES);
-        rule.getNotes().add("Abstract both the invasive and in situ tumors.");
-        rule.getNotes().add("Abstract as multiple primaries even if physician states the invasive tumor is disease recurrence or progression.");
-        rule.getNotes().add(
-                "This rule is based on long-term epidemiologic studies of recurrence intervals. The specialty medical experts (SMEs) reviewed and approved these rules.  Many of the SMEs were also authors, co-authors, or editors of the AJCC Staging Manual.");
         _rules.add(rule);
 
         // Rule M12 Abstract a single primary when separate/non-contiguous tumors in the same primary site are on the same row in the appropriate site table (Tables 1-9) in the Site-group Instructions. Timing is irrelevant.
@@ -312,23 +281,40 @@ public class Mp2018HeadAndNeckGroup extends MphGroup {
         rule.setQuestion("Are separate, non-contiguous tumors in the same primary site and on the same row in the appropriate site table (Tables 1-9) in the Site-group Instructions?");
         rule.setReason(
                 "Separate, non-contiguous tumors in the same primary site and on the same row in the appropriate site table (Tables 1-9) in the Site-group Instructions are a single primary.");
-        rule.getNotes().add("The same row means the tumors are:");
-        rule.getNotes().add("  - The same histology (same four-digit ICD-O code) OR");
-        rule.getNotes().add("  - One is the preferred term (column 1) and the other is a synonym for the preferred term (column 2) OR");
-        rule.getNotes().add("  - A NOS (column 1/column 2) and the other is a subtype/variant of that NOS (column 3)");
         _rules.add(rule);
 
         // Rule M13 Abstract a single primary  when none of the previous rules apply.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2018_HEAD_AND_NECK, "M13");
-        rule.getNotes().add("Use caution when applying this default rule. Please confirm that you have not overlooked an applicable rule.");
         _rules.add(rule);
     }
 
     @Override
-    public boolean isApplicable(String primarySite, String histology, String behavior, int year) {
-        if (super.isApplicable(primarySite, histology, behavior, year))
+    public List<String> getApplicabilitySiteRanges() {
+        List<String> result = new ArrayList<>(super.getApplicabilitySiteRanges());
+        result.add(_PARAGANGLIOMA_SITES);
+        return result;
+    }
+
+    @Override
+    public List<String> getApplicabilityHistologyRanges() {
+        List<String> result = new ArrayList<>(super.getApplicabilityHistologyRanges());
+        result.add(_PARAGANGLIOMA_HISTOLOGIES);
+        return result;
+    }
+
+    @Override
+    public List<String> getApplicabilityYearRanges() {
+        List<String> result = new ArrayList<>(super.getApplicabilityYearRanges());
+        result.add(_PARAGANGLIOMA_YEARS);
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(String primarySite, String histology, String behavior, int year, int currentYear) {
+        if (super.isApplicable(primarySite, histology, behavior, year, currentYear))
             return true;
-        return year >= 2019 && ("C754".equals(primarySite) || "C755".equals(primarySite)) && Arrays.asList("8680", "8690", "8691", "8692", "8693").contains(histology) && "3".equals(behavior);
+        return _PARAGANGLIOMA_YEAR_SET.contains(year) && "3".equals(behavior) && GroupUtility.validateSite(primarySite) && _PARAGANGLIOMA_SITE_SET.contains(SiteSet.parseSite(primarySite))
+                && _PARAGANGLIOMA_HISTOLOGY_SET.contains(CodeFormat.parseHistology(histology));
     }
 }
 
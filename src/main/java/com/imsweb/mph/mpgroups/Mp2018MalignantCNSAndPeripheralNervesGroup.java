@@ -43,10 +43,6 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
                 return new TempRuleResult();
             }
         };
-        rule.getNotes().add("The rules are hierarchical. Only use when previous rules do not apply.");
-        rule.getNotes().add("See Table 2 in the Site-group Instructions for a listing of CNS sites.");
-        rule.getNotes().add(
-                "A non-malignant CNS tumor and a malignant CNS tumor are always multiple primaries (timing and primary sites are irrelevant). Prepare two abstracts; one for the non-malignant and another for the malignant tumor.");
         _rules.add(rule);
 
         // Rule M7 Abstract multiple primaries when a patient has a glial tumor and is subsequently diagnosed with a glioblastoma multiforme 9440 (GBM).
@@ -57,7 +53,7 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
                 String h1 = i1.getHistology();
                 String h2 = i2.getHistology();
                 if (!h1.equals(h2) && GroupUtility.differentCategory(h1, h2, MphConstants.GLIAL_TUMOR_2018, Collections.singletonList(MphConstants.GLIOBLASTOMA_NOS_AND_MULTIFORME))) {
-                    int laterDiagnosedTumor = GroupUtility.compareDxDate(i1, i2);
+                    int laterDiagnosedTumor = context.compareDxDate(i1, i2);
                     if (MphConstants.COMPARE_DX_UNKNOWN == laterDiagnosedTumor) { //If impossible to decide which tumor is diagnosed later
                         result.setPotentialResult(MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -72,28 +68,6 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
         };
         rule.setQuestion("Does the patient have a glial tumor and is subsequently diagnosed with a glioblastoma multiforme 9440 (GBM)?");
         rule.setReason("A glial tumor that is subsequently diagnosed with a glioblastoma multiforme 9440 (GBM) is multiple primaries.");
-        rule.getNotes().add("Definition of a glial tumor: Any tumor arising from the CNS glial cells.  The following is simply a list of all tumors which would be classified as glial.");
-        rule.getNotes().add("  - Astroblastoma 9430");
-        rule.getNotes().add("  - Astrocytomas 9400 and all subtypes");
-        rule.getNotes().add("     Anaplastic astrocytoma IDH-mutant/wildtype; anaplastic astrocytoma NOS 9401");
-        rule.getNotes().add("     Gemistocytic astrocytoma IDH-mutant 9411");
-        rule.getNotes().add("  - Diffuse midline glioma H3 K27M Mutant 9385");
-        rule.getNotes().add("  - Ependymoma 9391 and all subtypes");
-        rule.getNotes().add("     Anaplastic ependymoma 9392");
-        rule.getNotes().add("     Ependymoma, RELA fusion-positive 9396");
-        rule.getNotes().add("     Papillary ependymoma 9393");
-        rule.getNotes().add("  - Glioblastoma 9440 and all subtypes (this is a glial tumor; however do not apply this rule to a GBM followed by a GBM)");
-        rule.getNotes().add("     Giant cell glioblastoma 9441");
-        rule.getNotes().add("     Glioblastoma IDH-mutant 9445");
-        rule.getNotes().add("     Gliosarcoma 9442");
-        rule.getNotes().add("  - Oligodendroglioma and all subtypes 9450");
-        rule.getNotes().add("     Anaplastic oligodendroglioma; IDH-mutant; 1p/19q-codeleted; IDH-mutant and 1p/19q-codeleted 9451");
-        rule.getNotes().add("  - Pleomorphic xanthroastrocytoma 9424");
-        rule.getNotes().add("This is a change from the 2007 Rules.");
-        rule.getNotes().add("Abstracting GBM as a new primary will allow analysis of:");
-        rule.getNotes().add("  - The number of tumors that recur as a more aggressive histology (GBM)");
-        rule.getNotes().add("  - The time interval between occurrence of the glial or astrocytic tumors and a GBM");
-        rule.getNotes().add("  - Which histologies are more likely to recur as a GBM");
         _rules.add(rule);
 
         // Rule M8 Abstract a single primary when there are separate, non-contiguous tumors in the brain (multicentric/multifocal) with the same histology XXXX.  Tumors may be any of the following combinations:
@@ -112,22 +86,6 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
         };
         rule.setQuestion("Are the tumors separate, non-contiguous, in the brain (multicentric/multifocal), and have the same histology?");
         rule.setReason("Tumors which are separate, non-contiguous, in the brain (multicentric/multifocal), and have the same histology are a single primary.");
-        rule.getExamples().add(
-                "The patient had a resection of an anaplastic astrocytoma 9401 in the right parietal lobe. Three months later the patient is diagnosed with a de novo anaplastic astrocytoma in the left parietal lobe. This is one primary because neither laterality nor timing are used to determine multiple primary status.");
-        rule.getNotes().add(
-                "Multiple sites/subsites and/or different lateralities imply either metastatic or multifocal/multicentric disease. Glioblastoma multiforme commonly exhibits multiple tumors which are described as multifocal/multicentric.");
-        rule.getNotes().add("Metastases are never used to determine multiple primaries. Seeding metastasis is often noted for the following tumors:");
-        rule.getNotes().add("  - Glioblastoma multiforme");
-        rule.getNotes().add("  - pNET-medulloblastoma");
-        rule.getNotes().add("  - Oligodendroglioma");
-        rule.getNotes().add("Hereditary syndromes frequently exhibit multiple tumors including the following:");
-        rule.getNotes().add("  - Neurofibromatosis type 1 (NF1)");
-        rule.getNotes().add("     Malignant peripheral nerve sheath tumors (MPNST)");
-        rule.getNotes().add("  - Neurofibromatosis type 2 (NF2)");
-        rule.getNotes().add("     Anaplastic ependymomas");
-        rule.getNotes().add("     Meningiomas");
-        rule.getNotes().add("Most malignant neoplasms are single tumors with the exception of those listed in this rule.");
-        rule.getNotes().add("This is a change from/clarification to previous rules.");
         _rules.add(rule);
 
         // Rule M9 Abstract multiple primaries when multiple tumors are present in any of the following sites or subsites:
@@ -164,11 +122,6 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors two or more different subtypes/variants in Column 2, Table 3 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors that are two or more different subtypes/variants in Column 2, Table 3 in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("The tumors may be subtypes/variants of the same or different NOS histologies.");
-        rule.getNotes().add(
-                "  - Same NOS: Anaplastic astrocytoma IDH-mutant 9401 and gemistocytic astrocytoma IDH-mutant 9411 are both subtypes of astrocytoma NOS 9400/3 but are distinctly different histologies. Abstract multiple primaries.");
-        rule.getNotes().add(
-                "  - Different NOS: Papillary ependymoma 9393 is a subtype of ependymoma NOS 9391; gliosarcoma 9442 is a subtype of glioblastoma NOS 9440. They are distinctly different histologies. Abstract multiple primaries.");
         _rules.add(rule);
 
         //Rule M11    Abstract a single primary when separate, non-contiguous tumors are Glioma NOS and a subtype/variant of Glioma NOS.
@@ -193,26 +146,12 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors two or more different subtypes/variants in Column 2, Table 3 in the Site-group Instructions?");
         rule.setReason("Abstract a single primary when separate, non-contiguous tumors are Glioma NOS and a subtype/variant of Glioma NOS.");
-        rule.getNotes().add(
-                "The following is a list of all tumors which would be classified as subtypes/variants of glioma NOS.\n" +
-                        "    - Astroblastoma 9430\n"
-                        + "    - Astrocytomas 9400 and all subtypes\n"
-                        + "        Anaplastic astrocytoma IDH-mutant/wildtype; anaplastic astrocytoma NOS 9401\n"
-                        + "        Gemistocytic astrocytoma IDH-mutant 9411\n"
-                        + "    - Diffuse midline glioma H3 K27M Mutant 9385\n"
-                        + "    - Ependymoma 9391 and all subtypes\n"
-                        + "        Anaplastic ependymoma 9392\n"
-                        + "        Ependymoma, RELA fusion-positive 9396\n");
         _rules.add(rule);
 
         // Rule M12 Abstract a single primary when separate, non-contiguous tumors are on the same row in Table 3 in the Site-group Instructions. Timing is irrelevant.
         rule = new MpRuleSameRowInTable(MphConstants.SOLID_TUMOR_2018_MALIGNANT_CNS, "M12", MALIGNANT_CNS_2018_TABLE3_ROWS, false);
         rule.setQuestion("Are separate/non-contiguous tumors on the same rows in Table 3 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors on the same row in Table 3 in the Site-group Instructions are a single primary.");
-        rule.getNotes().add("The same row means the tumors are:");
-        rule.getNotes().add("  - The same histology (same four-digit ICD-O code) OR");
-        rule.getNotes().add("  - One is the preferred term (column 1) and the other is a synonym for the preferred term (column 2) OR");
-        rule.getNotes().add("  - A NOS (column 1/column 2) and the other is a subtype/variant of that NOS (column 3)");
         _rules.add(rule);
 
         // Rule M13 Abstract multiple primaries when separate, non-contiguous tumors are on different rows in Table 3 in the Site-group Instructions. Timing is irrelevant.
@@ -244,12 +183,10 @@ public class Mp2018MalignantCNSAndPeripheralNervesGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors on different rows in Table 3 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors on different rows in Table 3 in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("Each row in the table is a distinctly different histology.");
         _rules.add(rule);
 
         // Rule M14 Abstract a single primary when multiple tumors do not meet any of the above criteria.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2018_MALIGNANT_CNS, "M14");
-        rule.getNotes().add("Use caution when applying this default rule.  Please confirm that you have not overlooked an applicable rule.");
         _rules.add(rule);
     }
 }
@@ -5,7 +5,6 @@ package com.imsweb.mph.mpgroups;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -16,12 +15,16 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.MphUtils.MpResult;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.CodeList;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleCNS;
 import com.imsweb.mph.mprules.MpRuleNoCriteriaSatisfied;
 
 public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
 
+    // the paired sites used by M7
+    private static final List<String> _PAIRED_SITES = CodeList.of("C724", "C700", "C710", "C725", "C711", "C714", "C722", "C723", "C713", "C712");
+
     // Non-Malignant CNS Multiple Primary Rules
     // C700, C701, C709, C710-C719, C720-C725, C728, C729, C751-C753
     // (Excludes lymphoma and leukemia M9590 – M9992 and Kaposi sarcoma M9140)
@@ -51,9 +54,7 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                List<String> pairedSites = Arrays.asList("C724", "C700", "C710", "C725", "C711", "C714", "C722", "C723", "C713", "C712");
-                if (new HashSet<>(pairedSites).containsAll(Arrays.asList(i1.getPrimarySite(), i2.getPrimarySite())) && i1.getPrimarySite().equals(i2.getPrimarySite()) && GroupUtility.areOppositeSides(
-                        i1.getLaterality(), i2.getLaterality())) {
+                if (_PAIRED_SITES.contains(i1.getPrimarySite()) && _PAIRED_SITES.contains(i2.getPrimarySite()) && i1.getPrimarySite().equals(i2.getPrimarySite()) && context.areOppositeSides(i1, i2)) {
                     String icd1 = i1.getIcdCode();
                     String icd2 = i2.getIcdCode();
                     if (icd1.equals(icd2) && Arrays.asList("9560/0", "9421/1").contains(icd1))
@@ -65,10 +66,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are the tumors bilateral acoustic neuromas/vestibular schwannomas 9560/0 or bilateral optic gliomas/pilocytic astrocytomas 9421/1?");
         rule.setReason("Bilateral acoustic neuromas/vestibular schwannomas 9560/0 or bilateral optic gliomas/pilocytic astrocytomas 9421/1 are a single primary.");
-        rule.getNotes().add("The bilateral tumors may appear simultaneously (at the same time) OR the contralateral tumor may be diagnosed at any time following the original diagnosis.");
-        rule.getNotes().add("WHO and IARC designate pilocytic astrocytoma as a synonyn for optic glioma.  When the primary site is optic nerve, the behavior is non-malignant.");
-        rule.getNotes().add(
-                "When the bilateral tumors are diagnosed at different times, the physician may stage each tumor because staging and determining multiple primaries are done for different reasons. Staging determines which course of treatment would be most effective. Determining multiple primaries is done to stabilize the data for the study of epidemiology (long-term studies done on incidence, mortality, and causation of a disease with the goal of reducing or eliminating that disease).");
         _rules.add(rule);
 
         // Rule M8 Abstract multiple primaries when multiple tumors are present in any of the following sites:
@@ -99,11 +96,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors two or more different subtypes/variants in Column 2, Table 6 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors that are two or more different subtypes/variants in Column 2, Table 6 in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("The tumors may be subtypes/variants of the same or different NOS histologies.");
-        rule.getNotes().add(
-                "  - Same NOS: Atypical meningioma 9539/1 and fibrous meningioma 9532/0 are both subtypes of meningioma NOS 9530 but are distinctly different histologies. Abstract multiple primaries.");
-        rule.getNotes().add(
-                "  - Different NOS: Melanotic schwannoma 9560/1 is a subtype of schwannoma NOS 9560/0; papillary craniopharyngioma 9352/1 is a subtype of craniopharyngioma 9350/1. They are distinctly different histologies. Abstract multiple primaries.");
         _rules.add(rule);
 
         // Rule M10 Abstract a single primary when two or more separate/non-contiguous meningiomas arise in the cranial meninges.  Laterality is irrelevant and may be any of the following combinations:
@@ -124,7 +116,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are two or more separate/non-contiguous meningiomas arising in the cranial meninges?");
         rule.setReason("Two or more separate/non-contiguous meningiomas arising in the cranial meninges is a single primary.");
-        rule.getNotes().add("This rule applies ONLY to meningiomas.");
         _rules.add(rule);
 
         // Rule M11 Abstract a single primary when there are separate/non-contiguous tumors in the brain (multicentric/multifocal) with the same histology XXXX.  Tumors may be in any of the following locations and/or lateralities:
@@ -155,12 +146,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are the tumors separate, non-contiguous and in the brain (multicentric/multifocal)?");
         rule.setReason("Tumors which are separate, non-contiguous and in the brain (multicentric/multifocal) are a single primary.");
-        rule.getNotes().add("Metastases are never used to determine multiple primaries. Seeding metastasis is often noted in ependymomas.");
-        rule.getNotes().add("This is a change from/clarification to previous rules.");
-        rule.getNotes().add("These rules are hierarchical.  Use this rule ONLY when the previous rules do not apply.");
-        rule.getNotes().add("An example of a non-malignant brain tumor that may be multi-focal/multi-centric is hemangioblastoma 9161/1.");
-        rule.getNotes().add(
-                "The physician may stage each tumor because staging and determining multiple primaries are done for different reasons. Staging determines which course of treatment would be most effective. Determining multiple primaries is done to stabilize the data for the study of epidemiology (long-term studies done on incidence, mortality, and causation of a disease with the goal of reducing or eliminating that disease).");
         _rules.add(rule);
 
         // Rule M12 Abstract a single primary when separate/non-contiguous tumors are on the same row in Table 6 in the Site-group Instructions.  Timing is irrelevant.
@@ -202,20 +187,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors on the same rows in Table 6 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors on the same row in Table 6 in the Site-group Instructions are a single primary.");
-        rule.getNotes().add("The same row means the tumors are:");
-        rule.getNotes().add("  - The same histology (same four-digit ICD-O code) OR");
-        rule.getNotes().add("  - One is the preferred term (column 1) and the other is a synonym for the preferred term (column 2) OR");
-        rule.getNotes().add("  - A NOS (column 1/column 2) and the other is a subtype/variant of that NOS (column 3). NOS and subtype/variants are:");
-        rule.getNotes().add("     Choroid plexus papilloma 9390/0 and a subtype/variant of choroid plexus papilloma");
-        rule.getNotes().add("     Craniopharyngioma 9350/1 and a subtype/variant of craniopharyngioma");
-        rule.getNotes().add("     Gangliocytoma 9492/0 and a subtype/variant of craniopharyngioma");
-        rule.getNotes().add("     Lipoma 8860/0 and a subtype/variant of lipoma");
-        rule.getNotes().add("     Meningeal melanocytosis 8728/0 and a subtype/variant of meningeal melanocytosis");
-        rule.getNotes().add("     Meningioma 9530/0 and a subtype/variant of meningioma");
-        rule.getNotes().add("     Myofibroblastoma 8825/0 and a subtype/variant of myofibroblastoma");
-        rule.getNotes().add("     Neurofibroma 9540/0 and a subtype/variant of neurofibroma");
-        rule.getNotes().add("     Schwannoma 9560/0 and a subtype/variant of schwannoma");
-        rule.getNotes().add("     Solitary fibrous tumor WHO Grade 1 8815/0 and a subtype/variant of solitary fibrous tumor WHO Grade 1");
         _rules.add(rule);
 
         // Rule M13 Abstract a single primary when separate, non-contiguous tumors are Glioma NOS and a subtype/variant of Glioma NOS.
@@ -232,7 +203,6 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are separate, non-contiguous tumors Glioma NOS and a subtype/variant of Glioma NOS?");
         rule.setReason("Abstract a single primary when separate, non-contiguous tumors are Glioma NOS and a subtype/variant of Glioma NOS.");
-        rule.getNotes().add("Low-grade glioma is considered an umbrella term or non-specific diagnosis, primarily seen on radiographic reports such as CT scans and MRIs. Often the patient is actively followed with scans and surgical intervention delayed or not recommended that would provide a definitive histology type. A diagnosis of low-grade glioma is not recommended and may be used when the diagnosis is based on imaging and/or additional tests were inconclusive.");
         _rules.add(rule);
 
         // Rule M14 Abstract multiple primaries when separate/non-contiguous tumors are on different rows in Table 6 in the Site-group Instructions. Timing is irrelevant.
@@ -269,12 +239,10 @@ public class Mp2018NonMalignantCNSTumorsGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors on different rows in Table 6 in the Site-group Instructions?");
         rule.setReason("Separate/non-contiguous tumors on different rows in Table 6 in the Site-group Instructions are multiple primaries.");
-        rule.getNotes().add("Each row in the table is a distinctly different histology.");
         _rules.add(rule);
 
         // Rule M15 Abstract a single primary when the tumors do not meet any of the above criteria.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2018_NON_MALIGNANT_CNS, "M15");
-        rule.getNotes().add("These rules are hierarchical.  Use this rule ONLY when the previous rules do not apply.");
         _rules.add(rule);
     }
 }
@@ -63,11 +63,6 @@ public class Mp2021CutaneousMelanomaGroup extends MphGroup {
         };
         rule.setQuestion("Do the melanomas have different lateralities?");
         rule.setReason("Abstract multiple primaries when there are separate, non-contiguous melanomas with different lateralities.");
-        rule.getExamples().add("A midline melanoma is a different laterality than right or left.");
-        rule.getExamples().add("If the laterality of one or both melanomas is unknown, then continue through the rules");
-        rule.getExamples().add("If one or more of the sites is not in the required laterality table, then continue through the rules. See Table 1.");
-        rule.getExamples().add("Melanoma of the right side of the chest and a melanoma at midline of the chest are different laterality, multiple primaries.");
-        rule.getExamples().add("A melanoma of the right side of the chest and a melanoma of the left side of the chest are multiple primaries.");
         _rules.add(rule);
 
         //M5- Abstract multiple primaries when separate/non-contiguous tumors are two or more different subtypes/variants in
@@ -89,7 +84,6 @@ public class Mp2021CutaneousMelanomaGroup extends MphGroup {
         };
         rule.setQuestion("Are separate/non-contiguous tumors different subtypes/variants in Column 3, Table 2?");
         rule.setReason("Abstract multiple primaries when separate/non-contiguous tumors are two or more different subtypes/variants in Column 2, Table 2 in the Site-group Instructions.");
-        rule.getExamples().add("Epithelioid cell melanoma 8771/3 and nodular melanoma 8721/3 are both subtypes/variants of melanoma, NOS 8720/3");
         _rules.add(rule);
 
         //M6- Abstract a single primary when synchronous, separate/non-contiguous tumors are on the same row in Table 2 in the Site-group Instructions. Tumors must have same site and same laterality.
@@ -108,7 +102,7 @@ public class Mp2021CutaneousMelanomaGroup extends MphGroup {
                         return result;
                     }
                     else if (lateralityNotRequiredSites.contains(i1.getPrimarySite()) || i1.getLaterality().equals(i2.getLaterality())) {
-                        int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                        int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                         if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                             result.setFinalResult(MpResult.QUESTIONABLE);
                             result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -145,7 +139,7 @@ public class Mp2021CutaneousMelanomaGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                 if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                     result.setFinalResult(MpResult.QUESTIONABLE);
                     result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -162,9 +156,6 @@ public class Mp2021CutaneousMelanomaGroup extends MphGroup {
         //M8- Melanomas that do not meet any of the above criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2021_CUTANEOUS_MELANOMA, "M8");
         rule.setReason("Melanomas that do not meet any of the above criteria are abstracted as a single primary.");
-        rule.getNotes().add("Use the data item \"Multiplicity Counter\" to record the number of melanomas abstracted as a single primary.");
-        rule.getNotes().add("When an invasive melanoma follows an in situ melanoma within 60 days, abstract as a single primary.");
-        rule.getNotes().add("All cases covered by this rule are the same site and histology.");
         _rules.add(rule);
     }
 }
@@ -18,6 +18,7 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.MphUtils.MpResult;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.PairedSites;
 import com.imsweb.mph.internal.TempRuleResult;
 import com.imsweb.mph.mprules.MpRuleInvasiveAfterInsituGreaterThan60Days;
 import com.imsweb.mph.mprules.MpRuleKaposiSarcoma;
@@ -31,6 +32,10 @@ import com.imsweb.mph.mprules.MpRuleYearsApart;
 @SuppressWarnings("java:S3776")
 public class Mp2023OtherSitesGroup extends MphGroup {
 
+    // the paired sites of Table 1, used by M10
+    private static final List<String> _PAIRED_SITES = PairedSites.of("C384", "C400", "C401", "C402", "C403", "C441", "C442", "C443", "C444", "C445", "C446", "C447", "C471", "C472", "C491",
+            "C492", "C569", "C570", "C620-C629", "C630", "C631", "C690-C699", "C740-C749", "C754");
+
     //Excludes Head and Neck, Colon, Lung, Melanoma of Skin, Breast, Kidney, Renal Pelvis, Ureter, Bladder, Brain, Lymphoma and Leukemia
     public Mp2023OtherSitesGroup() {
         super(MphConstants.STR_2023_AND_LATER_OTHER_SITES, MphConstants.SOLID_TUMOR_2023_OTHER_SITES, null, null, null, "9590-9993", "2-3,6", "2023-9999");
@@ -53,10 +58,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Is the diagnosis acinar adenocarcinoma of the prostate?");
         rule.setReason("Adenocarcinoma of the prostate is always a single primary.");
-        rule.getNotes().add("Report only one acinar/adenocarcinoma of the prostate per patient lifetime.");
-        rule.getNotes().add("95% of prostate malignancies are the common (acinar) adenocarcinoma histology (8140/3).");
-        rule.getNotes().add("If the patient has a previous acinar adenocarcinoma of the prostate in the database and is diagnosed with adenocarcinoma in 2023, it is a single primary.");
-        rule.getNotes().add("The rule applies to multiple occurrences of acinar adenocarcinoma of prostate and/or subtype variants of acinar adenocarcinoma of prostate listed in Table 3.");
         _rules.add(rule);
 
         //M4 - Abstract multiple primaries when the patient has a subsequent small cell carcinoma of the prostate more than 1 year following a diagnosis of acinar adenocarcinoma and/or subtype/variant of acinar adenocarcinoma of prostate (Table 3).
@@ -72,7 +73,7 @@ public class Mp2023OtherSitesGroup extends MphGroup {
                 String icd2 = i2.getIcdCode();
                 if (MphConstants.PROSTATE.equals(site1) && MphConstants.PROSTATE.equals(site2) && GroupUtility.differentCategory(icd1, icd2, Collections.singletonList(smallCellCarcinoma),
                         adenocarcinoma)) {
-                    int laterDx = GroupUtility.compareDxDate(i1, i2);
+                    int laterDx = context.compareDxDate(i1, i2);
                     if (MphConstants.COMPARE_DX_UNKNOWN == laterDx) {
                         result.setPotentialResult(MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -88,10 +89,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
                 "Does the patient have a subsequent small cell carcinoma of the prostate more than 1 year following a diagnosis of acinar adenocarcinoma and/or subtype/variant of acinar adenocarcinoma of prostate (Table 3)?");
         rule.setReason(
                 "Abstract multiple primaries when the patient has a subsequent small cell carcinoma of the prostate more than 1 year following a diagnosis of acinar adenocarcinoma and/or subtype/variant of acinar adenocarcinoma of prostate (Table 3).");
-        rule.getNotes().add("Small cell carcinoma (SmCC) of the prostate is rare and accounts for less than 1% of prostate cancers.");
-        rule.getNotes().add("50% of SmCC of the prostate cases present as a de novo malignancy");
-        rule.getNotes().add("SmCC of the prostate often occurs following androgen deprivation treatment (ADVT) and/or radiation therapy for acinar adenocarcinoma");
-        rule.getNotes().add("SmCC of the prostate are aggressive with poor clinical outcomes and survival.");
         _rules.add(rule);
 
         //M5- Retinoblastoma is always a single primary (unilateral or bilateral). (9510, 9511, 9512, 9513)
@@ -170,7 +167,7 @@ public class Mp2023OtherSitesGroup extends MphGroup {
                     }
 
                     if (hist1.equals(hist2) || sameRow) {
-                        int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                        int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                         if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                             result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                             result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -191,16 +188,12 @@ public class Mp2023OtherSitesGroup extends MphGroup {
             @Override
             public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
                 TempRuleResult result = new TempRuleResult();
-                List<String> pairedSites = Arrays.asList("C384", "C400", "C401", "C402", "C403", "C441", "C442", "C443", "C444", "C445", "C446", "C447", "C471", "C472", "C491", "C492",
-                        "C569",
-                        "C570", "C620-C629", "C630", "C631", "C690-C699", "C740-C749", "C754");
-
-                if (GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), pairedSites)) {
-                    if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (context.isPairedSites(i1, i2, _PAIRED_SITES)) {
+                    if (!context.validPairedSiteLaterality(i1, i2)) {
                         result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                         result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
                     }
-                    else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+                    else if (context.areOppositeSides(i1, i2))
                         result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 }
 
@@ -209,7 +202,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Are there tumors in both the left and right sides of a paired site (Table 1)?");
         rule.setReason("Tumors on both sides (right and left) of a site listed in Table 1 are multiple primaries.");
-        rule.getNotes().add("Table 1 – Paired Organs and Sites with Laterality.");
         _rules.add(rule);
 
         //M11 - Adenocarcinoma in adenomatous polyposis coli (familial polyposis) with one or more in situ or malignant polyps is a single primary.
@@ -229,7 +221,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Is the diagnosis adenocarcinoma in adenomatous polyposis coli (familialpolyposis ) with one or more malignant polyps?");
         rule.setReason("Adenocarcinoma in adenomatous polyposis coli (familial polyposis) with one or more in situ or malignant polyps is a single primary.");
-        rule.getNotes().add("Tumors may be present in a single or multiple segments of small bowel, colon, rectosigmoid, rectum. ");
         _rules.add(rule);
 
         //M12 - Abstract multiple primaries when the patient has a subsequent tumor after being clinically disease-free for greater than one year after the original diagnosis or recurrence.
@@ -240,8 +231,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
 
         //M13 - Tumors in sites with ICD-O-3 topography codes that are different at the second (C?xx) and/or third (Cx?x) character are multiple primaries.
         rule = new MpRulePrimarySite(MphConstants.SOLID_TUMOR_2023_OTHER_SITES, "M13");
-        rule.getExamples().add("A tumor in the penis C609 and a tumor in the rectum C209 have different second characters in their ICD-O-3 topography codes, so they are multiple primaries.");
-        rule.getExamples().add("A tumor in the cervix C539 and a tumor in the vulva C519 have different third characters in their ICD-O-3 topography codes, so they are multiple primaries.");
         _rules.add(rule);
 
         //M14 - Tumors with ICD-O-3 topography codes that differ only at the fourth character (Cxx?) and are in any one of the following primary sites are multiple primaries. ** Anus and anal canal (C21_) Bones, joints, and articular cartilage (C40_- C41_) Connective subcutaneous and other soft tissues (C49_) Skin (C44_)
@@ -299,7 +288,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Are there multiple in situ and/or malignant polyps?");
         rule.setReason("Multiple in situ and/or malignant polyps are a single primary.");
-        rule.getNotes().add("Includes all combinations of adenomatous, tubular, villous, and tubulovillous adenomas or polyps.");
         _rules.add(rule);
 
         //M17 - Abstract multiple primaries when separate/non-contiguous tumors are two or more different subtypes/variants in Column 2, Table 3-23
@@ -341,7 +329,7 @@ public class Mp2023OtherSitesGroup extends MphGroup {
                     String row1 = map1.containsKey(h1) ? map1.get(h1) : map1.get(icd1);
                     String row2 = map2.containsKey(h2) ? map2.get(h2) : map2.get(icd2);
                     if (GroupUtility.sameHistologies(icd1, icd2) || (row1 != null && row1.equals(row2))) {
-                        int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                        int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                         if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                             result.setPotentialResult(MpResult.SINGLE_PRIMARY);
                             result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -355,8 +343,6 @@ public class Mp2023OtherSitesGroup extends MphGroup {
         };
         rule.setQuestion("Are tumors on the same row in Table 3-23?");
         rule.setReason("Abstract a single primary when synchronous, separate/non-contiguous tumors are on the same row in Table 3-23.");
-        rule.getNotes().add("The same histology (same four-digit ICD-O code) OR One is the preferred term (column 1) and the other is a synonym for the preferred term ((indented under the preferred term in column 1) OR"
-                + "A NOS (column 1) and the other is a subtype/variant of that NOS (column 2) ");
         _rules.add(rule);
 
         //M19 - Abstract multiple primaries when separate/non-contiguous tumors are on multiple rows in Table 2-23.
@@ -402,50 +388,15 @@ public class Mp2023OtherSitesGroup extends MphGroup {
 
         //M20 - An invasive tumor following an in situ tumor more than 60 days after diagnosis is a multiple primary.
         rule = new MpRuleInvasiveAfterInsituGreaterThan60Days(MphConstants.SOLID_TUMOR_2023_OTHER_SITES, "M20");
-        rule.getNotes().add("This rule applies to multiple tumors, one in situ and a separate malignant tumor.");
-        rule.getNotes().add("The purpose of this rule is to ensure that the case is counted as an incident (invasive) case when incidence data are analyzed.");
-        rule.getNotes().add("Abstract as multiple primaries even if the medical record/physician states it is recurrence or progression of disease.");
         _rules.add(rule);
 
         //M21- Tumors that do not meet any of the criteria are abstracted as a single primary.
         rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2023_OTHER_SITES, "M21");
-        rule.getNotes().add("Use this rule as a last resort. Confirm that you have not overlooked an applicable rule.");
-        rule.getNotes().add("When an invasive tumor follows an in situ tumor within 60 days, abstract as a single primary.");
         _rules.add(rule);
     }
 
     @Override
-    public boolean isApplicable(String primarySite, String histology, String behavior, int year) {
-        if (GroupUtility.isContained(GroupUtility.computeRange(_histExclusions, false), Integer.parseInt(histology)) || !_behavInclusions.contains(behavior) || !GroupUtility.isContained(
-                GroupUtility.computeRange(_yearInclusions, false), year) || !GroupUtility.validateProperties(primarySite, histology, behavior, year))
-            return false;
-
-        List<MphGroup> specificGroups = new ArrayList<>();
-        specificGroups.add(new Mp2007HeadAndNeckGroup());
-        specificGroups.add(new Mp2007ColonGroup());
-        specificGroups.add(new Mp2007LungGroup());
-        specificGroups.add(new Mp2007MelanomaGroup());
-        specificGroups.add(new Mp2007BreastGroup());
-        specificGroups.add(new Mp2007KidneyGroup());
-        specificGroups.add(new Mp2007UrinaryGroup());
-        specificGroups.add(new Mp2007BenignBrainGroup());
-        specificGroups.add(new Mp2007MalignantBrainGroup());
-
-        specificGroups.add(new Mp2018BreastGroup());
-        specificGroups.add(new Mp2018ColonGroup());
-        specificGroups.add(new Mp2018HeadAndNeckGroup());
-        specificGroups.add(new Mp2018KidneyGroup());
-        specificGroups.add(new Mp2018LungGroup());
-        specificGroups.add(new Mp2018MalignantCNSAndPeripheralNervesGroup());
-        specificGroups.add(new Mp2018NonMalignantCNSTumorsGroup());
-        specificGroups.add(new Mp2018UrinarySitesGroup());
-
-        specificGroups.add(new Mp2021CutaneousMelanomaGroup());
-
-        for (MphGroup group : specificGroups) {
-            if (group.isApplicable(primarySite, histology, behavior, year))
-                return false;
-        }
-        return true;
+    protected List<MphGroup> getGroupsTakingPrecedence() {
+        return GroupUtility.getSpecificSolidTumorGroups();
     }
 }
@@ -24,20 +24,35 @@ public class MpRuleFollowing extends MphRule {
         _earlierMorph = earlierMorph;
     }
 
+    public String getLaterMorphology() {
+        return _laterMorph;
+    }
+
+    public String getEarlierMorphology() {
+        return _earlierMorph;
+    }
+
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(getStep(), getGroupName(), _laterMorph, _earlierMorph, i1, i2, context);
+    }
+
+    /**
+     * Returns the result of a rule using the provided morphologies for the provided tumors.
+     */
+    public static TempRuleResult evaluate(String step, String groupName, String laterMorph, String earlierMorph, MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
         String icd1 = i1.getIcdCode();
         String icd2 = i2.getIcdCode();
-        if (GroupUtility.differentCategory(icd1, icd2, Collections.singletonList(_laterMorph), Collections.singletonList(_earlierMorph))) {
-            int laterDiagnosedTumor = GroupUtility.compareDxDate(i1, i2);
+        if (GroupUtility.differentCategory(icd1, icd2, Collections.singletonList(laterMorph), Collections.singletonList(earlierMorph))) {
+            int laterDiagnosedTumor = context.compareDxDate(i1, i2);
             //If impossible to decide which tumor is diagnosed later
             if (MphConstants.COMPARE_DX_UNKNOWN == laterDiagnosedTumor) {
                 result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
-                result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
+                result.setMessageUnknownDiagnosisDate(step, groupName);
             }
-            else if ((MphConstants.COMPARE_DX_FIRST_LATEST == laterDiagnosedTumor && icd1.equals(_laterMorph)) || (MphConstants.COMPARE_DX_SECOND_LATEST == laterDiagnosedTumor && icd2.equals(
-                    _laterMorph)))
+            else if ((MphConstants.COMPARE_DX_FIRST_LATEST == laterDiagnosedTumor && icd1.equals(laterMorph)) || (MphConstants.COMPARE_DX_SECOND_LATEST == laterDiagnosedTumor && icd2.equals(
+                    laterMorph)))
                 result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
         }
         return result;
@@ -19,6 +19,13 @@ public class MpRuleHistology extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(i1, i2);
+    }
+
+    /**
+     * Returns the result of this rule for the provided tumors (multiple primaries if their histologies are different at one of the first three digits).
+     */
+    public static TempRuleResult evaluate(MphInput i1, MphInput i2) {
         TempRuleResult result = new TempRuleResult();
         if (!i1.getHistology().substring(0, 3).equals(i2.getHistology().substring(0, 3)))
             result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
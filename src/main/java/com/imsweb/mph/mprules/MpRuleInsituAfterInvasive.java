@@ -28,7 +28,7 @@ public class MpRuleInsituAfterInvasive extends MphRule {
         String beh1 = i1.getBehavior();
         String beh2 = i2.getBehavior();
         if (GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU), Collections.singletonList(MphConstants.MALIGNANT))) {
-            int latestDx = GroupUtility.compareDxDate(i1, i2);
+            int latestDx = context.compareDxDate(i1, i2);
             if (MphConstants.COMPARE_DX_UNKNOWN == latestDx) {
                 result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
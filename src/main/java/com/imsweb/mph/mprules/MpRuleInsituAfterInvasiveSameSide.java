@@ -27,13 +27,13 @@ public class MpRuleInsituAfterInvasiveSameSide extends MphRule {
         TempRuleResult result = new TempRuleResult();
         String beh1 = i1.getBehavior();
         String beh2 = i2.getBehavior();
-        if (!GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()) && GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU),
+        if (!context.areOppositeSides(i1, i2) && GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU),
                 Collections.singletonList(MphConstants.MALIGNANT))) {
-            int latestDx = GroupUtility.compareDxDate(i1, i2);
+            int latestDx = context.compareDxDate(i1, i2);
             //if invasive is after insitu, skip
             if ((MphConstants.COMPARE_DX_FIRST_LATEST == latestDx && MphConstants.MALIGNANT.equals(beh1)) || (MphConstants.COMPARE_DX_SECOND_LATEST == latestDx && MphConstants.MALIGNANT.equals(beh2)))
                 return result;
-            if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+            if (!context.validPairedSiteLaterality(i1, i2)) {
                 result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 if (MphConstants.COMPARE_DX_UNKNOWN == latestDx)
                     result.setMessageUnknownLatAndDate(this.getStep(), this.getGroupName());
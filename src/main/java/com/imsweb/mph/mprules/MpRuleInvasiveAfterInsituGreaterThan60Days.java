@@ -23,20 +23,27 @@ public class MpRuleInvasiveAfterInsituGreaterThan60Days extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(getStep(), getGroupName(), i1, i2, context);
+    }
+
+    /**
+     * Returns the result of this rule for the provided tumors; the step and group name are used by the message of the unknown diagnosis dates.
+     */
+    public static TempRuleResult evaluate(String step, String groupName, MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
         String beh1 = i1.getBehavior();
         String beh2 = i2.getBehavior();
         if (GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU), Collections.singletonList(MphConstants.MALIGNANT))) {
-            int latestDx = GroupUtility.compareDxDate(i1, i2);
+            int latestDx = context.compareDxDate(i1, i2);
             //If they are diagnosed at same date or invasive is not following insitu
             if (MphConstants.COMPARE_DX_EQUAL == latestDx || (MphConstants.COMPARE_DX_FIRST_LATEST == latestDx && !"3".equals(beh1)) || (MphConstants.COMPARE_DX_SECOND_LATEST == latestDx && !"3"
                     .equals(beh2)))
                 return result;
             else {
-                int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+                int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
                 if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                     result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
-                    result.setMessage("Unable to apply Rule " + this.getStep() + " of " + this.getGroupName() + ". There is not enough diagnosis date information.");
+                    result.setMessage("Unable to apply Rule " + step + " of " + groupName + ". There is not enough diagnosis date information.");
                 }
                 else if (MphConstants.DATE_VERIFY_APART == sixtyDaysApart)
                     result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
@@ -23,12 +23,19 @@ public class MpRuleInvasiveAfterInsituLessThan60Days extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(getStep(), getGroupName(), i1, i2, context);
+    }
+
+    /**
+     * Returns the result of this rule for the provided tumors; the step and group name are used by the message of the unknown diagnosis dates.
+     */
+    public static TempRuleResult evaluate(String step, String groupName, MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
         String beh1 = i1.getBehavior();
         String beh2 = i2.getBehavior();
         if (GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU), Collections.singletonList(MphConstants.MALIGNANT))) {
-            int latestDx = GroupUtility.compareDxDate(i1, i2);
-            int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+            int latestDx = context.compareDxDate(i1, i2);
+            int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
             //If they are diagnosed after 60 days or invasive is not following insitu
             if (MphConstants.DATE_VERIFY_APART == sixtyDaysApart || (MphConstants.COMPARE_DX_FIRST_LATEST == latestDx && !"3".equals(beh1)) || (MphConstants.COMPARE_DX_SECOND_LATEST == latestDx
                     && !"3".equals(beh2)))
@@ -36,7 +43,7 @@ public class MpRuleInvasiveAfterInsituLessThan60Days extends MphRule {
             else {
                 if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                     result.setPotentialResult(MpResult.SINGLE_PRIMARY);
-                    result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
+                    result.setMessageUnknownDiagnosisDate(step, groupName);
                 }
                 else if (MphConstants.DATE_VERIFY_WITHIN == sixtyDaysApart)
                     result.setFinalResult(MpResult.SINGLE_PRIMARY);
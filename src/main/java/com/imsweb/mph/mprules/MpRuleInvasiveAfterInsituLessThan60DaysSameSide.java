@@ -27,16 +27,16 @@ public class MpRuleInvasiveAfterInsituLessThan60DaysSameSide extends MphRule {
         TempRuleResult result = new TempRuleResult();
         String beh1 = i1.getBehavior();
         String beh2 = i2.getBehavior();
-        if (!GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()) && GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU),
+        if (!context.areOppositeSides(i1, i2) && GroupUtility.differentCategory(beh1, beh2, Collections.singletonList(MphConstants.INSITU),
                 Collections.singletonList(MphConstants.MALIGNANT))) {
-            int latestDx = GroupUtility.compareDxDate(i1, i2);
-            int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+            int latestDx = context.compareDxDate(i1, i2);
+            int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
             //If they are diagnosed after 60 days or invasive is not following insitu
             if (MphConstants.DATE_VERIFY_APART == sixtyDaysApart || (MphConstants.COMPARE_DX_FIRST_LATEST == latestDx && !"3".equals(beh1)) || (MphConstants.COMPARE_DX_SECOND_LATEST == latestDx
                     && !"3".equals(beh2)))
                 return result;
             else {
-                if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+                if (!context.validPairedSiteLaterality(i1, i2)) {
                     result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                     if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart)
                         result.setMessageUnknownLatAndDate(this.getStep(), this.getGroupName());
@@ -8,7 +8,6 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
 import com.imsweb.mph.internal.TempRuleResult;
-import com.imsweb.mph.mpgroups.GroupUtility;
 
 public class MpRuleLaterality extends MphRule {
 
@@ -18,12 +17,19 @@ public class MpRuleLaterality extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(getStep(), getGroupName(), i1, i2, context);
+    }
+
+    /**
+     * Returns the result of this rule for the provided tumors; the step and group name are used by the message of the unknown lateralities.
+     */
+    public static TempRuleResult evaluate(String step, String groupName, MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
-        if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+        if (!context.validPairedSiteLaterality(i1, i2)) {
             result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
-            result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
+            result.setMessageUnknownLaterality(step, groupName);
         }
-        else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+        else if (context.areOppositeSides(i1, i2))
             result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
 
         return result;
@@ -9,8 +9,8 @@ import com.imsweb.mph.MphInput;
 import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
+import com.imsweb.mph.internal.PairedSites;
 import com.imsweb.mph.internal.TempRuleResult;
-import com.imsweb.mph.mpgroups.GroupUtility;
 
 public class MpRuleLateralityPairedSites extends MphRule {
 
@@ -18,18 +18,18 @@ public class MpRuleLateralityPairedSites extends MphRule {
 
     public MpRuleLateralityPairedSites(String groupName, String step, List<String> pairedSites) {
         super(groupName, step);
-        _pairedSites = pairedSites;
+        _pairedSites = PairedSites.of(pairedSites);
     }
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
-        if (GroupUtility.isPairedSites(i1.getPrimarySite(), i2.getPrimarySite(), _pairedSites)) {
-            if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+        if (context.isPairedSites(i1, i2, _pairedSites)) {
+            if (!context.validPairedSiteLaterality(i1, i2)) {
                 result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
             }
-            else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+            else if (context.areOppositeSides(i1, i2))
                 result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
         }
         return result;
@@ -19,6 +19,13 @@ public class MpRuleNoCriteriaSatisfied extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate();
+    }
+
+    /**
+     * Returns the result of this rule, which doesn't depend on the tumors.
+     */
+    public static TempRuleResult evaluate() {
         TempRuleResult result = new TempRuleResult();
         result.setFinalResult(MphUtils.MpResult.SINGLE_PRIMARY);
         return result;
@@ -19,8 +19,15 @@ public class MpRulePrimarySite extends MphRule {
 
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(i1, i2, context);
+    }
+
+    /**
+     * Returns the result of this rule for the provided tumors (multiple primaries if their sites are different at the second or third character).
+     */
+    public static TempRuleResult evaluate(MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
-        if (!i1.getPrimarySite().substring(1, 3).equals(i2.getPrimarySite().substring(1, 3)))
+        if (!context.haveSameSitePrefix(i1, i2))
             result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
         return result;
     }
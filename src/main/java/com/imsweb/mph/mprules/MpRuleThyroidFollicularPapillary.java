@@ -12,7 +12,6 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
 import com.imsweb.mph.internal.TempRuleResult;
-import com.imsweb.mph.mpgroups.GroupUtility;
 
 public class MpRuleThyroidFollicularPapillary extends MphRule {
 
@@ -31,7 +30,7 @@ public class MpRuleThyroidFollicularPapillary extends MphRule {
         String icd1 = i1.getIcdCode();
         String icd2 = i2.getIcdCode();
         if (MphConstants.THYROID.equals(site1) && MphConstants.THYROID.equals(site2) && _follicularAndPapillary.containsAll(Arrays.asList(icd1, icd2))) {
-            int sixtyDaysApart = GroupUtility.verifyDaysApart(i1, i2, 60);
+            int sixtyDaysApart = context.verifyDaysApart(i1, i2, 60);
             if (MphConstants.DATE_VERIFY_UNKNOWN == sixtyDaysApart) {
                 result.setPotentialResult(MphUtils.MpResult.SINGLE_PRIMARY);
                 result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
@@ -9,7 +9,6 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
 import com.imsweb.mph.internal.TempRuleResult;
-import com.imsweb.mph.mpgroups.GroupUtility;
 
 public class MpRuleUreter extends MphRule {
 
@@ -21,11 +20,11 @@ public class MpRuleUreter extends MphRule {
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
         if (MphConstants.URETER.equals(i1.getPrimarySite()) && MphConstants.URETER.equals(i2.getPrimarySite())) {
-            if (!GroupUtility.validPairedSiteLaterality(i1.getLaterality(), i2.getLaterality())) {
+            if (!context.validPairedSiteLaterality(i1, i2)) {
                 result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
                 result.setMessageUnknownLaterality(this.getStep(), this.getGroupName());
             }
-            else if (GroupUtility.areOppositeSides(i1.getLaterality(), i2.getLaterality()))
+            else if (context.areOppositeSides(i1, i2))
                 result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
         }
         return result;
@@ -9,7 +9,6 @@ import com.imsweb.mph.MphRule;
 import com.imsweb.mph.MphUtils;
 import com.imsweb.mph.RuleExecutionContext;
 import com.imsweb.mph.internal.TempRuleResult;
-import com.imsweb.mph.mpgroups.GroupUtility;
 
 public class MpRuleYearsApart extends MphRule {
 
@@ -22,13 +21,24 @@ public class MpRuleYearsApart extends MphRule {
         setReason("Tumors diagnosed more than " + year + " years apart are multiple primaries.");
     }
 
+    public int getYears() {
+        return _year;
+    }
+
     @Override
     public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+        return evaluate(getStep(), getGroupName(), _year, i1, i2, context);
+    }
+
+    /**
+     * Returns the result of a rule using the provided number of years for the provided tumors.
+     */
+    public static TempRuleResult evaluate(String step, String groupName, int years, MphInput i1, MphInput i2, RuleExecutionContext context) {
         TempRuleResult result = new TempRuleResult();
-        int diff = GroupUtility.verifyYearsApart(i1, i2, _year);
+        int diff = context.verifyYearsApart(i1, i2, years);
         if (MphConstants.DATE_VERIFY_UNKNOWN == diff) {
             result.setPotentialResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
-            result.setMessageUnknownDiagnosisDate(this.getStep(), this.getGroupName());
+            result.setMessageUnknownDiagnosisDate(step, groupName);
         }
         else if (MphConstants.DATE_VERIFY_APART == diff)
             result.setFinalResult(MphUtils.MpResult.MULTIPLE_PRIMARIES);
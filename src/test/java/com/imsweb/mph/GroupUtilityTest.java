@@ -4,6 +4,9 @@
 package com.imsweb.mph;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -625,6 +628,99 @@ public class GroupUtilityTest {
         Assert.assertEquals(MphConstants.COMPARE_DX_UNKNOWN, GroupUtility.compareDxDate(i1, i2));
     }
 
+    @Test
+    public void testDateComparisonsAgainstDates() {
+        List<MphInput> inputs = new ArrayList<>();
+        for (String year : Arrays.asList(null, "2014", "2015", "2016", "2017", "2020", "9999"))
+            for (String month : Arrays.asList(null, "01", "02", "06", "12", "13"))
+                for (String day : Arrays.asList(null, "01", "15", "28", "29", "31")) {
+                    MphInput input = new MphInput();
+                    input.setDateOfDiagnosisYear(year);
+                    input.setDateOfDiagnosisMonth(month);
+                    input.setDateOfDiagnosisDay(day);
+                    inputs.add(input);
+                }
+
+        // the ranges of epoch days give the same results as the dates they were computed from
+        for (MphInput input1 : inputs) {
+            for (MphInput input2 : inputs) {
+                LocalDate[] range1 = computeDateRange(input1);
+                LocalDate[] range2 = computeDateRange(input2);
+                for (MphInput i1 : Arrays.asList(input1, MphRecord.of(input1).toInput())) {
+                    MphInput i2 = i1 != input1 ? MphRecord.of(input2).toInput() : input2;
+                    Assert.assertEquals(compareDxDate(range1, range2), GroupUtility.compareDxDate(i1, i2, 2020));
+                    for (int days : new int[] {21, 60, 365})
+                        Assert.assertEquals(verifyDaysApart(range1, range2, days), GroupUtility.verifyDaysApart(i1, i2, days, 2020));
+                    for (int years : new int[] {0, 1, 3})
+                        Assert.assertEquals(verifyYearsApart(range1, range2, years), GroupUtility.verifyYearsApart(i1, i2, years, 2020));
+                }
+            }
+        }
+    }
+
+    // returns the first and last possible diagnosis dates, and the diagnosis date itself if it's fully known; null if the year is unknown or after 2020
+    private static LocalDate[] computeDateRange(MphInput input) {
+        if (input.getDateOfDiagnosisYear() == null || Integer.parseInt(input.getDateOfDiagnosisYear()) > 2020)
+            return null;
+        int year = Integer.parseInt(input.getDateOfDiagnosisYear());
+        int month = input.getDateOfDiagnosisMonth() == null ? -1 : Integer.parseInt(input.getDateOfDiagnosisMonth());
+        if (month < 1 || month > 12)
+            return new LocalDate[] {LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), null};
+        int day = input.getDateOfDiagnosisDay() == null ? -1 : Integer.parseInt(input.getDateOfDiagnosisDay());
+        if (day < 1 || day > YearMonth.of(year, month).lengthOfMonth())
+            return new LocalDate[] {LocalDate.of(year, month, 1), YearMonth.of(year, month).atEndOfMonth(), null};
+        LocalDate date = LocalDate.of(year, month, day);
+        return new LocalDate[] {date, date, date};
+    }
+
+    private static int compareDxDate(LocalDate[] range1, LocalDate[] range2) {
+        if (range1 == null || range2 == null)
+            return MphConstants.COMPARE_DX_UNKNOWN;
+        if (range1[0].isAfter(range2[1]))
+            return MphConstants.COMPARE_DX_FIRST_LATEST;
+        if (range2[0].isAfter(range1[1]))
+            return MphConstants.COMPARE_DX_SECOND_LATEST;
+        return range1[2] != null && range2[2] != null ? MphConstants.COMPARE_DX_EQUAL : MphConstants.COMPARE_DX_UNKNOWN;
+    }
+
+    private static int verifyDaysApart(LocalDate[] range1, LocalDate[] range2, int days) {
+        int latestDx = compareDxDate(range1, range2);
+        if (latestDx == MphConstants.COMPARE_DX_EQUAL)
+            return MphConstants.DATE_VERIFY_WITHIN;
+        if (range1 == null || range2 == null)
+            return MphConstants.DATE_VERIFY_UNKNOWN;
+        long minDays = ChronoUnit.DAYS.between(range2[1], range1[0]);
+        long maxDays = ChronoUnit.DAYS.between(range2[0], range1[1]);
+        if (latestDx == MphConstants.COMPARE_DX_UNKNOWN)
+            return Math.max(Math.abs(minDays), Math.abs(maxDays)) <= days ? MphConstants.DATE_VERIFY_WITHIN : MphConstants.DATE_VERIFY_UNKNOWN;
+        if (latestDx == MphConstants.COMPARE_DX_SECOND_LATEST) {
+            minDays = ChronoUnit.DAYS.between(range1[1], range2[0]);
+            maxDays = ChronoUnit.DAYS.between(range1[0], range2[1]);
+        }
+        return minDays > days ? MphConstants.DATE_VERIFY_APART : maxDays <= days ? MphConstants.DATE_VERIFY_WITHIN : MphConstants.DATE_VERIFY_UNKNOWN;
+    }
+
+    private static int verifyYearsApart(LocalDate[] range1, LocalDate[] range2, int yearsApart) {
+        if (range1 == null || range2 == null)
+            return MphConstants.DATE_VERIFY_UNKNOWN;
+        int year1 = range1[0].getYear();
+        int year2 = range2[0].getYear();
+        boolean knownMonths = range1[0].getMonth() == range1[1].getMonth() && range2[0].getMonth() == range2[1].getMonth();
+        if (Math.abs(year1 - year2) != yearsApart)
+            return Math.abs(year1 - year2) > yearsApart ? MphConstants.DATE_VERIFY_APART : MphConstants.DATE_VERIFY_WITHIN;
+        if (!knownMonths)
+            return MphConstants.DATE_VERIFY_UNKNOWN;
+        int month1 = range1[0].getMonthValue();
+        int month2 = range2[0].getMonthValue();
+        if ((year1 > year2 && month1 > month2) || (year2 > year1 && month2 > month1))
+            return MphConstants.DATE_VERIFY_APART;
+        if ((year1 > year2 && month1 < month2) || (year2 > year1 && month2 < month1))
+            return MphConstants.DATE_VERIFY_WITHIN;
+        if (range1[2] == null || range2[2] == null)
+            return MphConstants.DATE_VERIFY_UNKNOWN;
+        return Math.abs(ChronoUnit.YEARS.between(range1[2], range2[2])) >= yearsApart ? MphConstants.DATE_VERIFY_APART : MphConstants.DATE_VERIFY_WITHIN;
+    }
+
     @Test
     public void testGetSiteHistInfo() {
         Assert.assertEquals("Unknown Site, Unknown Histology/Unknown Behavior with unknown year of diagnosis", GroupUtility.getSiteHistInfo(null, null, null, 9999));
@@ -3,14 +3,37 @@
  */
 package com.imsweb.mph;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.imsweb.mph.MphUtils.MpResult;
+import com.imsweb.mph.internal.CancerGroupIndex;
+import com.imsweb.mph.internal.CsvUtils;
+import com.imsweb.mph.internal.HematoDTO;
 import com.imsweb.mph.internal.TempRuleResult;
+import com.imsweb.mph.mpgroups.GroupUtility;
 import com.imsweb.mph.mpgroups.Mp1998HematopoieticGroup;
 import com.imsweb.mph.mpgroups.Mp2001HematopoieticGroup;
 import com.imsweb.mph.mpgroups.Mp2004BenignBrainGroup;
@@ -34,6 +57,7 @@ import com.imsweb.mph.mpgroups.Mp2018MalignantCNSAndPeripheralNervesGroup;
 import com.imsweb.mph.mpgroups.Mp2018NonMalignantCNSTumorsGroup;
 import com.imsweb.mph.mpgroups.Mp2018UrinarySitesGroup;
 import com.imsweb.mph.mpgroups.Mp2023OtherSitesGroup;
+import com.imsweb.mph.mprules.MpRuleNoCriteriaSatisfied;
 
 public class MphUtilsTest {
 
@@ -73,6 +97,255 @@ public class MphUtilsTest {
         Assert.assertTrue(_utils.isHematoSamePrimary("9738/3", "9590/3", 2021, 2020));
     }
 
+    @Test
+    public void testHematoSnapshot() throws IOException {
+        Path snapshot = Files.createTempFile("hemato", ".bin");
+        try {
+            DefaultHematoDataProvider.writeSnapshot(snapshot);
+            DefaultHematoDataProvider csvProvider = new DefaultHematoDataProvider();
+            DefaultHematoDataProvider snapshotProvider = new DefaultHematoDataProvider(snapshot);
+            Assert.assertEquals(csvProvider.getDataLastUpdated(), snapshotProvider.getDataLastUpdated());
+            for (String morphology : Arrays.asList("9742/3", "9590/3", "9989/3", "9800/3", "9999/9")) {
+                Assert.assertEquals(csvProvider.getSamePrimary(morphology), snapshotProvider.getSamePrimary(morphology));
+                Assert.assertEquals(csvProvider.getTransformTo(morphology), snapshotProvider.getTransformTo(morphology));
+                Assert.assertEquals(csvProvider.getTransformFrom(morphology), snapshotProvider.getTransformFrom(morphology));
+            }
+            Assert.assertTrue(snapshotProvider.isSamePrimary("9742/3", "9590/3", 2005));
+            Assert.assertFalse(snapshotProvider.isSamePrimary("9742/3", "9590/3", 2015));
+
+            MphUtils utils = new MphUtils(snapshotProvider);
+            Assert.assertTrue(utils.isHematoSamePrimary("9742/3", "9590/3", 2005, 2005));
+            Assert.assertTrue(utils.isChronicToAcuteTransformation("9875/3", "9861/3", 2015, 2018));
+
+            // a corrupted snapshot is ignored
+            byte[] bytes = Files.readAllBytes(snapshot);
+            Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+            Assert.assertEquals(csvProvider.getSamePrimary("9742/3"), new DefaultHematoDataProvider(snapshot).getSamePrimary("9742/3"));
+            bytes[0] = 0;
+            Files.write(snapshot, bytes);
+            Assert.assertEquals(csvProvider.getSamePrimary("9742/3"), new DefaultHematoDataProvider(snapshot).getSamePrimary("9742/3"));
+        }
+        finally {
+            Files.deleteIfExists(snapshot);
+        }
+        Assert.assertEquals(new DefaultHematoDataProvider().getSamePrimary("9742/3"), new DefaultHematoDataProvider(snapshot).getSamePrimary("9742/3"));
+    }
+
+    @Test
+    public void testCachingHematoDataProvider() throws IOException, InterruptedException {
+        DefaultHematoDataProvider defaultProvider = new DefaultHematoDataProvider();
+        AtomicLong delegateCalls = new AtomicLong();
+        HematoDataProvider delegate = new HematoDataProvider() {
+            @Override
+            public List<HematoDTO> getSamePrimary(String morphology) {
+                delegateCalls.incrementAndGet();
+                if ("0000/0".equals(morphology))
+                    throw new IllegalStateException("Service unavailable");
+                return defaultProvider.getSamePrimary(morphology);
+            }
+
+            @Override
+            public List<HematoDTO> getTransformTo(String morphology) {
+                delegateCalls.incrementAndGet();
+                return defaultProvider.getTransformTo(morphology);
+            }
+
+            @Override
+            public List<HematoDTO> getTransformFrom(String morphology) {
+                delegateCalls.incrementAndGet();
+                return defaultProvider.getTransformFrom(morphology);
+            }
+
+            @Override
+            public Date getDataLastUpdated() {
+                return defaultProvider.getDataLastUpdated();
+            }
+        };
+
+        // memory tier
+        CachingHematoDataProvider provider = new CachingHematoDataProvider(delegate, 100);
+        Assert.assertFalse(provider.isUsingSnapshot());
+        Assert.assertEquals(defaultProvider.getSamePrimary("9742/3"), provider.getSamePrimary("9742/3"));
+        Assert.assertEquals(defaultProvider.getSamePrimary("9742/3"), provider.getSamePrimary("9742/3"));
+        Assert.assertTrue(provider.isSamePrimary("9742/3", "9590/3", 2005));
+        Assert.assertFalse(provider.isSamePrimary("9742/3", "9590/3", 2015));
+        Assert.assertEquals(1, delegateCalls.get());
+        Assert.assertEquals(1, provider.getDelegateCalls());
+        Assert.assertEquals(3, provider.getStatistics().getHits());
+        Assert.assertEquals(1, provider.getStatistics().getMisses());
+        MphUtils utils = new MphUtils(provider);
+        Assert.assertTrue(utils.isChronicToAcuteTransformation("9875/3", "9861/3", 2015, 2018));
+        Assert.assertFalse(utils.isChronicToAcuteTransformation("9861/3", "9875/3", 2015, 2018));
+        long calls = delegateCalls.get();
+        Assert.assertTrue(utils.isChronicToAcuteTransformation("9875/3", "9861/3", 2015, 2018));
+        Assert.assertFalse(utils.isChronicToAcuteTransformation("9861/3", "9875/3", 2015, 2018));
+        Assert.assertEquals(calls, delegateCalls.get());
+        for (int i = 0; i < 200; i++)
+            provider.getTransformTo((9800 + i) + "/3");
+        Assert.assertTrue(provider.getStatistics().getEvictions() > 0);
+        Assert.assertTrue(provider.getStatistics().getSize() < 200);
+
+        // failures are not cached
+        calls = delegateCalls.get();
+        for (int i = 0; i < 2; i++) {
+            try {
+                provider.getSamePrimary("0000/0");
+                Assert.fail("The delegate exception should be propagated");
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+        }
+        Assert.assertEquals(calls + 2, delegateCalls.get());
+
+        // concurrent misses result in a single delegate call
+        CountDownLatch started = new CountDownLatch(8);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong blockingCalls = new AtomicLong();
+        CachingHematoDataProvider blockingProvider = new CachingHematoDataProvider(new HematoDataProvider() {
+            @Override
+            public List<HematoDTO> getSamePrimary(String morphology) {
+                blockingCalls.incrementAndGet();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return defaultProvider.getSamePrimary(morphology);
+            }
+
+            @Override
+            public List<HematoDTO> getTransformTo(String morphology) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<HematoDTO> getTransformFrom(String morphology) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Date getDataLastUpdated() {
+                return null;
+            }
+        }, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<HematoDTO>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    return blockingProvider.getSamePrimary("9742/3");
+                }));
+            started.await();
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<List<HematoDTO>> future : futures)
+                Assert.assertEquals(defaultProvider.getSamePrimary("9742/3"), future.get());
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(1, blockingCalls.get());
+
+        // snapshot tier
+        Path snapshot = Files.createTempFile("hemato", ".bin");
+        try {
+            provider.writeSnapshot(snapshot, Arrays.asList("9742/3", "9875/3", "9861/3"));
+            CachingHematoDataProvider snapshotProvider = new CachingHematoDataProvider(delegate, 100, snapshot);
+            Assert.assertTrue(snapshotProvider.isUsingSnapshot());
+            delegateCalls.set(0);
+            Assert.assertEquals(defaultProvider.getSamePrimary("9742/3"), snapshotProvider.getSamePrimary("9742/3"));
+            Assert.assertEquals(defaultProvider.getTransformTo("9875/3"), snapshotProvider.getTransformTo("9875/3"));
+            Assert.assertTrue(snapshotProvider.isSamePrimary("9742/3", "9590/3", 2005));
+            Assert.assertTrue(new MphUtils(snapshotProvider).isChronicToAcuteTransformation("9875/3", "9861/3", 2015, 2018));
+            Assert.assertEquals(0, delegateCalls.get());
+            Assert.assertEquals(defaultProvider.getSamePrimary("9590/3"), snapshotProvider.getSamePrimary("9590/3"));
+            Assert.assertEquals(1, delegateCalls.get());
+            Assert.assertEquals(1, snapshotProvider.getDelegateCalls());
+            Assert.assertEquals(5, snapshotProvider.getSnapshotHits());
+
+            // the rows read from the snapshot are kept in the memory cache
+            long hits = snapshotProvider.getStatistics().getHits();
+            Assert.assertSame(snapshotProvider.getSamePrimary("9742/3"), snapshotProvider.getSamePrimary("9742/3"));
+            Assert.assertEquals(hits + 2, snapshotProvider.getStatistics().getHits());
+            Assert.assertEquals(5, snapshotProvider.getSnapshotHits());
+            Assert.assertEquals(1, delegateCalls.get());
+
+            // the snapshot is ignored if it was written from different data
+            HematoDataProvider otherDelegate = new HematoDataProvider() {
+                @Override
+                public List<HematoDTO> getSamePrimary(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public List<HematoDTO> getTransformTo(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public List<HematoDTO> getTransformFrom(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public Date getDataLastUpdated() {
+                    return new Date(0);
+                }
+            };
+            Assert.assertFalse(new CachingHematoDataProvider(otherDelegate, 100, snapshot).isUsingSnapshot());
+
+            // a delegate that doesn't provide the date of its data never uses a snapshot, and can't write one
+            HematoDataProvider undatedDelegate = new HematoDataProvider() {
+                @Override
+                public List<HematoDTO> getSamePrimary(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public List<HematoDTO> getTransformTo(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public List<HematoDTO> getTransformFrom(String morphology) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public Date getDataLastUpdated() {
+                    return null;
+                }
+            };
+            CachingHematoDataProvider undatedProvider = new CachingHematoDataProvider(undatedDelegate, 100, snapshot);
+            Assert.assertFalse(undatedProvider.isUsingSnapshot());
+            try {
+                undatedProvider.writeSnapshot(snapshot, Collections.singletonList("9742/3"));
+                Assert.fail("A snapshot requires the date of the data");
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+            Assert.assertTrue(new CachingHematoDataProvider(delegate, 100, snapshot).isUsingSnapshot());
+            Assert.assertFalse(new CachingHematoDataProvider(undatedDelegate, 100, snapshot).isUsingSnapshot());
+
+            // the snapshots of the default provider can be used as well
+            DefaultHematoDataProvider.writeSnapshot(snapshot);
+            CachingHematoDataProvider defaultSnapshotProvider = new CachingHematoDataProvider(delegate, 100, snapshot);
+            Assert.assertTrue(defaultSnapshotProvider.isUsingSnapshot());
+            Assert.assertEquals(defaultProvider.getSamePrimary("9590/3"), defaultSnapshotProvider.getSamePrimary("9590/3"));
+            Assert.assertEquals(0, defaultSnapshotProvider.getDelegateCalls());
+        }
+        finally {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
     @Test
     public void testIsChronicToAcute() {
 
@@ -214,9 +487,42 @@ public class MphUtilsTest {
         Assert.assertEquals(new Mp2007OtherSitesGroup(), _utils.findCancerGroup("C754", "8680", "3", 2018));
         Assert.assertEquals(new Mp2018HeadAndNeckGroup(), _utils.findCancerGroup("C754", "8680", "3", 2019));
         Assert.assertEquals(new Mp2023OtherSitesGroup(), _utils.findCancerGroup("C755", "8670", "3", 2023));
+        Assert.assertTrue(new Mp2018HeadAndNeckGroup().isApplicable("C755", "8693", "3", 2019));
+        Assert.assertFalse(new Mp2018HeadAndNeckGroup().isApplicable("C755", "8693", "2", 2019));
+        Assert.assertFalse(new Mp2018HeadAndNeckGroup().isApplicable("C754", "08680", "3", 2019));
+        Assert.assertFalse(new Mp2018HeadAndNeckGroup().isApplicable("C756", "8680", "3", 2019));
+        Assert.assertFalse(new Mp2023OtherSitesGroup().isApplicable("C754", "8680", "3", 2023));
 
     }
 
+    @Test
+    public void testFindCancerGroupAgainstAllGroups() {
+        // the index should always return the first applicable group
+        String[] hists = {"8000", "8140", "8500", "8680", "8690", "8693", "8694", "8720", "8780", "8781", "9140", "9589", "9590", "9993", "9994", "9999"};
+        String[] behaviors = {"0", "1", "2", "3", "6"};
+        int[] years = {1990, 2000, 2001, 2006, 2007, 2009, 2010, 2017, 2018, 2019, 2020, 2021, 2022, 2023, LocalDate.now().getYear()};
+        for (int site = 0; site <= 999; site++) {
+            String primarySite = String.format("C%03d", site);
+            for (String hist : hists) {
+                for (String beh : behaviors) {
+                    for (int year : years) {
+                        MphGroup expected = null;
+                        for (MphGroup group : _utils.getAllGroups().values()) {
+                            if (group.isApplicable(primarySite, hist, beh, year)) {
+                                expected = group;
+                                break;
+                            }
+                        }
+                        Assert.assertEquals(primarySite + " " + hist + "/" + beh + " " + year, expected, _utils.findCancerGroup(primarySite, hist, beh, year));
+                    }
+                }
+            }
+        }
+
+        // histologies with leading zeros are valid, they are not handled by the index
+        Assert.assertEquals(MphConstants.MPH_2007_BREAST_GROUP_ID, _utils.findCancerGroup("C509", "08500", "3", 2010).getId());
+    }
+
     @Test
     public void testGetAllGroups() {
         Map<String, MphGroup> testMap = _utils.getAllGroups();
@@ -239,6 +545,129 @@ public class MphUtilsTest {
         Assert.assertEquals(MphConstants.MPH_2007_MELANOMA_GROUP_ID, testMap.get(MphConstants.MPH_2007_MELANOMA_GROUP_ID).getId());
         Assert.assertEquals(MphConstants.MPH_2007_OTHER_SITES_GROUP_ID, testMap.get(MphConstants.MPH_2007_OTHER_SITES_GROUP_ID).getId());
         Assert.assertEquals(MphConstants.MPH_2007_URINARY_GROUP_ID, testMap.get(MphConstants.MPH_2007_URINARY_GROUP_ID).getId());
+
+        // the groups are shared by all the instances and can't be modified
+        MphUtils other = new MphUtils(new DefaultHematoDataProvider(), new MphResultCache(10));
+        Assert.assertEquals(new ArrayList<>(testMap.keySet()), new ArrayList<>(other.getAllGroups().keySet()));
+        for (MphGroup group : testMap.values())
+            Assert.assertSame(group, other.getAllGroups().get(group.getId()));
+        MphGroup group = testMap.get(MphConstants.MPH_2007_BREAST_GROUP_ID);
+        MphRule rule = group.getRules().get(0);
+        List<Runnable> modifications = Arrays.asList(() -> testMap.remove(MphConstants.MPH_2007_BREAST_GROUP_ID), () -> group.getRules().remove(0),
+                () -> rule.getNotes().add("Note"), () -> rule.getExamples().clear(), () -> rule.setReason("Reason"), () -> rule.setQuestion("Question"));
+        for (Runnable modification : modifications) {
+            try {
+                modification.run();
+                Assert.fail("Shared groups should not be modifiable");
+            }
+            catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+
+        // groups created outside of the instances can still be modified
+        MphGroup newGroup = new Mp2007BreastGroup();
+        newGroup.getRules().get(0).setReason("Reason");
+        newGroup.getRules().remove(0);
+        Assert.assertEquals(group.getRules().size() - 1, newGroup.getRules().size());
+    }
+
+    @Test
+    public void testRuleDocumentation() throws ReflectiveOperationException {
+        MphRule rule = _utils.getAllGroups().get(MphConstants.MPH_2007_COLON_GROUP_ID).getRules().get(0);
+        Assert.assertEquals("M3", rule.getStep());
+        Assert.assertEquals(Collections.singletonList("Tumors may be present in multiple segments of the colon or in a single segment of the colon."), rule.getNotes());
+        Assert.assertEquals(Collections.emptyList(), rule.getExamples());
+
+        // the line breaks of the notes are kept
+        MphRule hematoRule = _utils.getAllGroups().get(MphConstants.HEMATO_2010_AND_LATER).getRules().get(3);
+        Assert.assertEquals("M4", hematoRule.getStep());
+        Assert.assertTrue(hematoRule.getNotes().get(0).contains("\n - Hodgkin lymphomas are"));
+
+        // the documentation of the groups created directly is the same, but it can be modified
+        for (MphGroup group : _utils.getAllGroups().values()) {
+            MphGroup newGroup = group.getClass().getDeclaredConstructor().newInstance();
+            for (int i = 0; i < group.getRules().size(); i++) {
+                Assert.assertEquals(group.getRules().get(i).getNotes(), newGroup.getRules().get(i).getNotes());
+                Assert.assertEquals(group.getRules().get(i).getExamples(), newGroup.getRules().get(i).getExamples());
+            }
+        }
+        MphGroup newGroup = new Mp2007ColonGroup();
+        newGroup.getRules().get(0).getNotes().add("Other note");
+        Assert.assertEquals(2, newGroup.getRules().get(0).getNotes().size());
+        Assert.assertEquals(1, rule.getNotes().size());
+
+        // the rules that are not part of the library don't have any documentation
+        MphRule newRule = new MpRuleNoCriteriaSatisfied("Custom group", "M1");
+        Assert.assertTrue(newRule.getNotes().isEmpty());
+        newRule.getExamples().add("Example");
+        Assert.assertEquals(Collections.singletonList("Example"), newRule.getExamples());
+    }
+
+    @Test
+    public void testRuleProgram() {
+        List<MphInput> inputs = new ArrayList<>();
+        for (String[] code : new String[][] {{"C504", "8500", "3"}, {"C504", "8520", "2"}, {"C341", "8070", "3"}, {"C180", "8140", "3"}, {"C649", "8312", "3"},
+                {"C679", "8120", "3"}, {"C019", "8070", "3"}, {"C445", "8720", "3"}, {"C710", "9440", "3"}, {"C710", "9530", "0"}, {"C739", "8260", "3"},
+                {"C421", "9800", "3"}, {"C421", "9861", "3"}})
+            for (String year : Arrays.asList("1999", "2002", "2005", "2012", "2019", "2024"))
+                for (String lat : Arrays.asList("1", "2"))
+                    inputs.add(createInput(code[0], code[1], code[2], lat, year));
+
+        RuleExecutionContext context = new RuleExecutionContext(_utils);
+        int numCustomRules = 0;
+        int numRules = 0;
+        int numPairs = 0;
+        for (MphGroup group : _utils.getAllGroups().values()) {
+            RuleProgram program = group.getProgram();
+            Assert.assertSame(program, group.getProgram());
+            Assert.assertEquals(group.getRules().size(), program.size());
+            for (int i = 0; i < program.size(); i++) {
+                MphRule rule = group.getRules().get(i);
+                Assert.assertSame(rule, program.getRule(i));
+                if (rule.getClass().isAnonymousClass())
+                    Assert.assertEquals(RuleProgram.CUSTOM, program.getInstruction(i));
+                if (program.getInstruction(i) == RuleProgram.CUSTOM)
+                    numCustomRules++;
+                numRules++;
+            }
+
+            // the program applies the rules themselves
+            for (MphInput input1 : inputs) {
+                for (MphInput input2 : inputs) {
+                    MphRecord record1 = MphRecord.of(input1);
+                    MphRecord record2 = MphRecord.of(input2);
+                    int year = Math.max(record1.getYear(), record2.getYear());
+                    if (!group.equals(_utils.findCancerGroup(record1.getPrimarySite(), record1.getHistology(), record1.getBehavior(), year))
+                            || !group.equals(_utils.findCancerGroup(record2.getPrimarySite(), record2.getHistology(), record2.getBehavior(), year)))
+                        continue;
+                    numPairs++;
+                    for (int i = 0; i < program.size(); i++) {
+                        TempRuleResult expected = program.getRule(i).apply(record1.toInput(), record2.toInput(), context);
+                        TempRuleResult actual = program.apply(i, record1.toInput(), record2.toInput(), context);
+                        Assert.assertEquals(expected.getPotentialResult(), actual.getPotentialResult());
+                        Assert.assertEquals(expected.getFinalResult(), actual.getFinalResult());
+                        Assert.assertEquals(expected.getMessage(), actual.getMessage());
+                    }
+                }
+            }
+        }
+        Assert.assertTrue(numCustomRules > 0 && numCustomRules < numRules);
+        Assert.assertTrue(numPairs > 1000);
+
+        // the subclasses of the standard rules are custom rules
+        MphRule rule = new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2018_BREAST, "M99") {
+            @Override
+            public TempRuleResult apply(MphInput i1, MphInput i2, RuleExecutionContext context) {
+                TempRuleResult result = new TempRuleResult();
+                result.setFinalResult(MpResult.QUESTIONABLE);
+                return result;
+            }
+        };
+        RuleProgram program = new RuleProgram(Arrays.asList(new MpRuleNoCriteriaSatisfied(MphConstants.SOLID_TUMOR_2018_BREAST, "M18"), rule));
+        Assert.assertEquals(RuleProgram.NO_CRITERIA_SATISFIED, program.getInstruction(0));
+        Assert.assertEquals(RuleProgram.CUSTOM, program.getInstruction(1));
+        Assert.assertEquals(MpResult.QUESTIONABLE, program.apply(1, inputs.get(0), inputs.get(1), context).getFinalResult());
     }
 
     @Test
@@ -330,6 +759,623 @@ public class MphUtilsTest {
         Assert.assertTrue(output.getAppliedRules().isEmpty());
     }
 
+    @Test
+    public void testRecords() {
+        MphInput input = new MphInput();
+        input.setPrimarySite("C509");
+        input.setHistologyIcdO3("8500");
+        input.setBehaviorIcdO3("3");
+        input.setHistologyIcdO2("8000");
+        input.setBehaviorIcdO2("3");
+        input.setLaterality("1");
+        input.setDateOfDiagnosisYear("2016");
+        input.setDateOfDiagnosisMonth("02");
+        input.setDateOfDiagnosisDay("29");
+        MphRecord record = MphRecord.of(input);
+        Assert.assertSame(record, MphRecord.of(record.toInput()));
+        Assert.assertEquals("C509", record.getPrimarySite());
+        Assert.assertEquals(509, record.getSiteCode());
+        Assert.assertEquals("8500", record.getHistology());
+        Assert.assertEquals(8500, record.getHistologyCode());
+        Assert.assertEquals(3, record.getBehaviorCode());
+        Assert.assertEquals("8500/3", record.getIcdCode());
+        Assert.assertEquals(1, record.getLateralityCode());
+        Assert.assertEquals(2016, record.getYear());
+        Assert.assertEquals(2, record.getMonth());
+        Assert.assertEquals(29, record.getDay());
+        Assert.assertTrue(record.hasValidProperties());
+        Assert.assertEquals(LocalDate.of(2016, 2, 29).toEpochDay(), record.getMinEpochDay());
+        Assert.assertEquals(LocalDate.of(2016, 2, 29).toEpochDay(), record.getMaxEpochDay());
+
+        // the inputs created by a record can be modified, which doesn't change the record
+        MphInput copy = record.toInput();
+        Assert.assertSame(record, MphRecord.getRecord(copy));
+        Assert.assertEquals("8500/3", copy.getIcdCode());
+        copy.setPrimarySite("C500");
+        copy.setHistologyIcdO3("8520");
+        Assert.assertNull(MphRecord.getRecord(copy));
+        Assert.assertEquals("C500", copy.getPrimarySite());
+        Assert.assertEquals("8520/3", copy.getIcdCode());
+        Assert.assertEquals("C509", record.getPrimarySite());
+        Assert.assertEquals("8500/3", record.getIcdCode());
+        Assert.assertNotSame(record, MphRecord.of(copy));
+        Assert.assertEquals(500, MphRecord.of(copy).getSiteCode());
+        Assert.assertNull(MphRecord.getRecord(input));
+
+        // ICD-O-2 values are used before 2001, invalid dates parts are ignored
+        input.setDateOfDiagnosisYear("1999");
+        input.setDateOfDiagnosisMonth("13");
+        record = MphRecord.of(input);
+        Assert.assertEquals("8000/3", record.getIcdCode());
+        Assert.assertEquals(-1, record.getMonth());
+        Assert.assertEquals(-1, record.getDay());
+        Assert.assertEquals(LocalDate.of(1999, 1, 1).toEpochDay(), record.getMinEpochDay());
+        Assert.assertEquals(LocalDate.of(1999, 12, 31).toEpochDay(), record.getMaxEpochDay());
+        input.setDateOfDiagnosisYear("2015");
+        input.setDateOfDiagnosisMonth("02");
+        record = MphRecord.of(input);
+        Assert.assertEquals(-1, record.getDay());
+        Assert.assertEquals(LocalDate.of(2015, 2, 28).toEpochDay(), record.getMaxEpochDay());
+        input.setDateOfDiagnosisYear(null);
+        record = MphRecord.of(input);
+        Assert.assertFalse(record.hasValidProperties());
+        Assert.assertFalse(record.hasDateRange());
+
+        // the record version of the computation should return the same result as the input version
+        MphInput i1 = new MphInput(), i2 = new MphInput();
+        i1.setPrimarySite("C509");
+        i1.setHistologyIcdO3("8500");
+        i1.setBehaviorIcdO3("3");
+        i1.setLaterality("1");
+        i1.setDateOfDiagnosisYear("2018");
+        i2.setPrimarySite("C509");
+        i2.setHistologyIcdO3("8500");
+        i2.setBehaviorIcdO3("3");
+        i2.setLaterality("2");
+        i2.setDateOfDiagnosisYear("2018");
+        MphOutput output = _utils.computePrimaries(i1, i2);
+        MphOutput recordOutput = _utils.computePrimaries(new MphRecord(i1), new MphRecord(i2));
+        Assert.assertEquals(output.getResult(), recordOutput.getResult());
+        Assert.assertEquals(output.getStep(), recordOutput.getStep());
+        Assert.assertEquals(output.getReason(), recordOutput.getReason());
+        Assert.assertEquals(output.getAppliedRules().size(), recordOutput.getAppliedRules().size());
+    }
+
+    @Test
+    public void testCancerGroupEras() {
+        CancerGroupIndex index = new CancerGroupIndex(new ArrayList<>(_utils.getAllGroups().values()));
+        List<Integer> eraStartYears = new ArrayList<>();
+        for (int year : index.getEraStartYears())
+            eraStartYears.add(year);
+        Assert.assertEquals(index.getNumEras(), eraStartYears.size());
+        Assert.assertTrue(eraStartYears.containsAll(Arrays.asList(0, 2001, 2007, 2010, 2018, 2021, 2023)));
+        for (int i = 0; i < eraStartYears.size(); i++)
+            Assert.assertEquals(i, index.getEra(eraStartYears.get(i)));
+
+        // the group of each era is computed only once, but it's always the group of the provided year
+        List<MphRecord> records = Arrays.asList(MphRecord.of(createInput("C504", "8500", "3", "1", "2000")), MphRecord.of(createInput("C421", "9861", "3", "0", "2000")),
+                MphRecord.of(createInput("C443", "8720", "3", "1", "2000")), MphRecord.of(createInput("C718", "9440", "3", "0", "2000")),
+                MphRecord.of(createInput("C760", "8000", "3", "0", "2000")), MphRecord.of(createInput("C619", "8140", "2", "0", "2000")));
+        for (int pass = 0; pass < 2; pass++) {
+            for (MphRecord record : records) {
+                for (int year = 1990; year <= LocalDate.now().getYear(); year++) {
+                    MphGroup expected = _utils.findCancerGroup(record.getPrimarySite(), record.getHistology(), record.getBehavior(), year);
+                    Assert.assertEquals(record.getPrimarySite() + " " + year, expected, record.findCancerGroup(index, year));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testComputePrimariesForPatient() {
+        List<MphInput> inputs = new ArrayList<>();
+        inputs.add(createInput("C504", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C342", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C508", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C809", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C343", "8070", "3", "2", "2019"));
+
+        MphPatientOutput output = _utils.computePrimaries(inputs);
+        Assert.assertEquals(5, output.getNumberOfTumors());
+        for (int i = 0; i < inputs.size(); i++) {
+            for (int j = i + 1; j < inputs.size(); j++) {
+                MphOutput pairOutput = _utils.computePrimaries(inputs.get(i), inputs.get(j));
+                Assert.assertEquals(pairOutput.getResult(), output.getResult(i, j));
+                Assert.assertEquals(pairOutput.getResult(), output.getResult(j, i));
+                Assert.assertEquals(pairOutput.getStep(), output.getOutput(i, j).getStep());
+                Assert.assertEquals(pairOutput.getReason(), output.getOutput(i, j).getReason());
+            }
+        }
+        Assert.assertEquals(MpResult.SINGLE_PRIMARY, output.getResult(0, 2));
+        Assert.assertEquals(MpResult.MULTIPLE_PRIMARIES, output.getResult(0, 1));
+        Assert.assertEquals(MpResult.INVALID_INPUT, output.getResult(3, 4));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(0, 2), Arrays.asList(1, 4), Collections.singletonList(3)), output.getPrimaries());
+        Assert.assertEquals(3, output.getNumberOfPrimaries());
+        Assert.assertFalse(output.hasConflicts());
+
+        // the primaries are the transitive closure of the single primaries, the pairs it contradicts are reported
+        MphPatientOutput chain = new MphPatientOutput(4);
+        MpResult[] results = {MpResult.SINGLE_PRIMARY, MpResult.MULTIPLE_PRIMARIES, MpResult.MULTIPLE_PRIMARIES, MpResult.SINGLE_PRIMARY, MpResult.QUESTIONABLE,
+                MpResult.MULTIPLE_PRIMARIES};
+        for (int i = 0, k = 0; i < 4; i++) {
+            for (int j = i + 1; j < 4; j++) {
+                MphOutput pairOutput = new MphOutput();
+                pairOutput.setResult(results[k++]);
+                chain.setOutput(i, j, pairOutput);
+            }
+        }
+        Assert.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Collections.singletonList(3)), chain.getPrimaries());
+        Assert.assertEquals(Collections.singletonList(Arrays.asList(0, 2)), chain.getConflictingPairs());
+        Assert.assertTrue(chain.hasConflicts());
+
+        Assert.assertEquals(0, _utils.computePrimaries(Collections.emptyList()).getNumberOfPrimaries());
+        Assert.assertEquals(1, _utils.computePrimaries(Collections.singletonList(inputs.get(0))).getNumberOfPrimaries());
+    }
+
+    @Test
+    public void testResultCache() {
+        MphResultCache cache = new MphResultCache(2);
+        MphUtils utils = new MphUtils(null, cache);
+        Assert.assertSame(cache, utils.getResultCache());
+
+        MphInput i1 = createInput("C504", "8500", "3", "1", "2018");
+        MphInput i2 = createInput("C508", "8500", "3", "1", "2018");
+        MphOutput output = utils.computePrimaries(i1, i2);
+        Assert.assertTrue(output.isReadOnly());
+        Assert.assertEquals(_utils.computePrimaries(i1, i2).getResult(), output.getResult());
+        Assert.assertEquals(1, cache.getStatistics().getMisses());
+        Assert.assertEquals(0, cache.getStatistics().getHits());
+
+        // same values in different inputs, the cached output is returned
+        Assert.assertSame(output, utils.computePrimaries(createInput("C504", "8500", "3", "1", "2018"), createInput("C508", "8500", "3", "1", "2018")));
+        Assert.assertEquals(1, cache.getStatistics().getHits());
+        try {
+            output.setResult(MpResult.QUESTIONABLE);
+            Assert.fail("Cached outputs should be read-only");
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            output.getAppliedRules().clear();
+            Assert.fail("Cached outputs should be read-only");
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        // the order of the tumors matters
+        Assert.assertNotSame(output, utils.computePrimaries(i2, i1));
+        Assert.assertEquals(2, cache.getStatistics().getMisses());
+
+        // another instance sharing the cache doesn't use the results of the first one
+        Assert.assertNotSame(output, new MphUtils(null, cache).computePrimaries(i1, i2));
+        Assert.assertEquals(3, cache.getStatistics().getMisses());
+        Assert.assertTrue(cache.getStatistics().getEvictions() > 0);
+        Assert.assertTrue(cache.getStatistics().getSize() <= 2);
+
+        // invalid inputs and non-canonical values are not cached
+        i2.setHistologyIcdO3("08500");
+        Assert.assertFalse(utils.computePrimaries(i1, i2).isReadOnly());
+        i2.setHistologyIcdO3(null);
+        Assert.assertFalse(utils.computePrimaries(i1, i2).isReadOnly());
+        Assert.assertEquals(3, cache.getStatistics().getMisses());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getStatistics().getSize());
+        Assert.assertFalse(_utils.computePrimaries(i1, i1).isReadOnly());
+    }
+
+    @Test
+    public void testComputeResult() {
+        List<MphInput> inputs = new ArrayList<>();
+        inputs.add(createInput("C504", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C508", "8500", "3", "2", "2018"));
+        inputs.add(createInput("C508", "8520", "3", "9", "2018"));
+        inputs.add(createInput("C342", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C809", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C569", "8472", "1", "1", "2014"));
+        inputs.add(createInput("C440", "8720", "3", "1", "2022"));
+        inputs.add(createInput("C442", "8720", "3", "2", "2021"));
+        for (MphInput i1 : inputs) {
+            for (MphInput i2 : inputs) {
+                MphOutput output = _utils.computePrimaries(i1, i2);
+                MphOutput result = _utils.computeResult(i1, i2);
+                Assert.assertEquals(output.getResult(), result.getResult());
+                Assert.assertEquals(output.getGroupId(), result.getGroupId());
+                Assert.assertEquals(output.getGroupName(), result.getGroupName());
+                Assert.assertEquals(output.getStep(), result.getStep());
+                Assert.assertNull(result.getReason());
+                Assert.assertTrue(result.getAppliedRules().isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void testComputeBatch() throws InterruptedException, ExecutionException {
+        List<MphInput> inputs = new ArrayList<>();
+        inputs.add(createInput("C504", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C508", "8500", "3", "2", "2018"));
+        inputs.add(createInput("C342", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C809", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C440", "8720", "3", "1", "2022"));
+        List<MphPair> pairs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            pairs.add(new MphPair(inputs.get(i % inputs.size()), inputs.get((i / inputs.size()) % inputs.size())));
+
+        List<MphOutput> outputs = _utils.computeBatch(pairs);
+        Assert.assertEquals(pairs.size(), outputs.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            MphOutput output = _utils.computePrimaries(pairs.get(i).getInput1(), pairs.get(i).getInput2());
+            Assert.assertEquals(output.getResult(), outputs.get(i).getResult());
+            Assert.assertEquals(output.getStep(), outputs.get(i).getStep());
+            Assert.assertEquals(output.getReason(), outputs.get(i).getReason());
+        }
+        Assert.assertTrue(_utils.computeBatch(Collections.emptyList()).isEmpty());
+
+        // progress
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicLong progress = new AtomicLong();
+            MphBatchJob job = _utils.submitBatch(pairs, executor, (processed, total) -> {
+                Assert.assertEquals(pairs.size(), total);
+                progress.accumulateAndGet(processed, Math::max);
+            });
+            Assert.assertEquals(outputs.size(), job.get().size());
+            Assert.assertTrue(job.isDone());
+            Assert.assertEquals(pairs.size(), job.getNumberOfPairs());
+            Assert.assertEquals(pairs.size(), job.getNumberOfProcessedPairs());
+            Assert.assertEquals(pairs.size(), progress.get());
+
+            // iterator, the outputs are consumed in order
+            List<MphOutput> consumed = new ArrayList<>();
+            Assert.assertEquals(pairs.size(), _utils.computeBatch(pairs.iterator(), executor, consumed::add, null));
+            for (int i = 0; i < pairs.size(); i++)
+                Assert.assertEquals(outputs.get(i).getStep(), consumed.get(i).getStep());
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        // an error thrown while evaluating a pair fails the job instead of leaving it incomplete
+        HematoDataProvider failingProvider = new HematoDataProvider() {
+            @Override
+            public List<HematoDTO> getSamePrimary(String morphology) {
+                throw new AssertionError("Failing provider");
+            }
+
+            @Override
+            public List<HematoDTO> getTransformTo(String morphology) {
+                throw new AssertionError("Failing provider");
+            }
+
+            @Override
+            public List<HematoDTO> getTransformFrom(String morphology) {
+                throw new AssertionError("Failing provider");
+            }
+
+            @Override
+            public Date getDataLastUpdated() {
+                return new Date();
+            }
+        };
+        MphUtils failingUtils = new MphUtils(failingProvider);
+        List<MphPair> hematoPairs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            hematoPairs.add(new MphPair(createInput("C421", "9863", "3", "0", "2015"), createInput("C421", "9875", "3", "0", "2015")));
+        ExecutorService failingExecutor = Executors.newFixedThreadPool(2);
+        try {
+            MphBatchJob failingJob = failingUtils.submitBatch(hematoPairs, failingExecutor, null);
+            try {
+                failingJob.get(30, TimeUnit.SECONDS);
+                Assert.fail("Job should have failed");
+            }
+            catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof AssertionError);
+            }
+            try {
+                failingUtils.computeBatch(hematoPairs.iterator(), failingExecutor, o -> { }, null);
+                Assert.fail("Evaluation should have failed");
+            }
+            catch (AssertionError e) {
+                Assert.assertEquals("Failing provider", e.getMessage());
+            }
+        }
+        catch (TimeoutException e) {
+            Assert.fail("Job should have completed");
+        }
+        finally {
+            failingExecutor.shutdown();
+        }
+
+        // cancellation, the tasks are only run after the job is cancelled
+        List<Runnable> tasks = new ArrayList<>();
+        MphBatchJob job = _utils.submitBatch(pairs, tasks::add, null);
+        Assert.assertEquals(4, tasks.size());
+        Assert.assertTrue(job.cancel());
+        tasks.forEach(Runnable::run);
+        Assert.assertTrue(job.isCancelled());
+        Assert.assertEquals(0, job.getNumberOfProcessedPairs());
+        try {
+            job.get();
+            Assert.fail("Cancelled job should not return outputs");
+        }
+        catch (CancellationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSession() throws InterruptedException, ExecutionException {
+        List<MphInput> inputs = new ArrayList<>();
+        inputs.add(createInput("C504", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C508", "8500", "3", "2", "2018"));
+        inputs.add(createInput("C342", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C343", "8070", "3", "2", "2019"));
+        inputs.add(createInput("C569", "8472", "1", "1", "2014"));
+        inputs.add(createInput("C421", "9863", "3", "0", "2015"));
+        inputs.add(createInput("C421", "9875", "3", "0", "2015"));
+
+        MphSession session = _utils.newSession();
+        Assert.assertSame(_utils, session.getUtils());
+        List<MphOutput> previousOutputs = new ArrayList<>();
+        for (MphInput i1 : inputs) {
+            for (MphInput i2 : inputs) {
+                MphOutput expected = _utils.computePrimaries(i1, i2);
+                MphOutput output = session.computePrimaries(i1, i2);
+                Assert.assertEquals(expected.getResult(), output.getResult());
+                Assert.assertEquals(expected.getStep(), output.getStep());
+                Assert.assertEquals(expected.getReason(), output.getReason());
+                Assert.assertEquals(expected.getAppliedRules(), output.getAppliedRules());
+                Assert.assertEquals(expected.getResult(), session.computeResult(i1, i2).getResult());
+                Assert.assertEquals(expected.getResult(), session.computePrimaries(MphRecord.of(i1), MphRecord.of(i2)).getResult());
+                previousOutputs.add(output);
+            }
+        }
+        // the outputs don't share the state of the session
+        int idx = 0;
+        for (MphInput i1 : inputs)
+            for (MphInput i2 : inputs)
+                Assert.assertEquals(_utils.computePrimaries(i1, i2).getAppliedRules(), previousOutputs.get(idx++).getAppliedRules());
+
+        // the instance is created only once, even when requested by several threads at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MphUtils>> instances = new ArrayList<>();
+            for (int i = 0; i < 32; i++)
+                instances.add(executor.submit(MphUtils::getInstance));
+            for (Future<MphUtils> instance : instances)
+                Assert.assertSame(MphUtils.getInstance(), instance.get());
+            Assert.assertTrue(MphUtils.isInitialized());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testUpdate() throws InterruptedException, ExecutionException {
+        MphInput input1 = createInput("C421", "9742", "3", "0", "2015");
+        MphInput input2 = createInput("C421", "9800", "3", "0", "2015");
+        MphInput input3 = createInput("C504", "8500", "3", "1", "2018");
+
+        MphUtils current = MphUtils.getInstance();
+        MphOutput output = current.computePrimaries(input1, input2);
+        Assert.assertEquals(MpResult.SINGLE_PRIMARY, output.getResult());
+        Assert.assertEquals(current.getFingerprint(), output.getFingerprint());
+        Assert.assertEquals(current.getHematoDataLastUpdated(), output.getHematoDataLastUpdated());
+        Assert.assertNotNull(output.getHematoDataLastUpdated());
+        Assert.assertTrue(current.getFingerprint().startsWith(MphUtils.getLibraryVersion() + "-"));
+        Assert.assertEquals(current.getFingerprint(), current.computeResult(input1, input3).getFingerprint());
+        Assert.assertEquals(current.getFingerprint(), current.computePrimaries(input1, createInput("C421", "9800", "3", "0", "")).getFingerprint());
+
+        // a provider with newer data, where nothing is the same primary anymore
+        Date lastUpdated = new Date(current.getHematoDataLastUpdated().getTime() + 86400000L);
+        HematoDataProvider provider = new HematoDataProvider() {
+            @Override
+            public List<HematoDTO> getSamePrimary(String morphology) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<HematoDTO> getTransformTo(String morphology) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<HematoDTO> getTransformFrom(String morphology) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Date getDataLastUpdated() {
+                return lastUpdated;
+            }
+        };
+
+        MphSession session = current.newSession();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<MphPair> pairs = Collections.nCopies(50, new MphPair(input1, input2));
+            // the batch is blocked until the instance has been updated
+            executor.execute(() -> {
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            MphBatchJob job = current.submitBatch(pairs, executor, null);
+
+            MphUtils updated = MphUtils.update(provider);
+            release.countDown();
+            Assert.assertSame(updated, MphUtils.getInstance());
+            Assert.assertNotSame(current, updated);
+            Assert.assertNotEquals(current.getFingerprint(), updated.getFingerprint());
+            Assert.assertEquals(lastUpdated, updated.getHematoDataLastUpdated());
+            Assert.assertSame(current.getAllGroups().get(MphConstants.HEMATO_2010_AND_LATER), updated.getAllGroups().get(MphConstants.HEMATO_2010_AND_LATER));
+            Assert.assertSame(current.getResultCache(), updated.getResultCache());
+
+            MphOutput updatedOutput = updated.computePrimaries(input1, input2);
+            Assert.assertEquals(MpResult.MULTIPLE_PRIMARIES, updatedOutput.getResult());
+            Assert.assertEquals(updated.getFingerprint(), updatedOutput.getFingerprint());
+            Assert.assertEquals(lastUpdated, updatedOutput.getHematoDataLastUpdated());
+            Assert.assertEquals(current.computePrimaries(input1, input3).getResult(), updated.computePrimaries(input1, input3).getResult());
+
+            // the existing batches and sessions keep using the previous instance
+            for (MphOutput batchOutput : job.get()) {
+                Assert.assertEquals(MpResult.SINGLE_PRIMARY, batchOutput.getResult());
+                Assert.assertEquals(current.getFingerprint(), batchOutput.getFingerprint());
+            }
+            Assert.assertEquals(MpResult.SINGLE_PRIMARY, session.computePrimaries(input1, input2).getResult());
+            Assert.assertEquals(MpResult.SINGLE_PRIMARY, current.computePrimaries(input1, input2).getResult());
+        }
+        finally {
+            executor.shutdown();
+            MphUtils.update(null);
+        }
+        Assert.assertEquals(current.getFingerprint(), MphUtils.getInstance().getFingerprint());
+
+        // the results of the instances sharing a cache are kept separately
+        MphUtils cached = new MphUtils(null, new MphResultCache(100));
+        MphUtils cachedCopy = cached.withHematoDataProvider(provider);
+        Assert.assertEquals(MpResult.SINGLE_PRIMARY, cached.computePrimaries(input1, input2).getResult());
+        Assert.assertEquals(MpResult.MULTIPLE_PRIMARIES, cachedCopy.computePrimaries(input1, input2).getResult());
+        Assert.assertEquals(cached.getFingerprint(), cached.computePrimaries(input1, input2).getFingerprint());
+        Assert.assertTrue(cached.computePrimaries(input1, input2).isReadOnly());
+    }
+
+    @Test
+    public void testRuleExecutionContext() {
+        List<MphInput> inputs = new ArrayList<>();
+        inputs.add(createInput("C504", "8500", "3", "1", "2018"));
+        inputs.add(createInput("C508", "8500", "3", "2", "2018"));
+        inputs.add(createInput("C342", "8070", "3", "9", "2015"));
+        inputs.add(createInput("C421", "9863", "3", "0", "2015"));
+        inputs.add(createInput("C098", "8070", "3", "1", "2019"));
+        inputs.add(createInput("C099", "8070", "3", "2", "2019"));
+        inputs.get(0).setDateOfDiagnosisMonth("03");
+        inputs.get(1).setDateOfDiagnosisMonth("05");
+        inputs.get(1).setDateOfDiagnosisDay("12");
+        inputs.get(2).setDateOfDiagnosisMonth("05");
+
+        RuleExecutionContext context = new RuleExecutionContext(_utils);
+        for (int k = 0; k < 2; k++) {
+            for (MphInput input1 : inputs) {
+                for (MphInput input2 : inputs) {
+                    // the features are the same for the inputs (not remembered) and the records (remembered), even when they are requested twice
+                    for (MphInput i1 : Arrays.asList(input1, MphRecord.of(input1).toInput())) {
+                        MphInput i2 = i1 != input1 ? MphRecord.of(input2).toInput() : input2;
+                        for (int n = 0; n < 2; n++) {
+                            Assert.assertEquals(GroupUtility.compareDxDate(input1, input2), context.compareDxDate(i1, i2));
+                            Assert.assertEquals(GroupUtility.verifyDaysApart(input1, input2, 60), context.verifyDaysApart(i1, i2, 60));
+                            Assert.assertEquals(GroupUtility.verifyDaysApart(input1, input2, 21), context.verifyDaysApart(i1, i2, 21));
+                            Assert.assertEquals(GroupUtility.verifyYearsApart(input1, input2, 3), context.verifyYearsApart(i1, i2, 3));
+                            Assert.assertEquals(GroupUtility.sameKnownDateParts(input1, input2), context.sameKnownDateParts(i1, i2));
+                            Assert.assertEquals(GroupUtility.areSameSide(input1.getLaterality(), input2.getLaterality()), context.areSameSide(i1, i2));
+                            Assert.assertEquals(GroupUtility.areOppositeSides(input1.getLaterality(), input2.getLaterality()), context.areOppositeSides(i1, i2));
+                            Assert.assertEquals(GroupUtility.validPairedSiteLaterality(input1.getLaterality(), input2.getLaterality()), context.validPairedSiteLaterality(i1, i2));
+                            Assert.assertEquals(GroupUtility.isPairedSites(input1.getPrimarySite(), input2.getPrimarySite(), MphConstants.HEAD_AND_NECK_2018_PAIRED_SITES),
+                                    context.isPairedSites(i1, i2, MphConstants.HEAD_AND_NECK_2018_PAIRED_SITES));
+                            Assert.assertEquals(input1.getPrimarySite().substring(0, 3).equals(input2.getPrimarySite().substring(0, 3)), context.haveSameSitePrefix(i1, i2));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testClock() {
+        MphUtils utils = _utils.withClock(Clock.fixed(LocalDate.of(2016, 6, 15).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        Assert.assertEquals(2016, utils.getCurrentYear());
+        Assert.assertEquals(LocalDate.now().getYear(), _utils.getCurrentYear());
+        Assert.assertEquals(2016, utils.withHematoDataProvider(null).getCurrentYear());
+        Assert.assertEquals(2016, utils.newSession().getCurrentYear());
+        Assert.assertEquals(2016, new RuleExecutionContext(utils).getCurrentYear());
+        Assert.assertEquals(_utils.getFingerprint(), utils.getFingerprint());
+
+        // the diagnosis years after the current year of the instance are invalid
+        MphInput input1 = createInput("C504", "8500", "3", "1", "2015");
+        MphInput input2 = createInput("C504", "8500", "3", "1", "2016");
+        MphInput input3 = createInput("C504", "8500", "3", "1", "2018");
+        Assert.assertEquals(_utils.computePrimaries(input1, input2).getResult(), utils.computePrimaries(input1, input2).getResult());
+        Assert.assertEquals(_utils.computePrimaries(input1, input2).getStep(), utils.newSession().computePrimaries(input1, input2).getStep());
+        Assert.assertNotEquals(MpResult.INVALID_INPUT, _utils.computePrimaries(input1, input3).getResult());
+        Assert.assertEquals(MpResult.INVALID_INPUT, utils.computePrimaries(input1, input3).getResult());
+        Assert.assertEquals(MpResult.INVALID_INPUT, utils.computeResult(input3, input1).getResult());
+        Assert.assertEquals(MpResult.INVALID_INPUT, utils.newSession().computePrimaries(input1, input3).getResult());
+        List<MphOutput> outputs = utils.computeBatch(Arrays.asList(new MphPair(input1, input2), new MphPair(input1, input3)));
+        Assert.assertNotEquals(MpResult.INVALID_INPUT, outputs.get(0).getResult());
+        Assert.assertEquals(MpResult.INVALID_INPUT, outputs.get(1).getResult());
+
+        // the date comparisons treat the years after the current year as unknown
+        Assert.assertEquals(GroupUtility.compareDxDate(input1, input3), GroupUtility.compareDxDate(input1, input3, LocalDate.now().getYear()));
+        Assert.assertEquals(MphConstants.COMPARE_DX_SECOND_LATEST, GroupUtility.compareDxDate(input1, input3, 2018));
+        Assert.assertEquals(MphConstants.COMPARE_DX_UNKNOWN, GroupUtility.compareDxDate(input1, input3, 2017));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_APART, GroupUtility.verifyYearsApart(input1, input3, 1, 2018));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_UNKNOWN, GroupUtility.verifyYearsApart(input1, input3, 1, 2017));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_APART, GroupUtility.verifyDaysApart(input1, input3, 60, 2018));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_UNKNOWN, GroupUtility.verifyDaysApart(input1, input3, 60, 2017));
+        Assert.assertTrue(GroupUtility.validateYear(2018, 2018));
+        Assert.assertFalse(GroupUtility.validateYear(2018, 2017));
+        RuleExecutionContext context = new RuleExecutionContext(utils);
+        Assert.assertEquals(MphConstants.COMPARE_DX_UNKNOWN, context.compareDxDate(MphRecord.of(input1).toInput(), MphRecord.of(input3).toInput()));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_UNKNOWN, context.verifyYearsApart(input1, input3, 1));
+        Assert.assertEquals(MphConstants.DATE_VERIFY_UNKNOWN, context.verifyDaysApart(input1, input3, 60));
+
+        // a clock ahead of the system clock makes the next years valid, for the groups as well
+        int futureYear = LocalDate.now().getYear() + 4;
+        MphUtils futureUtils = _utils.withClock(Clock.fixed(LocalDate.of(futureYear, 6, 15).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        MphInput future1 = createInput("C504", "8500", "3", "1", String.valueOf(futureYear - 5));
+        MphInput future2 = createInput("C504", "8500", "3", "1", String.valueOf(futureYear - 2));
+        MphOutput expected = _utils.computePrimaries(createInput("C504", "8500", "3", "1", "2019"), createInput("C504", "8500", "3", "1", "2022"));
+        for (MphOutput output : Arrays.asList(futureUtils.computePrimaries(future1, future2), futureUtils.newSession().computePrimaries(future1, future2),
+                futureUtils.computeBatch(Collections.singletonList(new MphPair(future1, future2))).get(0),
+                futureUtils.computePrimaries(Arrays.asList(future1, future2)).getOutput(0, 1))) {
+            Assert.assertEquals(expected.getResult(), output.getResult());
+            Assert.assertEquals(expected.getGroupId(), output.getGroupId());
+            Assert.assertEquals(expected.getStep(), output.getStep());
+        }
+        Assert.assertEquals(MpResult.INVALID_INPUT, _utils.computePrimaries(future1, future2).getResult());
+        Assert.assertNull(_utils.findCancerGroup("C504", "8500", "3", futureYear - 2));
+        Assert.assertEquals(new Mp2018BreastGroup(), futureUtils.findCancerGroup("C504", "8500", "3", futureYear - 2));
+        Assert.assertEquals(new Mp2018HeadAndNeckGroup(), futureUtils.findCancerGroup("C754", "8680", "3", futureYear));
+        Assert.assertNull(futureUtils.findCancerGroup("C504", "8500", "3", futureYear + 1));
+        for (String site : Arrays.asList("C504", "C342", "C754", "C421", "C718", "C619")) {
+            for (String hist : Arrays.asList("8000", "8500", "8680", "8070", "9440", "9861")) {
+                MphGroup group = null;
+                for (MphGroup g : futureUtils.getAllGroups().values()) {
+                    if (g.isApplicable(site, hist, "3", futureYear, futureYear)) {
+                        group = g;
+                        break;
+                    }
+                }
+                Assert.assertEquals(site + " " + hist, group, futureUtils.findCancerGroup(site, hist, "3", futureYear));
+            }
+        }
+
+        try {
+            _utils.withClock(null);
+            Assert.fail("The clock is required");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static MphInput createInput(String site, String hist, String beh, String lat, String year) {
+        MphInput input = new MphInput();
+        input.setPrimarySite(site);
+        input.setHistologyIcdO3(hist);
+        input.setBehaviorIcdO3(beh);
+        input.setLaterality(lat);
+        input.setDateOfDiagnosisYear(year);
+        return input;
+    }
+
     @Test
     public void test2007BenignBrain() {
         MphInput i1 = new MphInput(), i2 = new MphInput();
@@ -1933,6 +2979,69 @@ public class MphUtilsTest {
         Assert.assertEquals(MphUtils.MpResult.SINGLE_PRIMARY, output.getResult());
     }
 
+    @Test
+    public void testHematopoieticLookups() {
+        List<String[]> pairs1998 = CsvUtils.parseGroupCsvFile("Hematopoietic1998HistologyPairs.csv");
+        List<String[]> groups2001 = CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroups.csv");
+        List<String[]> pairs2001 = CsvUtils.parseGroupCsvFile("Hematopoietic2001HistologyGroupPairs.csv");
+        MphRule rule1998 = new Mp1998HematopoieticGroup().getRules().get(0);
+        MphRule rule2001 = new Mp2001HematopoieticGroup().getRules().get(0);
+        RuleExecutionContext context = new RuleExecutionContext(_utils);
+
+        List<String> histologies = new ArrayList<>();
+        for (int hist = 9590; hist <= 9993; hist++)
+            histologies.add(String.valueOf(hist));
+        histologies.addAll(Arrays.asList("9589", "9994", "95900", "959"));
+
+        MphInput i1 = new MphInput(), i2 = new MphInput();
+        i1.setDateOfDiagnosisYear("2001");
+        i1.setDateOfDiagnosisMonth("01");
+        i1.setDateOfDiagnosisDay("01");
+        i2.setDateOfDiagnosisMonth("01");
+        i2.setDateOfDiagnosisDay("01");
+        for (String year2 : Arrays.asList("2001", "2005")) {
+            i2.setDateOfDiagnosisYear(year2);
+            boolean sameDate = i1.getDateOfDiagnosisYear().equals(year2);
+            for (String hist1 : histologies) {
+                i1.setHistologyIcdO3(hist1);
+                for (String hist2 : histologies) {
+                    i2.setHistologyIcdO3(hist2);
+
+                    boolean samePrimary1998 = hist1.equals(hist2) || isSamePrimary1998(pairs1998, hist1, hist2) || (sameDate && isSamePrimary1998(pairs1998, hist2, hist1));
+                    Assert.assertEquals(hist1 + "/" + hist2, samePrimary1998 ? MpResult.SINGLE_PRIMARY : MpResult.MULTIPLE_PRIMARIES, rule1998.apply(i1, i2, context).getFinalResult());
+
+                    String group1 = getGroup2001(groups2001, hist1);
+                    String group2 = getGroup2001(groups2001, hist2);
+                    boolean samePrimary2001 = hist1.equals(hist2) || (group1 != null && group2 != null && (isSamePrimary2001(pairs2001, group1, group2) || (sameDate && isSamePrimary2001(
+                            pairs2001, group2, group1))));
+                    Assert.assertEquals(hist1 + "/" + hist2, samePrimary2001 ? MpResult.SINGLE_PRIMARY : MpResult.MULTIPLE_PRIMARIES, rule2001.apply(i1, i2, context).getFinalResult());
+                }
+            }
+        }
+    }
+
+    // the original (linear) lookups of the 1998 and 2001 tables
+    private static boolean isSamePrimary1998(List<String[]> rows, String first, String second) {
+        for (String[] row : rows)
+            if (first.compareTo(row[0]) >= 0 && first.compareTo(row[1]) <= 0 && second.compareTo(row[2]) >= 0 && second.compareTo(row[3]) <= 0)
+                return true;
+        return false;
+    }
+
+    private static String getGroup2001(List<String[]> rows, String hist) {
+        for (String[] row : rows)
+            if (hist.compareTo(row[1]) >= 0 && hist.compareTo(row[2]) <= 0)
+                return row[0];
+        return null;
+    }
+
+    private static boolean isSamePrimary2001(List<String[]> rows, String first, String second) {
+        for (String[] row : rows)
+            if (first.equals(row[0]) && second.equals(row[1]))
+                return true;
+        return false;
+    }
+
     @Test
     public void test2010Hematopoietic() {
         MphInput i1 = new MphInput(), i2 = new MphInput();
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodeFormatTest {
+
+    @Test
+    public void testIndexes() {
+        Assert.assertEquals(0, CodeFormat.getSiteIndex("C000"));
+        Assert.assertEquals(504, CodeFormat.getSiteIndex("C504"));
+        Assert.assertEquals(999, CodeFormat.getSiteIndex("C999"));
+
+        Assert.assertEquals(8500, CodeFormat.parseHistology("8500"));
+        Assert.assertEquals(123, CodeFormat.parseHistology("0123"));
+        Assert.assertEquals(0, CodeFormat.getHistologyIndex("8000"));
+        Assert.assertEquals(500, CodeFormat.getHistologyIndex("8500"));
+        Assert.assertEquals(1999, CodeFormat.getHistologyIndex("9999"));
+
+        Assert.assertEquals(0, CodeFormat.getMorphologyIndex("8000/0"));
+        Assert.assertEquals(5003, CodeFormat.getMorphologyIndex("8500/3"));
+        Assert.assertEquals(19999, CodeFormat.getMorphologyIndex("9999/9"));
+
+        for (String value : Arrays.asList(null, "", "C50", "C5044", "c504", "D504", "C5O4", "C 50"))
+            Assert.assertEquals(value, -1, CodeFormat.getSiteIndex(value));
+        for (String value : Arrays.asList(null, "", "850", "08500", "7999", "0000", "85O0", " 850", "-850"))
+            Assert.assertEquals(value, -1, CodeFormat.getHistologyIndex(value));
+        for (String value : Arrays.asList(null, "", "850", "08500", "85O0", " 850", "-850"))
+            Assert.assertEquals(value, -1, CodeFormat.parseHistology(value));
+        for (String value : Arrays.asList(null, "", "8500", "8500/", "8500/33", "8500-3", "7999/3", "8500/ ", "850/3", "85O0/3"))
+            Assert.assertEquals(value, -1, CodeFormat.getMorphologyIndex(value));
+    }
+}
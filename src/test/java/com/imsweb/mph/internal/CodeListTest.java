@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+public class CodeListTest {
+
+    @Test
+    public void testContains() {
+        List<String> values = Arrays.asList("C504", "C44", "8000", "8140", "9999", "8500/3", "0800", "800", "8000/33", "c504", " 8001", "C5O4", "7999");
+        CodeList list = CodeList.of(values);
+        Assert.assertEquals(values, list);
+        Assert.assertEquals(values.hashCode(), list.hashCode());
+        Assert.assertEquals(values.size(), list.size());
+        Assert.assertEquals("8140", list.get(3));
+
+        List<String> probes = new ArrayList<>(values);
+        probes.addAll(Arrays.asList("C505", "C440", "C000", "C999", "8001", "8500", "8500/2", "8140/3", "9999/9", "8001 ", "C04", "", "99999", "C5040", null));
+        for (String probe : probes)
+            Assert.assertEquals(probe, values.contains(probe), list.contains(probe));
+        Assert.assertFalse(list.contains(8000));
+        Assert.assertTrue(list.containsAll(Arrays.asList("C504", "8500/3", "C44")));
+        Assert.assertFalse(list.containsAll(Arrays.asList("C504", "8500/2")));
+
+        Assert.assertTrue(CodeList.of().isEmpty());
+        Assert.assertFalse(CodeList.of().contains("C504"));
+    }
+
+    @Test
+    public void testExpand() {
+        String rawValue = "8000-8005,8010, 8046,9590-9591,8500/3";
+        Assert.assertEquals(GroupUtility.expandList(rawValue), CodeList.expand(rawValue));
+        Assert.assertTrue(CodeList.expand(rawValue).contains("8003"));
+        Assert.assertTrue(CodeList.expand(rawValue).contains(" 8046"));
+        Assert.assertFalse(CodeList.expand(rawValue).contains("8046"));
+        Assert.assertTrue(CodeList.expand("8001-9999").contains("9999"));
+        Assert.assertFalse(CodeList.expand("8001-9999").contains("8000"));
+
+        try {
+            CodeList.expand(rawValue).add("8006");
+            Assert.fail("Code lists should be immutable");
+        }
+        catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals(Collections.emptyList(), CodeList.of(new ArrayList<>()));
+    }
+}
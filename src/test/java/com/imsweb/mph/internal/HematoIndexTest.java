@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HematoIndexTest {
+
+    @Test
+    public void testMatches() {
+        for (String file : Arrays.asList("Hematopoietic2010SamePrimaryPairs.csv", "Hematopoietic2010TransformToPairs.csv", "Hematopoietic2010TransformFromPairs.csv")) {
+            Map<String, List<HematoDTO>> rows = CsvUtils.parseHematoCsvFile(file);
+            HematoIndex index = new HematoIndex(rows);
+
+            Set<String> morphologies = new LinkedHashSet<>(rows.keySet());
+            rows.values().forEach(list -> list.forEach(dto -> morphologies.add(dto.getMorphology())));
+            morphologies.addAll(Arrays.asList("9999/9", "8000/0", "7999/9", "9800", "98003", "abcd/e"));
+            List<String> others = new ArrayList<>(morphologies);
+            for (String morphology : rows.keySet()) {
+                Assert.assertSame(rows.get(morphology), index.getRows(morphology));
+                for (String other : others)
+                    for (int year : new int[] {0, 2001, 2009, 2010, 2015, 2021, 2026, 9999})
+                        Assert.assertEquals(morphology + "/" + other + "/" + year, matches(rows.get(morphology), other, year), index.matches(morphology, other, year));
+            }
+            Assert.assertFalse(index.matches("9999/9", "9800/3", 2020));
+            Assert.assertEquals(Collections.emptyList(), index.getRows("9999/9"));
+        }
+    }
+
+    @Test
+    public void testNonStandardMorphologies() {
+        Map<String, List<HematoDTO>> rows = new HashMap<>();
+        rows.put("9800/3", Arrays.asList(new HematoDTO((short)2010, null, null, (short)2015, "9801/3"), new HematoDTO(null, null, (short)2018, null, "9801/3"),
+                new HematoDTO(null, null, null, null, "980/3"), new HematoDTO((short)-5, (short)-1, null, null, "9802/3")));
+        rows.put("A800/3", Collections.singletonList(new HematoDTO(null, null, null, null, "9801/3")));
+        HematoIndex index = new HematoIndex(rows);
+
+        Assert.assertTrue(index.matches("9800/3", "9801/3", 2010));
+        Assert.assertTrue(index.matches("9800/3", "9801/3", 2015));
+        Assert.assertFalse(index.matches("9800/3", "9801/3", 2016));
+        Assert.assertTrue(index.matches("9800/3", "9801/3", 2018));
+        Assert.assertTrue(index.matches("9800/3", "9801/3", 9999));
+        Assert.assertFalse(index.matches("9800/3", "9801/3", 2009));
+        Assert.assertTrue(index.matches("9800/3", "980/3", 0));
+        Assert.assertTrue(index.matches("9800/3", "9802/3", -3));
+        Assert.assertFalse(index.matches("9800/3", "9802/3", 0));
+        Assert.assertTrue(index.matches("A800/3", "9801/3", 2020));
+        Assert.assertFalse(index.matches(null, "9801/3", 2020));
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        for (String file : Arrays.asList("Hematopoietic2010SamePrimaryPairs.csv", "Hematopoietic2010TransformToPairs.csv", "Hematopoietic2010TransformFromPairs.csv")) {
+            Map<String, List<HematoDTO>> rows = CsvUtils.parseHematoCsvFile(file);
+            HematoIndex index = new HematoIndex(rows);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(42);
+                index.write(out);
+                out.writeInt(42);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            Assert.assertEquals(42, buffer.getInt());
+            HematoIndex snapshot = HematoIndex.read(buffer);
+            Assert.assertEquals(42, buffer.getInt());
+            Assert.assertFalse(buffer.hasRemaining());
+
+            for (String morphology : rows.keySet()) {
+                Assert.assertEquals(rows.get(morphology), snapshot.getRows(morphology));
+                for (HematoDTO dto : rows.get(morphology))
+                    for (int year : new int[] {0, 2001, 2010, 2021, 9999})
+                        Assert.assertEquals(index.matches(morphology, dto.getMorphology(), year), snapshot.matches(morphology, dto.getMorphology(), year));
+                Assert.assertFalse(snapshot.matches(morphology, "abcd/e", 2020));
+            }
+            Assert.assertEquals(Collections.emptyList(), snapshot.getRows("9999/9"));
+            Assert.assertEquals(Collections.emptyList(), snapshot.getRows("A800/3"));
+
+            try {
+                HematoIndex.read(ByteBuffer.wrap(Arrays.copyOf(bytes.toByteArray(), 1000)));
+                Assert.fail("Truncated snapshots should be rejected");
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+        }
+
+        Map<String, List<HematoDTO>> rows = new HashMap<>();
+        rows.put("9800/3", Collections.singletonList(new HematoDTO(null, null, null, null, "980/3")));
+        try {
+            new HematoIndex(rows).write(new DataOutputStream(new ByteArrayOutputStream()));
+            Assert.fail("Non-standard morphologies can't be written to a snapshot");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    private static boolean matches(List<HematoDTO> rows, String morphology, int year) {
+        return rows.stream().anyMatch(r -> r.matches(morphology, year));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+public class IntervalSetTest {
+
+    @Test
+    public void testContains() {
+        for (String rawValue : Arrays.asList("8000-8523,8527,8536,9000-9002", "9590-9993, 9140", "0-1", "2-3,6", "2018-9999", "5-3", "4-4,3,2,1-2", "")) {
+            IntervalSet set = IntervalSet.of(rawValue, false);
+            List<Range> ranges = GroupUtility.computeRange(rawValue, false);
+            for (int value = -1; value <= 10000; value++)
+                Assert.assertEquals(rawValue + ": " + value, GroupUtility.isContained(ranges, value), set.contains(value));
+        }
+
+        Assert.assertTrue(IntervalSet.of(Arrays.asList(Range.of(0, Integer.MAX_VALUE), Range.is(5))).contains(Integer.MAX_VALUE));
+        Assert.assertFalse(IntervalSet.of(new ArrayList<>()).contains(0));
+    }
+
+    @Test
+    public void testRandomRanges() {
+        Random random = new Random(2026);
+        for (int i = 0; i < 200; i++) {
+            List<Range> ranges = new ArrayList<>();
+            for (int j = random.nextInt(10); j > 0; j--) {
+                int min = random.nextInt(100);
+                ranges.add(Range.of(min, min + random.nextInt(10) - 2));
+            }
+            IntervalSet set = IntervalSet.of(ranges);
+            for (int value = -5; value < 120; value++)
+                Assert.assertEquals(GroupUtility.isContained(ranges, value), set.contains(value));
+        }
+    }
+}
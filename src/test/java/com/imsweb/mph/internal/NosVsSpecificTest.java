@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.imsweb.mph.MphConstants;
+import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphRecord;
+
+public class NosVsSpecificTest {
+
+    @Test
+    public void testIsNosVsSpecific() {
+        List<String> histologies = new ArrayList<>();
+        for (int hist = 7990; hist <= 9999; hist++)
+            histologies.add(String.valueOf(hist));
+        histologies.addAll(Arrays.asList("08010", "801", "801A", "", null));
+
+        for (List<String> nosList : Arrays.asList(Arrays.asList("8000", "8010", "8070", "8140", "8720", "8800"), Arrays.asList("8000", "8010", "8140", "8312"),
+                Arrays.asList("8010", "8312", "8999", "A000"))) {
+            NosVsSpecific relation = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, nosList);
+            for (String hist1 : histologies) {
+                for (String hist2 : Arrays.asList("8000", "8010", "8070", "8140", "8312", "8720", "8800", "8801", "8013", "9999", "801", null)) {
+                    boolean expected = isNosVsSpecific(nosList, hist1, hist2);
+                    Assert.assertEquals(hist1 + " vs " + hist2, expected, relation.isNosVsSpecific(createInput(hist1), createInput(hist2)));
+                    Assert.assertEquals(hist1 + " vs " + hist2, expected, relation.isNosVsSpecific(MphRecord.of(createInput(hist2)).toInput(), MphRecord.of(createInput(hist1)).toInput()));
+                }
+            }
+        }
+
+        NosVsSpecific relation = new NosVsSpecific(MphConstants.NOS_VS_SPECIFIC, Arrays.asList("8010", "8140"));
+        Assert.assertTrue(relation.isNosVsSpecific(8010, 8013));
+        Assert.assertTrue(relation.isNosVsSpecific(8148, 8140));
+        Assert.assertFalse(relation.isNosVsSpecific(8000, 8013));
+        Assert.assertFalse(relation.isNosVsSpecific(8010, 8010));
+        Assert.assertFalse(relation.isNosVsSpecific(8010, -1));
+        Assert.assertFalse(relation.isNosVsSpecific(18010, 8013));
+    }
+
+    // the way the rules used to check the relation
+    private static boolean isNosVsSpecific(List<String> nosList, String hist1, String hist2) {
+        return (nosList.contains(hist1) && MphConstants.NOS_VS_SPECIFIC.containsKey(hist1) && MphConstants.NOS_VS_SPECIFIC.get(hist1).contains(hist2)) || (nosList.contains(hist2)
+                && MphConstants.NOS_VS_SPECIFIC.containsKey(hist2) && MphConstants.NOS_VS_SPECIFIC.get(hist2).contains(hist1));
+    }
+
+    private static MphInput createInput(String histology) {
+        MphInput input = new MphInput();
+        input.setHistologyIcdO3(histology);
+        input.setBehaviorIcdO3("3");
+        return input;
+    }
+}
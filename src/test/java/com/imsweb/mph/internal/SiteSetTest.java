@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.imsweb.mph.MphConstants;
+import com.imsweb.mph.mpgroups.GroupUtility;
+
+public class SiteSetTest {
+
+    @Test
+    public void testContains() {
+        for (String rawValue : Arrays.asList("C370-C383,C388", MphConstants.ALL_PAIRED_SITES, " C000 - C005 , C44, C999", "", "C5")) {
+            SiteSet set = SiteSet.of(rawValue);
+            List<Range> ranges = GroupUtility.computeRange(rawValue, true);
+            for (int i = 0; i < 1000; i++) {
+                String site = String.format("C%03d", i);
+                Assert.assertEquals(site, GroupUtility.isContained(ranges, i), set.contains(site));
+                Assert.assertEquals(site, GroupUtility.isContained(ranges, i), GroupUtility.isSiteContained(rawValue, site));
+            }
+            for (String site : Arrays.asList("C44", "C5", "C1000", "C-1", "X000"))
+                Assert.assertEquals(site, GroupUtility.isContained(ranges, Integer.valueOf(site.substring(1))), set.contains(site));
+        }
+        Assert.assertFalse(SiteSet.of((String)null).contains("C000"));
+        Assert.assertTrue(SiteSet.of("C1000").contains("C1000"));
+        Assert.assertFalse(SiteSet.of("C1000").contains("C100"));
+
+        try {
+            SiteSet.of("C370-C383").contains("C3A0");
+            Assert.fail("Invalid sites should be rejected");
+        }
+        catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testPairedSites() {
+        List<String> entries = Arrays.asList("C700-C702,C705", "C710,C712", "C715", "C44");
+        PairedSites pairedSites = PairedSites.of(entries);
+        Assert.assertEquals(entries, pairedSites);
+
+        List<String> largeEntries = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            largeEntries.add(String.format("C%03d,C%03d", i * 5, i * 5 + 1));
+        PairedSites largePairedSites = PairedSites.of(largeEntries);
+
+        for (int i = 0; i < 1000; i += 3) {
+            for (int j = 0; j < 1000; j += 7) {
+                String site1 = String.format("C%03d", i);
+                String site2 = String.format("C%03d", j);
+                Assert.assertEquals(site1 + "/" + site2, isPairedSites(site1, site2, entries), pairedSites.arePaired(site1, site2));
+                Assert.assertEquals(site1 + "/" + site2, isPairedSites(site1, site2, largeEntries), largePairedSites.arePaired(site1, site2));
+                Assert.assertEquals(site1 + "/" + site2, isPairedSites(site1, site2, entries), GroupUtility.isPairedSites(site1, site2, entries));
+            }
+        }
+        Assert.assertTrue(pairedSites.arePaired("C44", "C044"));
+        Assert.assertFalse(pairedSites.arePaired("C1000", "C1000"));
+        Assert.assertFalse(PairedSites.of().arePaired("C700", "C700"));
+    }
+
+    // the original implementation of GroupUtility.isPairedSites()
+    private static boolean isPairedSites(String site1, String site2, List<String> pairedSites) {
+        for (String pairedSite : pairedSites)
+            if (GroupUtility.isContained(GroupUtility.computeRange(pairedSite, true), Integer.parseInt(site1.substring(1))) && GroupUtility.isContained(
+                    GroupUtility.computeRange(pairedSite, true), Integer.parseInt(site2.substring(1))))
+                return true;
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 Information Management Services, Inc.
+ */
+package com.imsweb.mph.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.imsweb.mph.MphConstants;
+import com.imsweb.mph.MphInput;
+import com.imsweb.mph.MphRecord;
+
+public class TableRowsTest {
+
+    @Test
+    public void testGetRow() {
+        for (Map<String, String> table : Arrays.asList(MphConstants.BREAST_2018_TABLE3_ROWS, MphConstants.COLON_2018_TABLE1_ROWS, MphConstants.KIDNEY_2018_TABLE1_ROWS,
+                MphConstants.URINARY_2018_TABLE2_ROWS, MphConstants.LUNG_2018_TABLE3_ROWS, MphConstants.MALIGNANT_CNS_2018_TABLE3_ROWS,
+                MphConstants.NON_MALIGNANT_CNS_2018_TABLE6_ROWS)) {
+            TableRows rows = new TableRows(table);
+            for (int hist = 8000; hist <= 9999; hist++)
+                for (String beh : Arrays.asList("0", "1", "2", "3", "6", "9"))
+                    assertSameRow(table, rows, String.valueOf(hist), beh);
+        }
+
+        Map<String, String> table = new HashMap<>();
+        table.put("8500", "8500");
+        table.put("8500/2", "8520");
+        table.put("8520/2", "8520");
+        table.put("850", "other");
+        table.put("850/3", "other");
+        table.put("8022/ ", "space");
+        TableRows rows = new TableRows(table);
+        Assert.assertEquals(4, rows.getRowNames().size());
+        for (String hist : Arrays.asList("8500", "8520", "850", "8022", "08500", "", null))
+            for (String beh : Arrays.asList("2", "3", " ", "", null))
+                assertSameRow(table, rows, hist, beh);
+        Assert.assertNull(rows.getRowName(-1));
+
+        // the compiled table is a copy, it doesn't change with the original one
+        table.put("8500", "changed");
+        table.put("8140", "8140");
+        MphInput input = new MphInput();
+        input.setHistologyIcdO3("8500");
+        input.setBehaviorIcdO3("3");
+        Assert.assertEquals("8500", rows.getRowName(rows.getRow(input)));
+        Assert.assertEquals("changed", new TableRows(table).getRowName(new TableRows(table).getRow(input)));
+        input.setHistologyIcdO3("8140");
+        Assert.assertEquals(-1, rows.getRow(input));
+    }
+
+    private static void assertSameRow(Map<String, String> table, TableRows rows, String hist, String beh) {
+        MphInput input = new MphInput();
+        input.setHistologyIcdO3(hist);
+        input.setBehaviorIcdO3(beh);
+        String expected = table.containsKey(input.getHistology()) ? table.get(input.getHistology()) : table.get(input.getIcdCode());
+        Assert.assertEquals(hist + "/" + beh, expected, rows.getRowName(rows.getRow(input)));
+        Assert.assertEquals(hist + "/" + beh, expected, rows.getRowName(rows.getRow(MphRecord.of(input).toInput())));
+    }
+}